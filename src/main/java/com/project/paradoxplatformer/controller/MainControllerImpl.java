@@ -67,14 +67,15 @@ public final class MainControllerImpl<N, P, K> implements MainController {
 
     /**
      * Handles view switch events by delegating to the
-     * {@link #switchView(PageIdentifier, Level)} method.
+     * {@link #switchView(PageIdentifier, Level)} method on the application
+     * thread, since switch requests may come from the simulation thread.
      * 
      * @param id    the identifier of the page to switch to
      * @param param the level parameter associated with the view
      */
     private void handleViewSwitch(final PageIdentifier id, final Level param) {
         // System.out.println("NOW RECREATE THE VIEW.");
-        this.switchView(id, param);
+        this.viewManager.runOnAppThread(() -> this.switchView(id, param));
     }
 
     /**
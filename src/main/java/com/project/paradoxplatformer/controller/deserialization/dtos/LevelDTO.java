@@ -20,6 +20,8 @@ public final class LevelDTO {
     private String type;
     private final double width;
     private final double height;
+    private final double viewWidth;
+    private final double viewHeight;
     @JsonProperty
     private final String backgroundFile;
 
@@ -38,16 +40,47 @@ public final class LevelDTO {
      *                       game elements in the level;
      *                       if {@code null}, initializes with an empty array
      */
+    public LevelDTO(
+            final String type,
+            final double height,
+            final double width,
+            final String backgroundFile,
+            final GameDTO[] gameDTOs) {
+        this(type, height, width, 0, 0, backgroundFile, gameDTOs);
+    }
+
+    /**
+     * Constructs a LevelDTO object whose visible part may be smaller than the
+     * whole level, the camera following the player across the rest.
+     *
+     * @param type           the type of the level, indicating its category or
+     *                       purpose
+     * @param height         the height of the level in units (e.g., pixels, meters)
+     * @param width          the width of the level in units (e.g., pixels, meters)
+     * @param viewHeight     the height of the visible part of the level, the whole
+     *                       height if not positive
+     * @param viewWidth      the width of the visible part of the level, the whole
+     *                       width if not positive
+     * @param backgroundFile the file path or name of the background image for the
+     *                       level
+     * @param gameDTOs       an array of {@link GameDTO} objects representing the
+     *                       game elements in the level;
+     *                       if {@code null}, initializes with an empty array
+     */
     @JsonCreator
     public LevelDTO(
             @JsonProperty("type") final String type,
             @JsonProperty("height") final double height,
             @JsonProperty("width") final double width,
+            @JsonProperty("viewHeight") final double viewHeight,
+            @JsonProperty("viewWidth") final double viewWidth,
             @JsonProperty("backgroundFile") final String backgroundFile,
             @JsonProperty("gameDTOs") final GameDTO[] gameDTOs) {
         this.type = type;
         this.width = width;
         this.height = height;
+        this.viewWidth = viewWidth > 0 ? Math.min(viewWidth, width) : width;
+        this.viewHeight = viewHeight > 0 ? Math.min(viewHeight, height) : height;
         this.backgroundFile = backgroundFile == null ? "" : backgroundFile;
         this.gameDTOs = gameDTOs != null ? gameDTOs.clone() : new GameDTO[0];
     }
@@ -69,6 +102,8 @@ public final class LevelDTO {
     public LevelDTO(final int width, final int height, final GameDTO[] gameDTOs) {
         this.width = width;
         this.height = height;
+        this.viewWidth = width;
+        this.viewHeight = height;
         this.gameDTOs = gameDTOs.clone();
         this.backgroundFile = "";
     }
@@ -100,6 +135,26 @@ public final class LevelDTO {
         return this.height;
     }
 
+    /**
+     * Gets the width of the visible part of the level, the whole width unless
+     * the level specifies a smaller one.
+     *
+     * @return the width of the visible part of the level
+     */
+    public double getViewWidth() {
+        return this.viewWidth;
+    }
+
+    /**
+     * Gets the height of the visible part of the level, the whole height unless
+     * the level specifies a smaller one.
+     *
+     * @return the height of the visible part of the level
+     */
+    public double getViewHeight() {
+        return this.viewHeight;
+    }
+
     /**
      * THe json file must be structered as a list of game objects.
      * 
@@ -14,6 +14,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public final class SpriteDTO {
 
+    /**
+     * The rate at which sprites were once advanced by {@code minFrames}, one
+     * step per rendered frame, used to turn it into a duration.
+     */
+    private static final int LEGACY_FRAME_RATE = 60;
+    private static final int SECOND_MILLIS = 1000;
+
     /**
      * Indicates if the sprite is special.
      */
@@ -50,6 +57,12 @@ public final class SpriteDTO {
     @JsonProperty
     private final int minFrames;
 
+    /**
+     * How long each frame of an animation is shown, in milliseconds.
+     */
+    @JsonProperty
+    private final int frameDuration;
+
     /**
      * Default constructor initializing all fields to default values.
      * <p>
@@ -63,6 +76,7 @@ public final class SpriteDTO {
         this.runningFrames = 0;
         this.fallingFrames = 0;
         this.minFrames = 0;
+        this.frameDuration = 0;
     }
 
     /**
@@ -118,4 +132,20 @@ public final class SpriteDTO {
     public int getMinFrames() {
         return this.minFrames;
     }
+
+    /**
+     * Gets how long each frame of an animation is shown.
+     * <p>
+     * Sprites not giving a duration keep the pace they had when animations
+     * advanced once every {@code minFrames} rendered frames at 60 frames per
+     * second.
+     * </p>
+     *
+     * @return the duration of a frame in milliseconds, at least one
+     */
+    public int getFrameDuration() {
+        return this.frameDuration > 0
+                ? this.frameDuration
+                : Math.round(Math.max(1, this.minFrames) * (float) SECOND_MILLIS / LEGACY_FRAME_RATE);
+    }
 }
@@ -8,7 +8,9 @@ import java.util.function.BiConsumer;
 /**
  * EventManager provides a mechanism for communication between different classes
  * without passing instances between them. It follows the Singleton pattern to
- * ensure that only one instance manages all events across the application.
+ * ensure that only one instance manages all events across the application,
+ * while scopes needing a bus of their own, such as game sessions running side
+ * by side, can {@link #create() create} one.
  *
  * @param <T> The type of event identifiers.
  * @param <U> The type of the first parameter for event handlers.
@@ -34,6 +36,18 @@ public final class EventManager<T, U> {
         return (EventManager<T, U>) Holder.INSTANCE;
     }
 
+    /**
+     * Creates an EventManager apart from the application-wide one, whose
+     * handlers and events are not shared with any other instance.
+     *
+     * @param <T> The type of event identifiers.
+     * @param <U> The type of the first parameter for event handlers.
+     * @return A new EventManager without handlers.
+     */
+    public static <T, U> EventManager<T, U> create() {
+        return new EventManager<>();
+    }
+
     /**
      * Subscribes an event handler to a specific event type.
      *
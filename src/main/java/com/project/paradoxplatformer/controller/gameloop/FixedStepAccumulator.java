@@ -0,0 +1,95 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time accumulator used by fixed-step loops.
+ * <p>
+ * Elapsed frame time is collected and converted into a whole number of
+ * simulation ticks of constant length, so that the simulation does not depend
+ * on the rate at which frames are displayed. The amount of ticks run in a
+ * single frame is capped: when the frame took longer than the cap allows, the
+ * backlog is dropped instead of being carried over, avoiding a spiral in which
+ * every frame has more catching up to do than the previous one.
+ * </p>
+ * <p>
+ * The tick length is an integer amount of milliseconds, being the unit used by
+ * {@link GameLoop#loop(long)}; tick rates which do not divide a second evenly
+ * therefore get the step rounded down, that is the closest faster rate: 60
+ * ticks per second run 16 ms ticks, 62.5 per second.
+ * </p>
+ */
+public final class FixedStepAccumulator {
+
+    private static final long SECOND_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private final long stepMillis;
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+    private long accumulated;
+
+    /**
+     * Creates an accumulator for the given tick rate.
+     *
+     * @param tickRate        simulation ticks per second
+     * @param maxCatchUpSteps maximum number of ticks run in a single frame
+     * @throws IllegalArgumentException if the tick rate is not in the range
+     *                                  (0, 1000] or the catch-up cap is not
+     *                                  positive
+     */
+    public FixedStepAccumulator(final int tickRate, final int maxCatchUpSteps) {
+        if (tickRate <= 0 || tickRate > SECOND_MILLIS) {
+            throw new IllegalArgumentException("Tick rate must be in (0, " + SECOND_MILLIS + "], got " + tickRate);
+        }
+        if (maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Max catch-up steps must be positive, got " + maxCatchUpSteps);
+        }
+        this.stepMillis = SECOND_MILLIS / tickRate;
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(this.stepMillis);
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.accumulated = 0;
+    }
+
+    /**
+     * Adds the elapsed frame time and computes how many ticks must be run.
+     *
+     * @param frameNanos nanoseconds elapsed since the previous frame, negative
+     *                   values are ignored
+     * @return the number of ticks to run, never greater than the catch-up cap
+     */
+    public int advance(final long frameNanos) {
+        this.accumulated += Math.max(0, frameNanos);
+        final int steps = (int) Math.min(this.accumulated / this.stepNanos, this.maxCatchUpSteps);
+        this.accumulated -= steps * this.stepNanos;
+        if (this.accumulated >= this.stepNanos) {
+            // too far behind: drop the backlog, keeping only the partial tick
+            this.accumulated %= this.stepNanos;
+        }
+        return steps;
+    }
+
+    /**
+     * The interpolation factor between the last two ticks.
+     *
+     * @return the pending fraction of a tick, in the range [0, 1)
+     */
+    public double alpha() {
+        return (double) this.accumulated / this.stepNanos;
+    }
+
+    /**
+     * The fixed length of a tick.
+     *
+     * @return the tick length in milliseconds
+     */
+    public long stepMillis() {
+        return this.stepMillis;
+    }
+
+    /**
+     * Discards any accumulated time.
+     */
+    public void reset() {
+        this.accumulated = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+/**
+ * A FrameRenderer is the presentation half of a fixed-step loop: while the
+ * {@link GameLoop} advances the simulation by whole ticks, the renderer is
+ * called once per displayed frame to present the current state.
+ */
+@FunctionalInterface
+public interface FrameRenderer {
+
+    /**
+     * Presents the current simulation state.
+     *
+     * @param alpha the fraction, in the range [0, 1), of a tick elapsed since the
+     *              last simulation step; it can be used to interpolate between
+     *              the previous and the current state
+     */
+    void render(double alpha);
+
+    /**
+     * A renderer which does nothing, used when the loop already presents its
+     * state while simulating.
+     *
+     * @return an empty {@code FrameRenderer}
+     */
+    static FrameRenderer empty() {
+        return alpha -> { };
+    }
+}
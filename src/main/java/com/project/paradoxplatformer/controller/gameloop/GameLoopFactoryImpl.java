@@ -2,7 +2,9 @@ package com.project.paradoxplatformer.controller.gameloop;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import com.project.paradoxplatformer.utils.geometries.observer.Observer;
 import com.project.paradoxplatformer.view.legacy.ViewFramework;
@@ -15,9 +17,14 @@ import javafx.animation.AnimationTimer;
 public class GameLoopFactoryImpl implements TaskLoopFactory {
 
     private final GameLoop loop;
-    private static final int SECONDS_TO_MILLIS = 1_000; // millis in a second
+    private final FrameRenderer renderer;
     private static final int FPS = 40; // in-game fps
-    private static final long PERIOD = SECONDS_TO_MILLIS / FPS;
+    private static final int MAX_CATCH_UP_STEPS = 5; // ticks run in a single frame at most
+
+    /**
+     * The game time of a tick of the loops built by default, in milliseconds.
+     */
+    public static final long STEP_MILLIS = 1000L / FPS;
 
     /**
      * Constructor.
@@ -25,7 +32,28 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
      * @param loop the game loop
      */
     public GameLoopFactoryImpl(final GameLoop loop) {
+        this(loop, FrameRenderer.empty());
+    }
+
+    /**
+     * Constructor for loops presenting their state separately from the simulation.
+     * The renderer is only used by the fixed-step loop.
+     * 
+     * @param loop the game loop
+     * @param renderer called once per frame with the interpolation factor
+     */
+    public GameLoopFactoryImpl(final GameLoop loop, final FrameRenderer renderer) {
         this.loop = loop;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Fixed-step loop ticking at the in-game fps used by the other loops.
+     * 
+     * @return {@link ObservableLoopManager}
+     */
+    public ObservableLoopManager fixedStepLoop() {
+        return this.fixedStepLoop(FPS, MAX_CATCH_UP_STEPS);
     }
 
     /**
@@ -40,81 +68,50 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
      * {@inheritDoc}
      */
     @Override
-    public ObservableLoopManager threadLoop() {
-        return new ObservableLoopManager() {
-            private boolean isRunning;
-
-            @Override
-            public void start() {
-                this.isRunning = true;
-                new Thread(() -> {
-                    while (true) {
-                        final var now = System.currentTimeMillis();
-                        var residuo = System.currentTimeMillis() - now;
-                        loop.loop(PERIOD + residuo);
-                        residuo = System.currentTimeMillis() - now;
-                        GameLoopFactoryImpl.this.delay(residuo);
-                    }
-                }).start();
-            }
-
-            @Override
-            public void stop() {
-                if (this.isRunning) {
-                    this.isRunning = false;
-                }
-            }
-
-            @Override
-            public boolean isRunning() {
-                return this.isRunning;
-            }
-
-            @Override
-            public void addObserver(final Observer observer) {
-                throw new UnsupportedOperationException("Unimplemented method 'addObserver'");
-            }
-
-            @Override
-            public void notifyObservers() {
-                throw new UnsupportedOperationException("Unimplemented method 'notifyObservers'");
-            }
+    public ObservableLoopManager fixedStepLoop(final int tickRate, final int maxCatchUpSteps) {
+        return new FixedStepTimer(new FixedStepAccumulator(tickRate, maxCatchUpSteps));
+    }
 
-        };
+    /**
+     * {@inheritDoc}
+     * A failing tick closes the application, as it does for the loops driven
+     * by the JavaFX pulse.
+     */
+    @Override
+    public HeadlessLoopManager threadLoop() {
+        return this.preciseLoop(FPS, LoopThreads.platform("game-loop"),
+                e -> ViewFramework.javaFxFactory().mainAppManager().get().safeError());
     }
 
-    private void delay(final long dt) {
-        if (dt < PERIOD) {
-            try {
-                Thread.sleep(PERIOD - dt);
-            } catch (final InterruptedException e) {
-                throw new IllegalStateException(e);
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeadlessLoopManager preciseLoop(final int tickRate, final ThreadFactory threadFactory,
+            final Consumer<Exception> onFailure) {
+        return new PreciseLoopManager(loop, tickRate, threadFactory, onFailure);
     }
 
-    private class LoopManagerTimer extends AnimationTimer implements ObservableLoopManager {
+    private abstract class AbstractLoopTimer extends AnimationTimer implements ObservableLoopManager {
 
         private boolean isRunning;
         private long lastFrame;
         private final Set<Observer> observers;
 
-        LoopManagerTimer() {
+        AbstractLoopTimer() {
             this.isRunning = false;
             this.lastFrame = 0;
             this.observers = new HashSet<>();
         }
 
         @Override
-        public void handle(final long now) {
+        public final void handle(final long now) {
             this.isRunning = true;
             final long delta = lastFrame != 0 ? now - lastFrame : 0;
             this.lastFrame = now;
-            final long dt = TimeUnit.NANOSECONDS.toMillis(delta);
 
             try {
-                loop.loop(dt);
-                GameLoopFactoryImpl.this.delay(dt);
+                this.frame(delta);
             } catch (Exception e) { //NOPMD
                 this.stop();
                 // System.err.println(ExceptionUtils.advancedDisplay(e));
@@ -122,6 +119,12 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             }
         }
 
+        /**
+         * Runs the work of a single pulse.
+         * @param delta nanoseconds elapsed since the previous pulse
+         */
+        protected abstract void frame(long delta);
+
         @Override
         public boolean isRunning() {
             return this.isRunning;
@@ -146,4 +149,30 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             this.observers.forEach(Observer::update);
         }
     }
+
+    private class LoopManagerTimer extends AbstractLoopTimer {
+
+        @Override
+        protected void frame(final long delta) {
+            loop.loop(TimeUnit.NANOSECONDS.toMillis(delta));
+        }
+    }
+
+    private class FixedStepTimer extends AbstractLoopTimer {
+
+        private final FixedStepAccumulator accumulator;
+
+        FixedStepTimer(final FixedStepAccumulator accumulator) {
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        protected void frame(final long delta) {
+            final int steps = this.accumulator.advance(delta);
+            for (int i = 0; i < steps; i++) {
+                loop.loop(this.accumulator.stepMillis());
+            }
+            renderer.render(this.accumulator.alpha());
+        }
+    }
 }
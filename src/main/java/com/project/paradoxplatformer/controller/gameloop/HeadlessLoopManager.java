@@ -0,0 +1,37 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code ObservableLoopManager} running on its own thread, independently of
+ * any view, which can be waited for and reports its timing accuracy.
+ */
+public interface HeadlessLoopManager extends ObservableLoopManager {
+
+    /**
+     * Waits for the loop thread to terminate.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting
+     */
+    void join() throws InterruptedException;
+
+    /**
+     * Waits at most the given time for the loop thread to terminate.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if the loop terminated, {@code false} if the time
+     *         elapsed first
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting
+     */
+    boolean join(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * The timing statistics collected so far.
+     *
+     * @return {@link LoopStatistics}
+     */
+    LoopStatistics statistics();
+}
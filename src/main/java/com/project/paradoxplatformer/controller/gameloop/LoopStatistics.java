@@ -0,0 +1,23 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+/**
+ * Timing statistics of a headless loop, measuring how late every tick started
+ * with respect to its schedule.
+ *
+ * @param ticks           number of ticks run
+ * @param overruns        number of times the loop fell so far behind that the
+ *                        schedule was reset
+ * @param meanJitterNanos mean lateness of a tick, in nanoseconds
+ * @param maxJitterNanos  worst lateness of a tick, in nanoseconds
+ */
+public record LoopStatistics(long ticks, long overruns, double meanJitterNanos, long maxJitterNanos) {
+
+    /**
+     * Statistics of a loop which has not ticked yet.
+     *
+     * @return empty statistics
+     */
+    public static LoopStatistics empty() {
+        return new LoopStatistics(0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Provides the {@link ThreadFactory} instances on which headless loops can run.
+ */
+public final class LoopThreads {
+
+    // Private constructor to prevent instantiation
+    private LoopThreads() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Daemon platform threads, suited for a few long-lived loops.
+     *
+     * @param name the name given to the threads
+     * @return a {@link ThreadFactory} of platform threads
+     */
+    public static ThreadFactory platform(final String name) {
+        return r -> {
+            final Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Virtual threads, suited for many concurrent loops. Virtual threads are only
+     * available from Java 21: on older runtimes platform threads are used.
+     *
+     * @param name the name given to the threads
+     * @return a {@link ThreadFactory} of virtual threads if supported
+     */
+    public static ThreadFactory virtual(final String name) {
+        return virtualFactory(name).orElseGet(() -> platform(name));
+    }
+
+    /**
+     * Checks whether the running JVM supports virtual threads.
+     *
+     * @return {@code true} if {@link #virtual(String)} creates virtual threads
+     */
+    public static boolean isVirtualSupported() {
+        return virtualFactory("probe").isPresent();
+    }
+
+    private static Optional<ThreadFactory> virtualFactory(final String name) {
+        try {
+            // looked up through the public Thread.Builder type, builder classes are not accessible
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Object named = builderType.getMethod("name", String.class).invoke(builder, name);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(named));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+                | InvocationTargetException e) {
+            return Optional.empty();
+        }
+    }
+}
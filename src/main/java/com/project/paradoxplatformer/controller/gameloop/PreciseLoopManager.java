@@ -0,0 +1,216 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.project.paradoxplatformer.utils.geometries.observer.Observer;
+
+/**
+ * A headless loop ticking at a fixed rate on a thread of its own.
+ * <p>
+ * Every tick is scheduled on an absolute {@link System#nanoTime()} deadline, so
+ * that errors do not add up over time. The loop thread parks until shortly
+ * before the deadline and spins for the remaining microseconds, since parking
+ * alone may oversleep by far more than the accuracy aimed at. When a tick takes
+ * so long that several deadlines are missed, the schedule is reset instead of
+ * running the missed ticks back to back.
+ * </p>
+ * <p>
+ * As for {@link FixedStepAccumulator}, the tick length is an integer amount of
+ * milliseconds.
+ * </p>
+ */
+public final class PreciseLoopManager implements HeadlessLoopManager {
+
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final int MAX_MISSED_TICKS = 5;
+
+    private final GameLoop loop;
+    private final ThreadFactory threadFactory;
+    private final Consumer<Exception> onFailure;
+    private final long stepMillis;
+    private final long stepNanos;
+    private final Set<Observer> observers;
+    private final JitterRecorder jitter;
+    private volatile boolean isRunning;
+    private volatile Optional<Thread> thread;
+
+    /**
+     * Creates a loop which is not yet started.
+     *
+     * @param loop          the game loop called at every tick
+     * @param tickRate      ticks per second, in the range (0, 1000]
+     * @param threadFactory creates the thread the loop runs on
+     * @param onFailure     called on the loop thread if a tick throws, after the
+     *                      loop has been stopped
+     * @throws IllegalArgumentException if the tick rate is out of range
+     */
+    public PreciseLoopManager(final GameLoop loop, final int tickRate, final ThreadFactory threadFactory,
+            final Consumer<Exception> onFailure) {
+        final long secondMillis = TimeUnit.SECONDS.toMillis(1);
+        if (tickRate <= 0 || tickRate > secondMillis) {
+            throw new IllegalArgumentException("Tick rate must be in (0, " + secondMillis + "], got " + tickRate);
+        }
+        this.loop = Optional.of(loop).get();
+        this.threadFactory = Optional.of(threadFactory).get();
+        this.onFailure = Optional.of(onFailure).get();
+        this.stepMillis = secondMillis / tickRate;
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(this.stepMillis);
+        this.observers = ConcurrentHashMap.newKeySet();
+        this.jitter = new JitterRecorder();
+        this.isRunning = false;
+        this.thread = Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the loop was already started
+     */
+    @Override
+    public synchronized void start() {
+        if (this.thread.isPresent()) {
+            throw new IllegalStateException("Loop can be started only once");
+        }
+        this.isRunning = true;
+        final Thread loopThread = this.threadFactory.newThread(this::run);
+        this.thread = Optional.of(loopThread);
+        loopThread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (this.isRunning) {
+            this.isRunning = false;
+            this.thread.ifPresent(LockSupport::unpark);
+            this.notifyObservers();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void join() throws InterruptedException {
+        if (this.thread.isPresent()) {
+            this.thread.get().join();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean join(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (this.thread.isPresent()) {
+            final Thread loopThread = this.thread.get();
+            unit.timedJoin(loopThread, timeout);
+            return !loopThread.isAlive();
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LoopStatistics statistics() {
+        return this.jitter.snapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addObserver(final Observer observer) {
+        this.observers.add(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyObservers() {
+        this.observers.forEach(Observer::update);
+    }
+
+    private void run() {
+        long deadline = System.nanoTime() + this.stepNanos;
+        while (this.isRunning) {
+            this.waitUntil(deadline);
+            if (!this.isRunning) {
+                break;
+            }
+            final long lateness = System.nanoTime() - deadline;
+            try {
+                this.loop.loop(this.stepMillis);
+            } catch (Exception e) { //NOPMD
+                this.stop();
+                this.onFailure.accept(e);
+                return;
+            }
+            deadline += this.stepNanos;
+            final boolean overrun = System.nanoTime() - deadline > MAX_MISSED_TICKS * this.stepNanos;
+            if (overrun) {
+                deadline = System.nanoTime() + this.stepNanos;
+            }
+            this.jitter.record(lateness, overrun);
+        }
+    }
+
+    private void waitUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > SPIN_NANOS && this.isRunning) {
+            LockSupport.parkNanos(this, remaining - SPIN_NANOS);
+            remaining = deadline - System.nanoTime();
+        }
+        while (System.nanoTime() < deadline && this.isRunning) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Collects lateness samples on the loop thread, while statistics may be read
+     * from any thread.
+     */
+    private static final class JitterRecorder {
+
+        private long ticks;
+        private long overruns;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(final long lateness, final boolean overrun) {
+            final long sample = Math.max(0, lateness);
+            this.ticks++;
+            this.totalNanos += sample;
+            this.maxNanos = Math.max(this.maxNanos, sample);
+            if (overrun) {
+                this.overruns++;
+            }
+        }
+
+        synchronized LoopStatistics snapshot() {
+            return this.ticks == 0
+                    ? LoopStatistics.empty()
+                    : new LoopStatistics(this.ticks, this.overruns, (double) this.totalNanos / this.ticks,
+                            this.maxNanos);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free handoff of immutable frames from a producer thread to a consumer
+ * thread.
+ * <p>
+ * It behaves as a triple buffer: the producer always has a slot to publish
+ * into and never waits, the consumer always reads the most recent complete
+ * frame, and frames published in between are simply superseded. Since frames
+ * are immutable there is no need to copy them between slots, a single
+ * reference to the latest one is enough.
+ * </p>
+ *
+ * @param <T> the type of the frames, which must be immutable
+ */
+public final class SnapshotBuffer<T> {
+
+    private final AtomicReference<T> latest;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public SnapshotBuffer() {
+        this.latest = new AtomicReference<>();
+    }
+
+    /**
+     * Publishes a frame, replacing any frame not yet consumed.
+     *
+     * @param frame the frame to publish
+     */
+    public void publish(final T frame) {
+        this.latest.set(Optional.of(frame).get());
+    }
+
+    /**
+     * Takes the most recent frame, if one was published since the last call.
+     *
+     * @return the latest unseen frame, or an empty optional if there is none
+     */
+    public Optional<T> takeLatest() {
+        return Optional.ofNullable(this.latest.getAndSet(null));
+    }
+}
@@ -1,5 +1,8 @@
 package com.project.paradoxplatformer.controller.gameloop;
 
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
 /**
  * TaskLoopFactory creates different threads based on avaiable View loops.
  */
@@ -11,8 +14,28 @@ public interface TaskLoopFactory {
     ObservableLoopManager animationLoop();
 
     /**
-     * Common thread for every view, a bit slower then the animationLoop.
+     * Fixed-step loop driven by the JavaFX pulse. The simulation advances by
+     * ticks of constant length, independently from the frame rate, and the
+     * state is presented once per frame along with the interpolation factor.
+     * The JavaFX thread is never put to sleep.
+     * @param tickRate simulation ticks per second
+     * @param maxCatchUpSteps maximum ticks run in a single frame
+     * @return {@link ObservableLoopManager}
+     */
+    ObservableLoopManager fixedStepLoop(int tickRate, int maxCatchUpSteps);
+
+    /**
+     * Common thread for every view, ticking at the default rate on a platform thread.
      * @return {@link LoopManager}
      */
     LoopManager threadLoop();
+
+    /**
+     * Headless loop, not depending on any view, ticking at a precise rate.
+     * @param tickRate ticks per second
+     * @param threadFactory creates the thread the loop runs on, see {@link LoopThreads}
+     * @param onFailure called on the loop thread if a tick throws, after the loop has stopped
+     * @return {@link HeadlessLoopManager}
+     */
+    HeadlessLoopManager preciseLoop(int tickRate, ThreadFactory threadFactory, Consumer<Exception> onFailure);
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
@@ -19,13 +20,26 @@ public final class GameControllerEventSubscriber {
     private final EventManager<GameEventType, PageIdentifier> eventManager;
 
     /**
-     * Constructs a GameControllerEventSubscriber with the given event listener.
+     * Constructs a GameControllerEventSubscriber with the given event listener,
+     * subscribing to the events of the current session.
      *
      * @param gameEventListener the listener to handle game events
      */
     public GameControllerEventSubscriber(final GameControllerEventListener gameEventListener) {
+        this(gameEventListener, GameSession.current());
+    }
+
+    /**
+     * Constructs a GameControllerEventSubscriber with the given event listener,
+     * subscribing to the events of the given session.
+     *
+     * @param gameEventListener the listener to handle game events
+     * @param session           the session whose events are handled
+     */
+    public GameControllerEventSubscriber(final GameControllerEventListener gameEventListener,
+            final GameSession session) {
         this.gameEventListener = gameEventListener;
-        this.eventManager = EventManager.getInstance();
+        this.eventManager = session.events();
         this.subscribeToEvents();
     }
 
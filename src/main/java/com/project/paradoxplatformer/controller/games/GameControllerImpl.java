@@ -1,20 +1,24 @@
 package com.project.paradoxplatformer.controller.games;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.tuple.Pair;
 
+import com.project.paradoxplatformer.controller.gameloop.GameLoop;
 import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
 import com.project.paradoxplatformer.controller.gameloop.ObservableLoopManager;
+import com.project.paradoxplatformer.controller.gameloop.SnapshotBuffer;
 import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
 import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+import com.project.paradoxplatformer.controller.replay.InputRecorder;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.GameModel;
 import com.project.paradoxplatformer.model.effect.impl.EffectHandlerFactoryImpl;
 import com.project.paradoxplatformer.model.endgame.DeathConditionsFactoryImpl;
@@ -22,21 +26,25 @@ import com.project.paradoxplatformer.model.endgame.EndGameManager;
 import com.project.paradoxplatformer.model.endgame.EndGameManagerImpl;
 import com.project.paradoxplatformer.model.endgame.VictoryConditionsFactoryImpl;
 import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.entity.ObjectSnapshot;
 import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
 import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
 import com.project.paradoxplatformer.model.entity.dynamics.behavior.FlappyJump;
 import com.project.paradoxplatformer.model.entity.dynamics.behavior.PlatformJump;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
-import com.project.paradoxplatformer.model.world.api.World;
+import com.project.paradoxplatformer.model.world.WorldStateHash;
+import com.project.paradoxplatformer.utils.collision.BroadPhaseFactoryImpl;
 import com.project.paradoxplatformer.utils.collision.CollisionManager;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.logging.GlobalLogger;
 import com.project.paradoxplatformer.view.GameView;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.GraphicBindings;
 import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
-import com.project.paradoxplatformer.view.manager.ViewNavigator;
+
+import org.slf4j.Logger;
 
 /**
  * Provides an implementation of the {@code GameController} interface, managing
@@ -46,23 +54,37 @@ import com.project.paradoxplatformer.view.manager.ViewNavigator;
  * the gameplay by updating the game state, handling user input, and managing
  * game
  * events such as victory or game-over conditions.
+ * <p>
+ * The controller belongs to the {@link GameSession} current when it is
+ * created: its events are taken from the bus of that session, and every tick is
+ * run within it, so that many controllers can play side by side.
+ * </p>
  * 
  * @param <C> the type of view component managed by this controller
  */
 public final class GameControllerImpl<C> implements GameController<C>, GameControllerEventListener {
 
     private final GameModel gameModel;
-    private Map<MutableObject, ReadOnlyGraphicDecorator<C>> gamePairs;
+    private GraphicBindings<C> gamePairs;
+    private final List<ReadOnlyMutableObjectWrapper> changed;
     private final GameView<C> gameView;
-    private final Function<GraphicAdapter<C>, Coord2D> position;
-    private final Function<GraphicAdapter<C>, Dimension> dimension;
 
     private final CollisionManager collisionManager;
     private final ObjectRemover<C> objectRemover;
     private final EndGameManager endGameManager;
 
     private ObservableLoopManager gameManager;
+    private ObservableLoopManager presenter;
     private final Level currentLevel;
+    private final SimulationMode mode;
+    private final SnapshotBuffer<List<ObjectSnapshot>> snapshots;
+    private final Map<Integer, ReadOnlyGraphicDecorator<C>> graphics;
+    private final GameSession session;
+    private final long startTime;
+    private GameLoop tick;
+    private long stateHash;
+    private Optional<InputRecorder> recorder;
+    private final Logger logger = GlobalLogger.getLogger(GameControllerImpl.class);
 
     /**
      * Constructs a new {@code GameControllerImpl} instance with the specified
@@ -73,16 +95,38 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
      * @param level the current level being played in the game
      */
     public GameControllerImpl(final GameModel model, final GameView<C> view, final Level level) {
+        this(model, view, level, SimulationMode.VIEW_THREAD);
+    }
+
+    /**
+     * Constructs a new {@code GameControllerImpl} instance running the simulation
+     * according to the given mode.
+     * 
+     * @param model the game model data used to manage the state of the game
+     * @param view  the game view used to render and interact with the game
+     * @param level the current level being played in the game
+     * @param mode  the thread on which the simulation runs
+     */
+    public GameControllerImpl(final GameModel model, final GameView<C> view, final Level level,
+            final SimulationMode mode) {
         this.gameModel = model;
         this.gameView = Optional.of(view).orElseThrow(() -> new IllegalArgumentException("View cannot be null"));
-        this.gamePairs = new HashMap<>();
-        this.position = GraphicAdapter::relativePosition;
-        this.dimension = GraphicAdapter::dimension;
-        this.collisionManager = new CollisionManager(new EffectHandlerFactoryImpl().getEffectHandlerForLevel(level));
+        this.gamePairs = new GraphicBindings<>();
+        this.changed = new ArrayList<>();
+        this.collisionManager = new CollisionManager(
+                new EffectHandlerFactoryImpl().getEffectHandlerForLevel(level),
+                new BroadPhaseFactoryImpl().getBroadPhaseForLevel(level));
         this.currentLevel = level;
         this.endGameManager = new EndGameManagerImpl(this.currentLevel);
+        this.mode = Optional.of(mode).get();
+        this.snapshots = new SnapshotBuffer<>();
+        this.graphics = new HashMap<>();
+        this.session = GameSession.current();
+        this.startTime = this.session.elapsedMillis();
+        this.tick = dt -> { };
+        this.recorder = Optional.empty();
 
-        new GameControllerEventSubscriber(this);
+        new GameControllerEventSubscriber(this, this.session);
 
         this.objectRemover = new ObjectRemover<>(model, view);
     }
@@ -116,51 +160,19 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
     /**
      * Synchronizes the game view with the game model by pairing each graphic
      * component
-     * with its corresponding mutable object in the world.
-     */
-    private void sync() {
-        gamePairs = this.gameView.getUnmodifiableControls()
-                .stream()
-                .map(g -> this.join(new ReadOnlyGraphicDecorator<>(g), this.gameModel.getWorld()))
-                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
-    }
-
-    /**
-     * Joins a graphical component with its corresponding mutable object in the
-     * world.
+     * with its corresponding mutable object in the world, matched by ID.
      * 
-     * @param g     the graphic component to join
-     * @param world the game world containing the objects to pair with the graphic
-     * @return a pair of the matched {@code MutableObject} and
-     *         {@code ReadOnlyGraphicDecorator}
-     * @throws IllegalArgumentException if no matching object is found for the given
+     * @throws IllegalArgumentException if no matching object is found for a
      *                                  graphic
      */
-    private Pair<MutableObject, ReadOnlyGraphicDecorator<C>> join(
-            final ReadOnlyGraphicDecorator<C> g,
-            final World world) {
-
-        final Set<MutableObject> objects = new LinkedHashSet<>(world.gameObjects());
-
-        return objects.stream()
-                .filter(m -> this.joinPredicate(m, g))
-                .map(m -> Pair.of(m, g))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Failed to pair object and graphic. Cause: Graphic: "
-                                + dimension.apply(g) + "\nGraphic: " + position.apply(g)));
-    }
-
-    /**
-     * Determines whether a mutable object and a graphic component should be joined
-     * based on their IDs.
-     * 
-     * @param mutableObject the mutable object to test
-     * @param gComponent    the graphic component to test
-     * @return true if the IDs of the mutable object and the graphic component match
-     */
-    private boolean joinPredicate(final MutableObject mutableObject, final GraphicAdapter<C> gComponent) {
-        return mutableObject.getID() == gComponent.getID();
+    private void sync() {
+        final List<GraphicAdapter<C>> controls = this.gameView.getUnmodifiableControls();
+        final GraphicBindings<C> pairs = new GraphicBindings<>(controls.size());
+        controls.forEach(g -> pairs.register(new ReadOnlyGraphicDecorator<>(g)));
+        this.gameModel.getWorld().gameObjects().forEach(pairs::bind);
+        pairs.requireAllBound();
+        pairs.collectChanged();
+        gamePairs = pairs;
     }
 
     /**
@@ -178,21 +190,118 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
             final KeyInputer<K> inputer,
             final String type) {
         this.setupGameMode(gameModel.getWorld().player(), type);
-        this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
-                .createConditionsForLevel(this.currentLevel, this.gameModel.getWorld().player()));
-        this.endGameManager.setDeathHandler(new DeathConditionsFactoryImpl().createConditionsForLevel(this.currentLevel,
-                this.gameModel.getWorld().player()));
-
-        this.gameManager = new GameLoopFactoryImpl(dt -> {
+        if (!this.mode.isHosted()) {
+            // every level played on screen draws from a seed of its own, so that it can be replayed
+            this.session.reseed(this.session.random().nextLong());
+            if (this.recorder.isEmpty()) {
+                this.recorder = InputRecorder.fromSystemProperty(this.currentLevel, this.session.seed());
+            }
+        }
+        // conditions keep the state and read the clock of the session they are created in
+        this.session.run(() -> this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
+                .createConditionsForLevel(this.currentLevel, this.gameModel.getWorld().player())));
+        this.session.run(() -> this.endGameManager.setDeathHandler(
+                new DeathConditionsFactoryImpl(this.gameModel.getWorld().bounds())
+                        .createConditionsForLevel(this.currentLevel, this.gameModel.getWorld().player())));
+
+        this.tick = dt -> {
             // main game loop
+            // the keys are read once, so that the recording holds exactly what the tick acts upon
+            final long held = inputer.getKeyAssetter().getMask();
+            this.recorder.ifPresent(r -> r.capture(held));
             ic.checkPool(
-                    inputer.getKeyAssetter(),
+                    held,
                     gameModel.getWorld().player(),
                     ControllableObject::stop);
             this.update(dt);
+        };
+        if (this.mode == SimulationMode.DEDICATED_THREAD) {
+            this.startDetached(ic, inputer);
+        } else if (this.mode == SimulationMode.VIEW_THREAD) {
+            this.gameManager = new GameLoopFactoryImpl(this.tick, this::render).fixedStepLoop();
+            this.gameManager.start();
+        }
+    }
+
+    /**
+     * Records the keys read at every tick of the game into the given recorder.
+     * Must be called before {@link #startGame(InputController, KeyInputer, String)}.
+     * Games played on screen are otherwise recorded only if the
+     * {@value InputRecorder#PROPERTY} system property is set.
+     * 
+     * @param inputRecorder the recorder of the keys
+     */
+    public void recordInput(final InputRecorder inputRecorder) {
+        this.recorder = Optional.of(inputRecorder);
+    }
+
+    /**
+     * Runs a single tick of the game started by
+     * {@link #startGame(InputController, KeyInputer, String)}, reading the
+     * pressed keys and updating the game state. Meant for
+     * {@link SimulationMode#isHosted() hosted} games, whose ticks are driven
+     * from outside: it does nothing before the game is started.
+     * 
+     * @param dt the time delta since the last tick
+     * @throws IllegalArgumentException in {@link SimulationMode#LOCKSTEP lockstep}
+     *                                  mode, if the delta is not the fixed step
+     */
+    public void tick(final long dt) {
+        if (this.mode == SimulationMode.LOCKSTEP) {
+            if (dt != GameLoopFactoryImpl.STEP_MILLIS) {
+                throw new IllegalArgumentException(
+                        "Lockstep ticks last " + GameLoopFactoryImpl.STEP_MILLIS + " ms, got " + dt);
+            }
+            this.tick.loop(dt);
+            this.stateHash = WorldStateHash.of(this.gamePairs.objects(), this.gameTime());
+        } else {
+            this.tick.loop(dt);
+        }
+    }
+
+    /**
+     * The fingerprint of the world taken at the end of the last tick, in
+     * {@link SimulationMode#LOCKSTEP lockstep} mode.
+     * 
+     * @return the fingerprint of the world, or zero before the first lockstep
+     *         tick
+     * @see WorldStateHash
+     */
+    public long stateHash() {
+        return this.stateHash;
+    }
+
+    /**
+     * Starts the simulation on a dedicated thread, while the view pulse only
+     * presents the latest published snapshot. The simulation reads the pressed
+     * keys from the live mask updated by key events, once per tick.
+     * 
+     * @param <K>     the type of the key input
+     * @param ic      the input controller for the player
+     * @param inputer the key input handler
+     */
+    private <K> void startDetached(final InputController<ControllableObject> ic, final KeyInputer<K> inputer) {
+        final KeyAssetter<K> keys = inputer.getKeyAssetter();
+        this.gamePairs.forEachBound((m, g) -> this.graphics.put(m.getID(), g));
+
+        this.gameManager = new GameLoopFactoryImpl(dt -> {
+            final long held = keys.getMask();
+            this.recorder.ifPresent(r -> r.capture(held));
+            ic.checkPool(held, gameModel.getWorld().player(), ControllableObject::stop);
+            this.updateDetached(dt);
+        }).threadLoop();
+
+        this.presenter = new GameLoopFactoryImpl(dt -> {
+            if (this.gameManager.isRunning()) {
+                this.present();
+            } else {
+                // the presenter follows the simulation, stopping on its own thread
+                this.presenter.stop();
+            }
         }).animationLoop();
 
         this.gameManager.start();
+        this.presenter.start();
     }
 
     /**
@@ -212,42 +321,125 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
 
     /**
      * Updates the game state by processing object updates, handling collisions, and
-     * checking end-game conditions.
+     * checking end-game conditions, then collects the objects changed during the
+     * tick. The view is not touched, it is presented separately by
+     * {@link #render(double)}.
      * 
      * @param dt the time delta since the last update
      */
     public void update(final long dt) {
         if (Objects.nonNull(gamePairs)) {
+            this.simulate(dt);
+
+            removeGameObjects();
+            gamePairs.collectChanged();
+        }
+    }
+
+    /**
+     * Updates the game state off the view thread, then publishes a snapshot of
+     * every object for the view to present. Graphics of removed objects are left
+     * for {@link #present()} to dismiss.
+     * 
+     * @param dt the time delta since the last update
+     */
+    private void updateDetached(final long dt) {
+        if (Objects.nonNull(gamePairs)) {
+            this.simulate(dt);
+
+            this.objectRemover.removeFromModel(gamePairs);
+            this.snapshots.publish(gamePairs.objects().stream()
+                    .map(ObjectSnapshot::of)
+                    .toList());
+        }
+    }
+
+    /**
+     * Advances every object and the game time, handles collisions, applies the
+     * effects they triggered and checks end-game conditions, all within the
+     * session of the controller.
+     * 
+     * @param dt the time delta since the last update
+     */
+    private void simulate(final long dt) {
+        this.session.run(() -> {
             final CollidableGameObject player = this.gameModel.getWorld().player();
 
-            gamePairs.forEach((m, g) -> m.updateState(dt));
+            gamePairs.objects().forEach(m -> m.updateState(dt));
+            this.session.advance(dt);
 
-            this.collisionManager.handleCollisions(gamePairs.keySet(), player);
+            this.collisionManager.handleCollisions(gamePairs.objects(), player);
+            this.collisionManager.flushEffects();
 
             this.endGameManager.checkForDeath();
             this.endGameManager.checkForVictory();
+        });
+    }
 
-            this.readOnlyPairs(gamePairs).forEach(this.gameView::updateControlState);
+    /**
+     * The game time simulated since the controller was created.
+     * 
+     * @return the elapsed game time, in milliseconds
+     */
+    private long gameTime() {
+        return this.session.elapsedMillis() - this.startTime;
+    }
 
-            removeGameObjects();
+    /**
+     * Applies the latest published snapshot, if any, to the view, removing the
+     * graphics of objects which are no longer part of it.
+     */
+    private void present() {
+        this.snapshots.takeLatest().ifPresent(frame -> {
+            final Set<Integer> alive = new HashSet<>();
+            this.changed.clear();
+            frame.forEach(o -> {
+                alive.add(o.getID());
+                if (this.graphics.containsKey(o.getID())) {
+                    this.changed.add(new ReadOnlyMutableObjectWrapper(o));
+                }
+            });
+            this.gameView.updateControlStates(this.changed, this.gameTime());
+            this.graphics.entrySet().removeIf(e -> {
+                if (!alive.contains(e.getKey())) {
+                    this.gameView.removeGraphic(e.getValue());
+                    return true;
+                }
+                return false;
+            });
+        });
+    }
+
+    /**
+     * Presents the current game state on the view, handing it only the objects
+     * changed during the updates since the last rendering, each placed between
+     * its previous and current position according to the interpolation factor.
+     * 
+     * @param alpha the fraction of a tick elapsed since the last update
+     */
+    public void render(final double alpha) {
+        if (Objects.nonNull(gamePairs)) {
+            this.changed.clear();
+            gamePairs.forEachChanged((m, previous, g) -> this.changed.add(
+                    new ReadOnlyMutableObjectWrapper(m, this.interpolate(m, previous, alpha))));
+            gamePairs.clearChanged();
+            this.gameView.updateControlStates(this.changed, this.gameTime());
         }
     }
 
     /**
-     * Converts the mutable object and graphic pairs to read-only pairs.
+     * Computes the position of an object between the last two updates.
      * 
-     * @param pairs the map of mutable objects and their corresponding graphic
-     *              decorators
-     * @return a map of read-only wrappers of mutable objects and their
-     *         corresponding graphic decorators
+     * @param m        the mutable object
+     * @param previous the position of the object before the last update
+     * @param alpha    the interpolation factor
+     * @return the interpolated position
      */
-    private Map<ReadOnlyMutableObjectWrapper, ReadOnlyGraphicDecorator<C>> readOnlyPairs(
-            final Map<MutableObject, ReadOnlyGraphicDecorator<C>> pairs) {
-        return pairs.entrySet().stream()
-                .map(p -> Pair.of(
-                        new ReadOnlyMutableObjectWrapper(p.getKey()),
-                        p.getValue()))
-                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+    private Coord2D interpolate(final MutableObject m, final Coord2D previous, final double alpha) {
+        final Coord2D current = m.getPosition();
+        return new Coord2D(
+                previous.x() + (current.x() - previous.x()) * alpha,
+                previous.y() + (current.y() - previous.y()) * alpha);
     }
 
     /**
@@ -256,8 +448,8 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
      */
     @Override
     public void restartGame() {
-        this.gameManager.stop();
-        ViewNavigator.getInstance().openView(PageIdentifier.GAME, currentLevel);
+        this.stopLoop();
+        this.session.navigator().openView(PageIdentifier.GAME, currentLevel);
     }
 
     /**
@@ -266,14 +458,15 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
      */
     @Override
     public void exitGame() {
-        this.gameManager.stop();
+        this.stopLoop();
         // System.out.println("EXITED");
-        ViewNavigator.getInstance().goToMenu();
+        this.session.navigator().goToMenu();
     }
 
     /**
      * Handles the stop view event by stopping the game loop before recreating the
-     * view.
+     * view. Hosted games have no view to recreate, their session is finished
+     * instead.
      * 
      * @param id    the page identifier
      * @param param the level parameter
@@ -281,7 +474,27 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
     @Override
     public void handleStopView(final PageIdentifier id, final Level param) {
         // System.out.println("STOPPING VIEW BEFORE RECREATE IT.");
-        this.gameManager.stop();
+        this.stopLoop();
+        if (this.mode.isHosted()) {
+            this.session.finish();
+        }
+    }
+
+    /**
+     * Stops the game loop, if the controller started one, and saves the
+     * recording of the game, if any.
+     */
+    private void stopLoop() {
+        if (Objects.nonNull(this.gameManager)) {
+            this.gameManager.stop();
+        }
+        this.recorder.ifPresent(r -> {
+            try {
+                r.save();
+            } catch (IOException e) {
+                logger.error("Failed to save the recording of the game.", e);
+            }
+        });
     }
 
     /**
@@ -314,8 +527,8 @@ public final class GameControllerImpl<C> implements GameController<C>, GameContr
      */
     @Override
     public void handleVictory(final PageIdentifier id, final Level level) {
-        this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
-                .createConditionsForLevel(level, this.gameModel.getWorld().player()));
+        this.session.run(() -> this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
+                .createConditionsForLevel(level, this.gameModel.getWorld().player())));
     }
 
 }
@@ -4,13 +4,13 @@ import com.project.paradoxplatformer.model.GameModel;
 import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.view.GameView;
+import com.project.paradoxplatformer.view.graphics.GraphicBindings;
 import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
 
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Optional;
-import java.util.Map;
 
 /**
  * ObjectRemover manages the removal of dynamic objects from the game world and
@@ -55,21 +55,39 @@ public final class ObjectRemover<C> {
      * This method removes objects that are in the removal list and updates the game
      * world and view.
      *
-     * @param gamePairs A map of game objects to their associated graphics
-     *                  decorators.
+     * @param gamePairs The bindings of game objects to their associated
+     *                  graphics decorators.
      */
-    public void removeGameObjects(final Map<MutableObject, ReadOnlyGraphicDecorator<C>> gamePairs) {
-        gamePairs.entrySet().removeIf(entry -> {
-            final MutableObject key = entry.getKey();
-            if (objects.contains(key)) {
-                // Remove the game object from the game world
-                gameModel.actionOnWorld(w -> w.removeGameObjects(key));
-                // Remove the associated graphic from the view
-                removeGraphic(entry.getValue());
-                return true; // Indicate that the object was removed
-            }
-            return false; // Indicate that the object was not removed
-        });
+    public void removeGameObjects(final GraphicBindings<C> gamePairs) {
+        removeObjects(gamePairs, true);
+    }
+
+    /**
+     * Removes the specified game objects from the game world only, leaving their
+     * graphics on the view. Used when the model is updated outside of the view
+     * thread, in which case graphics are dismissed by the view side itself.
+     *
+     * @param gamePairs The bindings of game objects to their associated
+     *                  graphics decorators.
+     */
+    public void removeFromModel(final GraphicBindings<C> gamePairs) {
+        removeObjects(gamePairs, false);
+    }
+
+    private void removeObjects(final GraphicBindings<C> gamePairs, final boolean removeGraphics) {
+        // Only the pending objects are looked up, by ID, and they are never pending twice
+        objects.forEach(key -> gamePairs.object(key.getID())
+                .filter(bound -> bound == key)
+                .ifPresent(bound -> {
+                    // Remove the game object from the game world
+                    gameModel.actionOnWorld(w -> w.removeGameObjects(key));
+                    if (removeGraphics) {
+                        // Remove the associated graphic from the view
+                        gamePairs.decorator(key.getID()).ifPresent(this::removeGraphic);
+                    }
+                    gamePairs.remove(key.getID());
+                }));
+        objects.clear();
     }
 
     /**
@@ -0,0 +1,66 @@
+package com.project.paradoxplatformer.controller.games;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Defines on which thread the game simulation runs.
+ */
+public enum SimulationMode {
+
+    /**
+     * Model, collisions and view are all updated within the view pulse.
+     */
+    VIEW_THREAD,
+
+    /**
+     * Model and collisions run on a dedicated thread, publishing a snapshot
+     * of the world at every tick; the view pulse only presents the latest one.
+     */
+    DEDICATED_THREAD,
+
+    /**
+     * No loop is started: ticks are driven from outside, typically by a
+     * {@link com.project.paradoxplatformer.controller.session.SessionHost},
+     * and the view is only updated when asked to.
+     */
+    HOSTED,
+
+    /**
+     * Hosted, with every tick advancing the game by the same fixed step and
+     * ending with a fingerprint of the world, so that runs fed the same input
+     * in sessions with the same seed can be checked to play out identically,
+     * as replays and regression tests require.
+     */
+    LOCKSTEP;
+
+    /**
+     * Name of the system property used to select the mode.
+     */
+    public static final String PROPERTY = "paradox.simulation";
+
+    /**
+     * Reads the mode from the {@value #PROPERTY} system property, falling back
+     * to {@link #VIEW_THREAD} when it is missing or unknown. Hosted modes are
+     * never selected this way, since nothing would drive the game.
+     *
+     * @return the selected mode
+     */
+    public static SimulationMode fromSystemProperty() {
+        final String value = System.getProperty(PROPERTY, VIEW_THREAD.name()).toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(m -> !m.isHosted())
+                .filter(m -> m.name().equals(value))
+                .findFirst()
+                .orElse(VIEW_THREAD);
+    }
+
+    /**
+     * Tells whether ticks are driven from outside, no loop being started.
+     *
+     * @return {@code true} for {@link #HOSTED} and {@link #LOCKSTEP}
+     */
+    public boolean isHosted() {
+        return this == HOSTED || this == LOCKSTEP;
+    }
+}
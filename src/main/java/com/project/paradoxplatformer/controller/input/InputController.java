@@ -1,7 +1,6 @@
 package com.project.paradoxplatformer.controller.input;
 
-import java.util.Optional;
-
+import com.project.paradoxplatformer.controller.input.api.InputType;
 import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
 import com.project.paradoxplatformer.model.inputmodel.InputModel;
 import com.project.paradoxplatformer.model.inputmodel.commands.Command;
@@ -13,6 +12,12 @@ import com.project.paradoxplatformer.model.inputmodel.commands.Command;
  * that correspond to key inputs defined by a {@code KeyAssetter}. This allows for flexible
  * and dynamic command execution based on user inputs or other triggering events.
  * </p>
+ * <p>
+ * The model is compiled once into a table of commands indexed by
+ * {@link InputType#ordinal() ordinal}, so that checking the held keys at every
+ * tick walks the bits of their {@link KeyAssetter#getMask() mask} without
+ * allocating. Commands run in the order of their input types.
+ * </p>
  * 
  * @param <T> the type of the actor that the commands will be executed upon. This actor
  *            can be any object that supports command execution as defined by the
@@ -20,7 +25,8 @@ import com.project.paradoxplatformer.model.inputmodel.commands.Command;
  */
 public final class InputController<T> {
 
-    private final InputModel<T> inModel;
+    private final Command<T>[] commands;
+    private final long mapped;
 
     /**
      * Constructs a new {@code InputController} with the specified input model.
@@ -34,8 +40,15 @@ public final class InputController<T> {
      *                contain mappings from keys to commands that the {@code InputController}
      *                will use to execute the corresponding actions on the actor.
      */
+    @SuppressWarnings("unchecked")
     public InputController(final InputModel<T> inModel) {
-        this.inModel = inModel;
+        this.commands = (Command<T>[]) new Command<?>[InputType.values().length];
+        long bits = 0;
+        for (final var entry : inModel.getModel().entrySet()) {
+            this.commands[entry.getKey().ordinal()] = entry.getValue();
+            bits |= entry.getKey().bit();
+        }
+        this.mapped = bits;
     }
 
     /**
@@ -60,16 +73,28 @@ public final class InputController<T> {
      *                  any keys with associated commands.
      */
     public <K> void checkPool(final KeyAssetter<K> keyAssets, final T actor, final Command<T> onIdle) {
-        if (!keyAssets.getUnmodifiablePool().isEmpty()) {
-            keyAssets.getUnmodifiablePool().stream()
-                    .filter(Optional::isPresent) // Filter out empty optionals
-                    .map(Optional::get) // Retrieve the key from the optional
-                    .filter(inModel.getModel()::containsKey) // Ensure the key exists in the input model
-                    .map(inModel.getModel()::get) // Retrieve the command associated with the key
-                    .forEach(c -> c.execute(actor)); // Execute each command on the actor
+        this.checkPool(keyAssets.getMask(), actor, onIdle);
+    }
+
+    /**
+     * Executes the commands mapped to the keys of the given mask on the specified
+     * actor, or the idle command if no key is held. Game loops read the mask once
+     * per tick and pass it here, so that the keys acted upon are exactly the ones
+     * read, even if key events change them meanwhile.
+     * 
+     * @param held   the {@link KeyAssetter#getMask() mask} of the held keys
+     * @param actor  the actor upon which the commands are executed
+     * @param onIdle the command to execute if no key is held
+     */
+    public void checkPool(final long held, final T actor, final Command<T> onIdle) {
+        if (held != 0) {
+            long pending = held & this.mapped; // Keep only the keys mapped in the input model
+            while (pending != 0) {
+                this.commands[Long.numberOfTrailingZeros(pending)].execute(actor); // Execute each command on the actor
+                pending &= pending - 1;
+            }
         } else {
             onIdle.execute(actor); // Execute the idle command if no keys are present
         }
     }
 }
-
@@ -4,6 +4,7 @@ import java.util.Set;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.project.paradoxplatformer.controller.input.api.InputTranslator;
 import com.project.paradoxplatformer.controller.input.api.InputType;
@@ -17,13 +18,20 @@ import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
  * {@code InputType} and provides methods to add and remove key assets from the
  * pool.
  * </p>
+ * <p>
+ * The pool is kept as an atomic {@link #getMask() mask}: keys can be pressed
+ * by the view thread while the simulation reads them from its own, and a
+ * {@link #readOnlyView() read-only view} hands the live keys over to the game
+ * loop without copying them at every tick.
+ * </p>
  * 
  * @param <K> the type of key used in the key assetter
  */
 public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
 
-    private final Set<Optional<InputType>> pool;
+    private final AtomicLong pool;
     private final InputTranslator<K> translator;
+    private final KeyAssetter<K> readOnly;
 
     /**
      * Constructs a {@code KeyAssetterImpl} with the specified
@@ -32,8 +40,9 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      * @param translator the input translator used to convert keys to input types
      */
     public KeyAssetterImpl(final InputTranslator<K> translator) {
-        this.pool = new HashSet<>();
+        this.pool = new AtomicLong();
         this.translator = translator;
+        this.readOnly = new ReadOnlyView();
     }
 
     /**
@@ -43,18 +52,50 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      * @param copy the {@code KeyAssetter} to copy from
      */
     public KeyAssetterImpl(final KeyAssetter<K> copy) {
-        this.pool = new HashSet<>(copy.getUnmodifiablePool());
+        this.pool = new AtomicLong(copy.getMask());
         this.translator = null; // Translator must be set separately
+        this.readOnly = new ReadOnlyView();
     }
 
     /**
-     * Returns an unmodifiable view of the key assets pool.
+     * Returns an unmodifiable view of the key assets pool. The set is built
+     * from the {@link #getMask() mask} at every call, which is to be preferred
+     * within game loops.
      * 
      * @return an unmodifiable set of key assets
      */
     @Override
     public Set<Optional<InputType>> getUnmodifiablePool() {
-        return Collections.unmodifiableSet(pool);
+        return poolOf(this.pool.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMask() {
+        return this.pool.get();
+    }
+
+    /**
+     * Replaces the keys held at once, as keys replayed or pressed by code
+     * rather than a keyboard are.
+     * 
+     * @param mask the mask of the keys now held
+     * @see KeyAssetter#getMask()
+     */
+    public void setMask(final long mask) {
+        this.pool.set(mask);
+    }
+
+    /**
+     * A view of the keys held by this assetter, always up to date, which
+     * cannot add or remove keys. The same view is returned at every call.
+     * 
+     * @return the read-only view of the keys
+     */
+    public KeyAssetter<K> readOnlyView() {
+        return this.readOnly;
     }
 
     /**
@@ -65,7 +106,8 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      */
     @Override
     public boolean remove(final K e) {
-        return this.pool.remove(translator.translate(e));
+        final long bit = InputType.bitOf(translator.translate(e));
+        return (this.pool.getAndAccumulate(bit, (held, b) -> held & ~b) & bit) != 0;
     }
 
     /**
@@ -76,6 +118,52 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      */
     @Override
     public boolean add(final K e) {
-        return this.pool.add(translator.translate(e));
+        final long bit = InputType.bitOf(translator.translate(e));
+        return (this.pool.getAndAccumulate(bit, (held, b) -> held | b) & bit) == 0;
+    }
+
+    /**
+     * The pool of keys of a mask.
+     * 
+     * @param mask the mask of the keys
+     * @return an unmodifiable set of the keys of the mask
+     */
+    private static Set<Optional<InputType>> poolOf(final long mask) {
+        final Set<Optional<InputType>> keys = new HashSet<>();
+        for (final InputType type : InputType.values()) {
+            if ((mask & type.bit()) != 0) {
+                keys.add(Optional.of(type));
+            }
+        }
+        if ((mask & InputType.UNTRANSLATED_BIT) != 0) {
+            keys.add(Optional.empty());
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * The live, read-only view of the keys of the assetter.
+     */
+    private final class ReadOnlyView implements KeyAssetter<K> {
+
+        @Override
+        public boolean remove(final K e) {
+            throw new UnsupportedOperationException("Keys cannot be released through a read-only view");
+        }
+
+        @Override
+        public boolean add(final K e) {
+            throw new UnsupportedOperationException("Keys cannot be pressed through a read-only view");
+        }
+
+        @Override
+        public Set<Optional<InputType>> getUnmodifiablePool() {
+            return KeyAssetterImpl.this.getUnmodifiablePool();
+        }
+
+        @Override
+        public long getMask() {
+            return KeyAssetterImpl.this.getMask();
+        }
     }
 }
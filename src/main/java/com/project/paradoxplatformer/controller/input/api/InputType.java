@@ -1,7 +1,10 @@
 package com.project.paradoxplatformer.controller.input.api;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Enum representing common input types for controller and model classes.
@@ -74,6 +77,15 @@ public enum InputType {
      */
     K;
 
+    /**
+     * The bit set in key masks while keys which translate to no input type
+     * are held, beyond the bits of all input types.
+     */
+    public static final long UNTRANSLATED_BIT = 1L << Long.SIZE - 1;
+
+    private static final Map<String, InputType> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(InputType::name, Function.identity()));
+
     /**
      * Utility method to parse a string into an {@code InputType}.
      * <p>
@@ -84,7 +96,8 @@ public enum InputType {
      * <p>
      * This method is useful for converting string representations of keys into
      * the corresponding enum values, which are then used in the application
-     * for consistent key handling.
+     * for consistent key handling. Names are looked up in a table built once,
+     * since keys are translated at every key event.
      * </p>
      * 
      * @param inputStr the raw string representation of the key, typically coming
@@ -93,10 +106,26 @@ public enum InputType {
      *         if found. If no matching enum constant is found, it returns {@code Optional.empty()}.
      */
     public static Optional<InputType> getString(final String inputStr) {
-        return Arrays.stream(InputType.values())
-                .map(InputType::name)
-                .filter(inputStr::equals)
-                .findFirst()
-                .map(InputType::valueOf);
+        return Optional.ofNullable(BY_NAME.get(inputStr));
+    }
+
+    /**
+     * The bit of the input type in key masks.
+     *
+     * @return the mask with only the bit at the ordinal of the input type set
+     */
+    public long bit() {
+        return 1L << this.ordinal();
+    }
+
+    /**
+     * The bit of a translated key in key masks.
+     *
+     * @param key the translation of a key
+     * @return the {@link #bit() bit} of the input type, or
+     *         {@link #UNTRANSLATED_BIT} if the key has none
+     */
+    public static long bitOf(final Optional<InputType> key) {
+        return key.isPresent() ? key.get().bit() : UNTRANSLATED_BIT;
     }
 }
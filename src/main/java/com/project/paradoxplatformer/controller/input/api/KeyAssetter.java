@@ -10,6 +10,10 @@ import java.util.Set;
  * pressed and managing these keys within a pool. It provides methods to add and remove
  * keys from this pool, as well as to retrieve an unmodifiable view of the current key pool.
  * </p>
+ * <p>
+ * Held keys are read at every tick as a {@link #getMask() mask}, which takes no
+ * allocation and can be read while keys are pressed on another thread.
+ * </p>
  * 
  * @param <K> the type of view key used by the {@code KeyAssetter}. This type represents
  *            the keys that are tracked by the key assetter.
@@ -68,4 +72,17 @@ public interface KeyAssetter<K> {
      *         copy is returned to prevent external modifications.
      */
     Set<Optional<InputType>> getUnmodifiablePool();
+
+    /**
+     * The keys currently pressed, as a mask.
+     * <p>
+     * The {@link InputType#bit() bit} of every input type held is set, along
+     * with {@link InputType#UNTRANSLATED_BIT} if keys translating to no input
+     * type are held, as {@code Optional.empty()} would be in the
+     * {@link #getUnmodifiablePool() pool}.
+     * </p>
+     * 
+     * @return the mask of the keys held, zero if none
+     */
+    long getMask();
 }
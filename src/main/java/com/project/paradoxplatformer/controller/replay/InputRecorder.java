@@ -0,0 +1,137 @@
+package com.project.paradoxplatformer.controller.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+
+/**
+ * Records the keys held at every tick of a game, as read by its game loop,
+ * into an {@link InputRecording}.
+ * <p>
+ * Masks are run-length encoded as they are captured, so that recording costs
+ * a comparison per tick and memory only when the held keys change. A recorder
+ * is fed by the thread running the simulation, while it may be saved from
+ * another one, such as the view thread stopping the game.
+ * </p>
+ */
+public final class InputRecorder {
+
+    /**
+     * Name of the system property holding the directory in which games played
+     * on screen are recorded. Games are not recorded when it is missing.
+     */
+    public static final String PROPERTY = "paradox.record";
+
+    private static final int MIN_CAPACITY = 16;
+    private static final String EXTENSION = ".pxr";
+
+    private final Level level;
+    private final long seed;
+    private final long buildHash;
+    private final Optional<Path> target;
+    private long[] runMasks;
+    private int[] runEnds;
+    private int runs;
+
+    private InputRecorder(final Level level, final long seed, final Optional<Path> target) {
+        this.level = Optional.of(level).get();
+        this.seed = seed;
+        this.buildHash = InputRecording.currentBuild();
+        this.target = target;
+        this.runMasks = new long[MIN_CAPACITY];
+        this.runEnds = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Creates a recorder keeping what it records in memory.
+     *
+     * @param level the level being played
+     * @param seed  the seed of the session the level is played in
+     */
+    public InputRecorder(final Level level, final long seed) {
+        this(level, seed, Optional.empty());
+    }
+
+    /**
+     * Creates a recorder saving into the directory given by the
+     * {@value #PROPERTY} system property, if set.
+     *
+     * @param level the level being played
+     * @param seed  the seed of the session the level is played in
+     * @return the recorder, or an empty {@link Optional} if games are not to
+     *         be recorded
+     */
+    public static Optional<InputRecorder> fromSystemProperty(final Level level, final long seed) {
+        return Optional.ofNullable(System.getProperty(PROPERTY))
+                .filter(dir -> !dir.isBlank())
+                .map(dir -> new InputRecorder(level, seed, Optional.of(Paths.get(dir).resolve(
+                        level.name() + "-" + System.currentTimeMillis() + "-" + Long.toHexString(seed)
+                                + EXTENSION))));
+    }
+
+    /**
+     * Records the keys held at the current tick.
+     *
+     * @param mask the {@link KeyAssetter#getMask() mask} of the keys read by the
+     *             game loop at this tick
+     */
+    public synchronized void capture(final long mask) {
+        if (this.runs > 0 && this.runMasks[this.runs - 1] == mask) {
+            this.runEnds[this.runs - 1]++;
+        } else {
+            if (this.runs == this.runMasks.length) {
+                this.runMasks = Arrays.copyOf(this.runMasks, this.runs * 2);
+                this.runEnds = Arrays.copyOf(this.runEnds, this.runs * 2);
+            }
+            this.runMasks[this.runs] = mask;
+            this.runEnds[this.runs] = this.ticks() + 1;
+            this.runs++;
+        }
+    }
+
+    /**
+     * The number of ticks recorded so far.
+     *
+     * @return the length of the recording, in ticks
+     */
+    public synchronized int ticks() {
+        return this.runs == 0 ? 0 : this.runEnds[this.runs - 1];
+    }
+
+    /**
+     * The recording of the ticks captured so far. Capturing can go on
+     * afterwards, without affecting the returned recording.
+     *
+     * @return the recording
+     */
+    public synchronized InputRecording recording() {
+        return new InputRecording(this.level, this.seed, this.buildHash,
+                Arrays.copyOf(this.runMasks, this.runs), Arrays.copyOf(this.runEnds, this.runs));
+    }
+
+    /**
+     * The file the recording is saved into.
+     *
+     * @return the file, or an empty {@link Optional} if the recording is kept
+     *         in memory
+     */
+    public Optional<Path> target() {
+        return this.target;
+    }
+
+    /**
+     * Saves the ticks captured so far into the file of the recorder, if any.
+     *
+     * @throws IOException if the file could not be written
+     */
+    public void save() throws IOException {
+        if (this.target.isPresent()) {
+            this.recording().save(this.target.get());
+        }
+    }
+}
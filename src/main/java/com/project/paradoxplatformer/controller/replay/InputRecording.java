@@ -0,0 +1,303 @@
+package com.project.paradoxplatformer.controller.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.project.paradoxplatformer.controller.games.Level;
+
+/**
+ * The input of a game, tick by tick, along with what is needed to play it
+ * again: the level, the seed of the session and the build it was recorded
+ * with.
+ * <p>
+ * The keys held at a tick are stored as their
+ * {@link com.project.paradoxplatformer.controller.input.api.KeyAssetter#getMask()
+ * mask}. Since keys are held for many ticks in a row, masks are run-length
+ * encoded, both in memory and in files, where every number is written as a
+ * variable-length integer: a minute of play usually takes a few hundred bytes.
+ * </p>
+ * <p>
+ * Files start with a magic number and a format version, followed by the
+ * level name, the seed, the build hash, the number of runs and the runs
+ * themselves, each a mask followed by its length in ticks.
+ * </p>
+ */
+public final class InputRecording {
+
+    private static final int MAGIC = 0x5058_5250; // "PXRP"
+    private static final int VERSION = 1;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_PAYLOAD = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+    private static final int VARINT_MAX_SHIFT = 28;
+    private static final int VARLONG_MAX_SHIFT = 63;
+    private static final int INITIAL_RUNS = 64;
+    private static final long FNV_OFFSET = 0xCBF2_9CE4_8422_2325L;
+    private static final long FNV_PRIME = 0x0000_0100_0000_01B3L;
+    private static final String DEV_BUILD = "dev";
+
+    private final Level level;
+    private final long seed;
+    private final long buildHash;
+    private final long[] runMasks;
+    private final int[] runEnds;
+
+    /**
+     * Creates a recording from its runs.
+     *
+     * @param level     the level played
+     * @param seed      the seed of the session the level was played in
+     * @param buildHash the hash of the build the level was played with
+     * @param runMasks  the mask of every run
+     * @param runEnds   the tick following every run, increasing
+     */
+    InputRecording(final Level level, final long seed, final long buildHash,
+            final long[] runMasks, final int[] runEnds) {
+        this.level = Optional.of(level).get();
+        this.seed = seed;
+        this.buildHash = buildHash;
+        this.runMasks = runMasks.clone();
+        this.runEnds = runEnds.clone();
+    }
+
+    /**
+     * The hash of the running build, derived from its implementation version.
+     * Builds without a version, such as those run from an IDE, share the same
+     * hash.
+     *
+     * @return the hash of the running build
+     */
+    public static long currentBuild() {
+        final String version = Optional.ofNullable(InputRecording.class.getPackage())
+                .map(Package::getImplementationVersion)
+                .orElse(DEV_BUILD);
+        long hash = FNV_OFFSET;
+        for (final byte b : version.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The level played.
+     *
+     * @return the level of the recording
+     */
+    public Level level() {
+        return this.level;
+    }
+
+    /**
+     * The seed of the session the level was played in.
+     *
+     * @return the seed to play the recording with
+     */
+    public long seed() {
+        return this.seed;
+    }
+
+    /**
+     * The hash of the build the level was played with.
+     *
+     * @return the build hash of the recording
+     * @see #currentBuild()
+     */
+    public long buildHash() {
+        return this.buildHash;
+    }
+
+    /**
+     * Tells whether the recording was made with the running build, in which
+     * case playing it is expected to give the same game.
+     *
+     * @return {@code true} if the build hashes match
+     */
+    public boolean isCurrentBuild() {
+        return this.buildHash == currentBuild();
+    }
+
+    /**
+     * The number of ticks recorded.
+     *
+     * @return the length of the recording, in ticks
+     */
+    public int ticks() {
+        return this.runEnds.length == 0 ? 0 : this.runEnds[this.runEnds.length - 1];
+    }
+
+    /**
+     * The number of runs of identical masks.
+     *
+     * @return the number of runs
+     */
+    public int runs() {
+        return this.runMasks.length;
+    }
+
+    /**
+     * The mask of the keys held at a tick.
+     *
+     * @param tick the tick, from zero
+     * @return the mask of the keys held
+     * @throws IndexOutOfBoundsException if the tick was not recorded
+     */
+    public long mask(final int tick) {
+        if (tick < 0 || tick >= this.ticks()) {
+            throw new IndexOutOfBoundsException("Tick " + tick + " out of " + this.ticks());
+        }
+        final int found = Arrays.binarySearch(this.runEnds, tick);
+        // a tick equal to the end of a run belongs to the following run
+        return this.runMasks[found >= 0 ? found + 1 : -found - 1];
+    }
+
+    /**
+     * Writes the recording.
+     *
+     * @param out the stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(this.level.name());
+        data.writeLong(this.seed);
+        data.writeLong(this.buildHash);
+        writeVarint(data, this.runMasks.length);
+        int start = 0;
+        for (int i = 0; i < this.runMasks.length; i++) {
+            writeVarlong(data, this.runMasks[i]);
+            writeVarint(data, this.runEnds[i] - start);
+            start = this.runEnds[i];
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a recording.
+     *
+     * @param in the stream to read from, left open
+     * @return the recording read
+     * @throws IOException if reading fails or the stream does not hold a
+     *                     recording
+     */
+    public static InputRecording readFrom(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        final int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+        final Level level;
+        try {
+            level = Level.valueOf(data.readUTF());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown level", e);
+        }
+        final long seed = data.readLong();
+        final long buildHash = data.readLong();
+        final int runs = readVarint(data);
+        if (runs < 0) {
+            throw new IOException("Invalid number of runs " + runs);
+        }
+        // the count is not trusted to size the arrays: a corrupt one runs out of stream instead of memory
+        long[] masks = new long[Math.min(runs, INITIAL_RUNS)];
+        int[] ends = new int[masks.length];
+        int end = 0;
+        for (int i = 0; i < runs; i++) {
+            if (i == masks.length) {
+                final int capacity = (int) Math.min(runs, 2L * masks.length);
+                masks = Arrays.copyOf(masks, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            masks[i] = readVarlong(data);
+            final int length = readVarint(data);
+            if (length <= 0 || end + length < end) {
+                throw new IOException("Invalid run length " + length);
+            }
+            end += length;
+            ends[i] = end;
+        }
+        return new InputRecording(level, seed, buildHash, masks, ends);
+    }
+
+    /**
+     * Writes the recording into a file.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public void save(final Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            this.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file to read
+     * @return the recording read
+     * @throws IOException if reading fails or the file does not hold a
+     *                     recording
+     */
+    public static InputRecording load(final Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return readFrom(in);
+        }
+    }
+
+    private static void writeVarlong(final DataOutputStream out, final long value) throws IOException {
+        long rest = value;
+        while ((rest & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte((int) (rest & VARINT_PAYLOAD | VARINT_MORE));
+            rest >>>= VARINT_BITS;
+        }
+        out.writeByte((int) rest);
+    }
+
+    private static long readVarlong(final DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift <= VARLONG_MAX_SHIFT; shift += VARINT_BITS) {
+            final int b = in.readUnsignedByte();
+            value |= (long) (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static void writeVarint(final DataOutputStream out, final int value) throws IOException {
+        int rest = value;
+        while ((rest & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte(rest & VARINT_PAYLOAD | VARINT_MORE);
+            rest >>>= VARINT_BITS;
+        }
+        out.writeByte(rest);
+    }
+
+    private static int readVarint(final DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= VARINT_MAX_SHIFT; shift += VARINT_BITS) {
+            final int b = in.readUnsignedByte();
+            value |= (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
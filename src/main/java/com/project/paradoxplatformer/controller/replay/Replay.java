@@ -0,0 +1,151 @@
+package com.project.paradoxplatformer.controller.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.GameLoop;
+import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
+import com.project.paradoxplatformer.controller.games.GameControllerImpl;
+import com.project.paradoxplatformer.controller.games.SimulationMode;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.controller.session.SessionHandle;
+import com.project.paradoxplatformer.controller.session.SessionHost;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.view.headless.HeadlessGameView;
+import com.project.paradoxplatformer.view.headless.HeadlessGraphic;
+import com.project.paradoxplatformer.view.headless.HeadlessKeyInputer;
+
+/**
+ * Plays an {@link InputRecording} again, without any screen.
+ * <p>
+ * The recorded level is loaded into a {@link SimulationMode#LOCKSTEP lockstep}
+ * game controller with a {@link HeadlessGameView}, within a session seeded as
+ * the recorded one. Before every tick the recorded keys are held on a
+ * {@link HeadlessKeyInputer}, so that they reach the player through the same
+ * {@link InputController} as keys typed on screen. The fingerprint of the
+ * world is kept at every tick, for runs to be compared.
+ * </p>
+ * <p>
+ * A replay either {@link #play() runs} on the calling thread as fast as
+ * possible, or is {@link #start(SessionHost, SessionHost.Pacing) started} on
+ * a {@link SessionHost}, possibly paced on the wall clock. The session ends
+ * with the recording, or earlier if the game does.
+ * </p>
+ */
+public final class Replay {
+
+    private final InputRecording recording;
+
+    /**
+     * Creates a replay of a recording.
+     *
+     * @param recording the recording to play
+     */
+    public Replay(final InputRecording recording) {
+        this.recording = Optional.of(recording).get();
+    }
+
+    /**
+     * Plays the whole recording on the calling thread, as fast as possible.
+     *
+     * @return the fingerprints of the world at every tick played
+     * @throws UncheckedIOException  if the level could not be read
+     * @throws IllegalStateException if the level could not be found
+     */
+    public long[] play() {
+        final GameSession session = GameSession.create(this.recording.seed());
+        final AtomicReference<Run> run = new AtomicReference<>();
+        session.run(() -> run.set(new Run(session)));
+        while (!session.isFinished()) {
+            session.run(() -> run.get().loop(GameLoopFactoryImpl.STEP_MILLIS));
+        }
+        return run.get().hashes();
+    }
+
+    /**
+     * Starts playing the recording on a host.
+     *
+     * @param host   the host to run the replay on
+     * @param pacing whether ticks follow the wall clock
+     * @return the handle of the replay session, completing exceptionally if
+     *         the level could not be loaded
+     */
+    public SessionHandle start(final SessionHost host, final SessionHost.Pacing pacing) {
+        return host.start(GameSession.create(this.recording.seed()), Run::new,
+                GameLoopFactoryImpl.STEP_MILLIS, pacing);
+    }
+
+    /**
+     * A game being played from the recording.
+     */
+    private final class Run implements GameLoop {
+
+        private final GameSession session;
+        private final GameControllerImpl<HeadlessGraphic> controller;
+        private final HeadlessKeyInputer inputer;
+        private final long[] hashes;
+        private int tick;
+
+        /**
+         * Loads the recorded level within the current session.
+         *
+         * @param session the session of the replay, current for the caller
+         */
+        Run(final GameSession session) {
+            this.session = session;
+            final LevelDTO level = readLevel();
+            this.inputer = new HeadlessKeyInputer();
+            this.controller = new GameControllerImpl<>(new GameModelImpl(level), new HeadlessGameView(level),
+                    recording.level(), SimulationMode.LOCKSTEP);
+            this.controller.loadModel();
+            this.controller.syncView();
+            this.controller.startGame(new InputController<ControllableObject>(
+                    new InputMovesFactoryImpl().advancedModel()), this.inputer, level.getType());
+            this.hashes = new long[recording.ticks()];
+            if (this.hashes.length == 0) {
+                session.finish();
+            }
+        }
+
+        @Override
+        public void loop(final long dt) {
+            this.inputer.hold(recording.mask(this.tick));
+            this.controller.tick(dt);
+            this.hashes[this.tick] = this.controller.stateHash();
+            this.tick++;
+            if (this.tick == this.hashes.length) {
+                this.session.finish();
+            }
+        }
+
+        /**
+         * The fingerprints of the ticks played so far.
+         *
+         * @return the fingerprint of the world at every tick played
+         */
+        long[] hashes() {
+            return Arrays.copyOf(this.hashes, this.tick);
+        }
+
+        private LevelDTO readLevel() {
+            try {
+                return new DeserializerFactoryImpl()
+                        .levelDeserialzer()
+                        .deserialize(recording.level().getResourceFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InvalidResourceException e) {
+                throw new IllegalStateException("Recorded level not found", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.project.paradoxplatformer.controller.session;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.project.paradoxplatformer.controller.event.EventManager;
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.manager.ViewNavigator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The state a game session shares between its controller, model and effects:
+ * its event bus, its navigator, its clock, its random numbers and whether its
+ * player died.
+ * <p>
+ * Game code reaches the session it runs in through {@link #current()}, which
+ * is bound to the calling thread by {@link #run(Runnable)}. Code running
+ * outside of any session, like the application pages, gets the
+ * {@link #application() application session}, backed by the application-wide
+ * {@link EventManager} and {@link ViewNavigator}: a single game played on
+ * screen behaves as before, while sessions created with {@link #create()} are
+ * fully isolated from it and from each other.
+ * </p>
+ * <p>
+ * Game code never reads the wall clock nor shared random numbers: it reads the
+ * {@link #elapsedMillis() clock} and the {@link #random() random numbers} of
+ * its session, so that a session created with a given {@link #create(long)
+ * seed} and fed the same input at every tick plays out the same on any
+ * machine.
+ * </p>
+ * <p>
+ * A session is advanced by a single thread at a time, though not always the
+ * same one: its clock and flags can be read from any thread.
+ * </p>
+ */
+public final class GameSession {
+
+    private static final GameSession APPLICATION = new GameSession(
+            EventManager.getInstance(), ViewNavigator.getInstance(), System.nanoTime());
+    private static final ThreadLocal<GameSession> CURRENT = new ThreadLocal<>();
+
+    private final EventManager<GameEventType, PageIdentifier> events;
+    private final ViewNavigator navigator;
+    private volatile long seed;
+    private final Random random;
+    private final AtomicLong elapsed;
+    private final AtomicBoolean playerDead;
+    private final AtomicBoolean finished;
+
+    private GameSession(final EventManager<GameEventType, PageIdentifier> events, final ViewNavigator navigator,
+            final long seed) {
+        this.events = events;
+        this.navigator = navigator;
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.elapsed = new AtomicLong();
+        this.playerDead = new AtomicBoolean();
+        this.finished = new AtomicBoolean();
+    }
+
+    /**
+     * Creates a session with an event bus and a navigator of its own, whose
+     * random numbers differ from a run to the next.
+     *
+     * @return a new session
+     */
+    public static GameSession create() {
+        return create(System.nanoTime());
+    }
+
+    /**
+     * Creates a session with an event bus and a navigator of its own, whose
+     * random numbers are drawn from the given seed.
+     *
+     * @param seed the seed of the random numbers of the session
+     * @return a new session
+     */
+    public static GameSession create(final long seed) {
+        final EventManager<GameEventType, PageIdentifier> events = EventManager.create();
+        return new GameSession(events, new ViewNavigator(events), seed);
+    }
+
+    /**
+     * The session of the game shown by the application.
+     *
+     * @return the application session
+     */
+    public static GameSession application() {
+        return APPLICATION;
+    }
+
+    /**
+     * The session bound to the calling thread.
+     *
+     * @return the session the calling thread runs in, or the
+     *         {@link #application() application session} if none
+     */
+    public static GameSession current() {
+        final GameSession session = CURRENT.get();
+        return session == null ? APPLICATION : session;
+    }
+
+    /**
+     * Runs an action within this session, which is {@link #current() current}
+     * for the calling thread until the action returns.
+     *
+     * @param action the action to run
+     */
+    public void run(final Runnable action) {
+        final GameSession previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The event bus of the session.
+     *
+     * @return the {@link EventManager} of the session
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Handlers subscribe to the very bus of the session.")
+    public EventManager<GameEventType, PageIdentifier> events() {
+        return this.events;
+    }
+
+    /**
+     * The navigator of the session, publishing view changes on its event bus.
+     *
+     * @return the {@link ViewNavigator} of the session
+     */
+    public ViewNavigator navigator() {
+        return this.navigator;
+    }
+
+    /**
+     * The seed the random numbers of the session are drawn from.
+     *
+     * @return the seed of the session
+     */
+    public long seed() {
+        return this.seed;
+    }
+
+    /**
+     * Restarts the random numbers of the session from a new seed, as the
+     * sessions created with that seed start.
+     *
+     * @param newSeed the new seed of the session
+     */
+    public void reseed(final long newSeed) {
+        this.seed = newSeed;
+        this.random.setSeed(newSeed);
+    }
+
+    /**
+     * The random numbers of the session, the only ones game code should draw.
+     *
+     * @return the random number generator of the session
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Draws must advance the very generator of the session.")
+    public Random random() {
+        return this.random;
+    }
+
+    /**
+     * Advances the clock of the session.
+     *
+     * @param dt the game time elapsed, in milliseconds
+     */
+    public void advance(final long dt) {
+        this.elapsed.addAndGet(dt);
+    }
+
+    /**
+     * The game time simulated within the session.
+     *
+     * @return the milliseconds the clock was advanced by
+     */
+    public long elapsedMillis() {
+        return this.elapsed.get();
+    }
+
+    /**
+     * Sets whether the player of the session died, which is checked by the
+     * death conditions at the end of each tick.
+     *
+     * @param dead {@code true} if the player died
+     */
+    public void setPlayerDead(final boolean dead) {
+        this.playerDead.set(dead);
+    }
+
+    /**
+     * Tells whether the player of the session died.
+     *
+     * @return {@code true} if the player died
+     */
+    public boolean isPlayerDead() {
+        return this.playerDead.get();
+    }
+
+    /**
+     * Marks the session as over, so that whoever drives it stops.
+     */
+    public void finish() {
+        this.finished.set(true);
+    }
+
+    /**
+     * Tells whether the session is over.
+     *
+     * @return {@code true} if the session was finished
+     */
+    public boolean isFinished() {
+        return this.finished.get();
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.paradoxplatformer.controller.session;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A game session running on a {@link SessionHost}.
+ */
+public interface SessionHandle {
+
+    /**
+     * The session being run.
+     *
+     * @return the {@link GameSession}
+     */
+    GameSession session();
+
+    /**
+     * The number of ticks run so far.
+     *
+     * @return the number of ticks
+     */
+    long ticks();
+
+    /**
+     * Completes with the number of ticks run once the session is finished or
+     * cancelled, or exceptionally if setting it up or ticking it failed.
+     *
+     * @return the completion of the session
+     */
+    CompletableFuture<Long> completion();
+
+    /**
+     * Stops running the session, before its next tick.
+     */
+    void cancel();
+}
@@ -0,0 +1,294 @@
+package com.project.paradoxplatformer.controller.session;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import com.project.paradoxplatformer.controller.gameloop.GameLoop;
+import com.project.paradoxplatformer.controller.gameloop.LoopThreads;
+
+/**
+ * Runs many game sessions side by side, without any view, for automated
+ * playtesting and server-side validation.
+ * <p>
+ * Each session is set up and ticked within its own {@link GameSession}, so
+ * that sessions share neither events nor end-game state, and is never ticked
+ * by two threads at once. Sessions run either on a thread each, virtual where
+ * the runtime supports it, or as tasks on a fixed pool of workers: every tick
+ * is then a task of its own, queued behind the ticks of the other sessions, so
+ * that sessions interleave fairly and throughput grows with the workers.
+ * </p>
+ * <p>
+ * A session stops once its {@link GameSession#isFinished() finished}, as
+ * hosted game controllers do on victory or death, or when cancelled.
+ * </p>
+ */
+public final class SessionHost implements AutoCloseable {
+
+    private static final String THREAD_NAME = "game-session";
+
+    private final Optional<ScheduledExecutorService> pool;
+    private final ThreadFactory threads;
+    private final Set<HostedSession> running;
+    private volatile boolean closed;
+
+    private SessionHost(final Optional<ScheduledExecutorService> pool, final ThreadFactory threads) {
+        this.pool = pool;
+        this.threads = threads;
+        this.running = ConcurrentHashMap.newKeySet();
+        this.closed = false;
+    }
+
+    /**
+     * Creates a host running each session on a thread of its own, virtual if
+     * the runtime supports them.
+     *
+     * @return the host
+     * @see LoopThreads#virtual(String)
+     */
+    public static SessionHost threadPerSession() {
+        return new SessionHost(Optional.empty(), LoopThreads.virtual(THREAD_NAME));
+    }
+
+    /**
+     * Creates a host ticking its sessions on a fixed pool of workers.
+     *
+     * @param workers the number of worker threads
+     * @return the host
+     * @throws IllegalArgumentException if the number of workers is not positive
+     */
+    public static SessionHost workerPool(final int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Workers must be positive, got " + workers);
+        }
+        final ThreadFactory threads = LoopThreads.platform(THREAD_NAME);
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(workers, threads);
+        executor.setRemoveOnCancelPolicy(true);
+        return new SessionHost(Optional.of(executor), threads);
+    }
+
+    /**
+     * Creates a host ticking its sessions on a worker per available processor.
+     *
+     * @return the host
+     */
+    public static SessionHost forAvailableProcessors() {
+        return workerPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts a new session.
+     *
+     * @param setup      sets the game up within the new session, for instance
+     *                   creating a
+     *                   {@link com.project.paradoxplatformer.controller.games.SimulationMode#HOSTED
+     *                   hosted} game controller, and returns the loop to call at
+     *                   every tick
+     * @param stepMillis the game time of a tick, in milliseconds
+     * @param pacing     whether ticks follow the wall clock
+     * @return the handle of the running session
+     * @throws IllegalArgumentException if the step is not positive
+     * @throws IllegalStateException    if the host was closed
+     */
+    public SessionHandle start(final Function<GameSession, GameLoop> setup, final long stepMillis,
+            final Pacing pacing) {
+        return this.start(GameSession.create(), setup, stepMillis, pacing);
+    }
+
+    /**
+     * Starts running a session created beforehand, for instance with a given
+     * seed to play a recorded game again.
+     *
+     * @param session    the session to run, not run anywhere else
+     * @param setup      sets the game up within the session, returning the loop
+     *                   to call at every tick
+     * @param stepMillis the game time of a tick, in milliseconds
+     * @param pacing     whether ticks follow the wall clock
+     * @return the handle of the running session
+     * @throws IllegalArgumentException if the step is not positive
+     * @throws IllegalStateException    if the host was closed
+     * @see #start(Function, long, Pacing)
+     */
+    public SessionHandle start(final GameSession session, final Function<GameSession, GameLoop> setup,
+            final long stepMillis, final Pacing pacing) {
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("Step must be positive, got " + stepMillis);
+        }
+        if (this.closed) {
+            throw new IllegalStateException("Host is closed");
+        }
+        final HostedSession hosted = new HostedSession(Optional.of(session).get(), Optional.of(setup).get(),
+                stepMillis, Optional.of(pacing).get());
+        this.running.add(hosted);
+        if (this.pool.isPresent()) {
+            this.pool.get().execute(hosted::tickOnce);
+        } else {
+            this.threads.newThread(hosted::runToEnd).start();
+        }
+        return hosted;
+    }
+
+    /**
+     * The number of sessions started and not yet over.
+     *
+     * @return the number of running sessions
+     */
+    public int runningCount() {
+        return this.running.size();
+    }
+
+    /**
+     * Cancels every running session and releases the workers. No session can
+     * be started afterwards.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.running.forEach(HostedSession::cancel);
+        this.pool.ifPresent(ScheduledExecutorService::shutdown);
+    }
+
+    /**
+     * How the ticks of a session are paced.
+     */
+    public enum Pacing {
+
+        /**
+         * Ticks run back to back, as fast as the host allows.
+         */
+        UNLIMITED,
+
+        /**
+         * Ticks run one step of wall clock time apart.
+         */
+        REAL_TIME
+    }
+
+    /**
+     * A session along with the state of its run.
+     */
+    private final class HostedSession implements SessionHandle {
+
+        private final GameSession session;
+        private final Function<GameSession, GameLoop> setup;
+        private final long stepMillis;
+        private final long stepNanos;
+        private final Pacing pacing;
+        private final AtomicLong ticks;
+        private final CompletableFuture<Long> completion;
+        private Optional<GameLoop> loop;
+        private long deadline;
+        private volatile boolean cancelled;
+
+        HostedSession(final GameSession session, final Function<GameSession, GameLoop> setup,
+                final long stepMillis, final Pacing pacing) {
+            this.session = session;
+            this.setup = setup;
+            this.stepMillis = stepMillis;
+            this.stepNanos = TimeUnit.MILLISECONDS.toNanos(stepMillis);
+            this.pacing = pacing;
+            this.ticks = new AtomicLong();
+            this.completion = new CompletableFuture<>();
+            this.loop = Optional.empty();
+        }
+
+        @Override
+        public GameSession session() {
+            return this.session;
+        }
+
+        @Override
+        public long ticks() {
+            return this.ticks.get();
+        }
+
+        @Override
+        public CompletableFuture<Long> completion() {
+            return this.completion;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Runs the session on the calling thread until it is over.
+         */
+        void runToEnd() {
+            while (this.step()) {
+                if (this.pacing == Pacing.REAL_TIME) {
+                    long remaining = this.deadline - System.nanoTime();
+                    while (remaining > 0 && !this.cancelled) {
+                        LockSupport.parkNanos(this, remaining);
+                        remaining = this.deadline - System.nanoTime();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Runs a single tick on a worker, then queues the next one.
+         */
+        void tickOnce() {
+            if (this.step()) {
+                final ScheduledExecutorService executor = SessionHost.this.pool.get();
+                try {
+                    if (this.pacing == Pacing.REAL_TIME) {
+                        executor.schedule(this::tickOnce, this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    } else {
+                        executor.execute(this::tickOnce);
+                    }
+                } catch (RejectedExecutionException e) {
+                    // the host was closed meanwhile
+                    this.complete();
+                }
+            }
+        }
+
+        /**
+         * Sets the session up if needed, then runs a tick.
+         *
+         * @return {@code true} if the session goes on
+         */
+        private boolean step() {
+            if (this.cancelled || this.session.isFinished()) {
+                this.complete();
+                return false;
+            }
+            try {
+                if (this.loop.isEmpty()) {
+                    this.session.run(() -> this.loop = Optional.of(this.setup.apply(this.session)));
+                    this.deadline = System.nanoTime();
+                } else {
+                    this.session.run(() -> this.loop.get().loop(this.stepMillis));
+                    this.ticks.incrementAndGet();
+                }
+            } catch (RuntimeException e) { //NOPMD
+                SessionHost.this.running.remove(this);
+                this.completion.completeExceptionally(e);
+                return false;
+            }
+            this.deadline += this.stepNanos;
+            return true;
+        }
+
+        /**
+         * Completes the session with the number of ticks run, no longer
+         * counting it as running by then.
+         */
+        private void complete() {
+            SessionHost.this.running.remove(this);
+            this.completion.complete(this.ticks.get());
+        }
+    }
+}
@@ -16,8 +16,8 @@ import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
 import com.project.paradoxplatformer.model.trigger.Triggerable;
+import com.project.paradoxplatformer.model.world.ReadOnlyWorldWrapper;
 import com.project.paradoxplatformer.model.world.WordBuilderImpl;
-import com.project.paradoxplatformer.model.world.WorldImpl;
 import com.project.paradoxplatformer.model.world.api.World;
 import com.project.paradoxplatformer.model.world.api.WorldBuilder;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
@@ -34,6 +34,7 @@ public final class GameModelImpl implements GameModel {
         private final LevelDTO packedData;
         private WorldBuilder worldBuilder;
         private World world;
+        private World worldView;
         private final ModelMappingFactory modelFactory;
 
         /**
@@ -86,28 +87,30 @@ public final class GameModelImpl implements GameModel {
                                 .toList()
                                 .toArray(new Trigger[0]);
 
-                this.addObstaclesToTrigger(obstacles, triggers);
-
                 this.world = this.worldBuilder
                                 .addBounds(new Dimension(packedData.getWidth(), packedData.getHeight()))
                                 .addPlayer(player)
                                 .addObstacle(obstacles)
                                 .addTrigger(triggers)
                                 .build();
+                this.addObstaclesToTrigger(triggers);
+                this.worldView = new ReadOnlyWorldWrapper(this.world);
         }
 
         /**
-         * Returns a defensive copy of the current game world.
+         * Returns a read-only view of the current game world.
          * <p>
-         * Due to security reasons, the returned world is a copy of the internal world
-         * state.
+         * Due to security reasons, the returned world can not be changed; being a
+         * view, it copies nothing and reflects the changes made through
+         * {@link #actionOnWorld(Consumer)}. Use {@link World#snapshot()} for a
+         * stable copy.
          * </p>
          * 
-         * @return a defensive copy of the current game world
+         * @return a read-only view of the current game world
          */
         @Override
         public World getWorld() {
-                return new WorldImpl(this.world);
+                return Optional.of(this.worldView).get();
         }
 
         /**
@@ -151,16 +154,14 @@ public final class GameModelImpl implements GameModel {
                                                                                 + attribute));
         }
 
-        private void addObstaclesToTrigger(final Obstacle[] obstacles, final Trigger[] triggers) {
+        private void addObstaclesToTrigger(final Trigger[] triggers) {
                 Arrays.stream(triggers)
                                 .filter(t -> t.getTriggerableID().isPresent())
-                                .forEach(t -> t.addObstacle(this.findObstacle(t.getTriggerableID().get(), obstacles)));
+                                .forEach(t -> t.addObstacle(this.findObstacle(t.getTriggerableID().get())));
         }
 
-        private Triggerable findObstacle(final int id, final Obstacle[] obstacles) {
-                return Arrays.stream(obstacles)
-                                .filter(o -> o.getID() == id)
-                                .findFirst()
+        private Triggerable findObstacle(final int id) {
+                return this.world.obstacle(id)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Associated obstacle id not found in the stream of obstacles"));
         }
@@ -1,6 +1,7 @@
 package com.project.paradoxplatformer.model.effect.abstracts;
 
 import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.managers.EffectCommandBuffer;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 
 import java.util.Optional;
@@ -17,6 +18,9 @@ import java.util.concurrent.CompletableFuture;
  * Subclasses are required to define how an effect is applied to individual game
  * objects
  * by implementing the {@link #applyToGameObject(CollidableGameObject)} method.
+ * Mutations of game objects should go through {@link #defer(Runnable)}, so that
+ * they run on the simulation thread once collisions are resolved; only slow
+ * work unrelated to the game state should use {@link #runAsync(Runnable)}.
  */
 public abstract class AbstractEffect implements Effect {
 
@@ -88,4 +92,28 @@ public abstract class AbstractEffect implements Effect {
      *         application to the specified game object.
      */
     protected abstract CompletableFuture<Void> applyToGameObject(CollidableGameObject gameObject);
+
+    /**
+     * Performs a mutation on the simulation thread, deferring it to the end of
+     * the collision resolution if one is in progress.
+     *
+     * @param action the mutation to perform
+     * @return a {@link CompletableFuture} completing once the mutation is done
+     * @see EffectCommandBuffer
+     */
+    protected static CompletableFuture<Void> defer(final Runnable action) {
+        return EffectCommandBuffer.submit(action);
+    }
+
+    /**
+     * Performs some work on the common pool, without waiting for it. Meant only
+     * for slow work which does not touch game objects, since it runs
+     * concurrently with the game loop.
+     *
+     * @param action the work to perform
+     * @return a {@link CompletableFuture} completing once the work is done
+     */
+    protected static CompletableFuture<Void> runAsync(final Runnable action) {
+        return CompletableFuture.runAsync(action);
+    }
 }
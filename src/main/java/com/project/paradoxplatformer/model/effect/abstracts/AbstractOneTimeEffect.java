@@ -3,8 +3,8 @@ package com.project.paradoxplatformer.model.effect.abstracts;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.effect.api.OneTimeEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
@@ -38,6 +38,6 @@ public abstract class AbstractOneTimeEffect extends AbstractEffect implements On
     protected void cleanup(final Optional<? extends CollidableGameObject> self) {
 //        System.out.println("One time effect is in clean up mode.");
         // Publish an event to remove the object after the effect is applied
-        EventManager.getInstance().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, self);
+        GameSession.current().events().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, self);
     }
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Represents an effect that can be applied to game objects. Effects may modify
@@ -45,6 +46,19 @@ public interface Effect {
      */
     boolean isOneTimeEffect();
 
+    /**
+     * Determines if this effect is applied in the given phase of a contact.
+     * By default effects are only applied when a contact begins; effects which
+     * must hold for as long as the contact lasts, such as blocking the player,
+     * also subscribe to {@link ContactPhase#STAY}.
+     * 
+     * @param phase the phase of the contact
+     * @return true if this effect is applied in the given phase; false otherwise.
+     */
+    default boolean appliesOn(final ContactPhase phase) {
+        return phase == ContactPhase.ENTER;
+    }
+
     /**
      * Recreates a new instance of this effect. The default implementation returns
      * the current instance, which is suitable for effects that do not need to be
@@ -6,6 +6,7 @@ import java.util.function.Supplier;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Interface for handling effects in the game. Provides methods for adding,
@@ -58,6 +59,19 @@ public interface EffectHandler {
      */
     CompletableFuture<Void> applyEffects(CollidableGameObject source, CollidableGameObject target);
 
+    /**
+     * Applies to the target object the effects subscribed to the given phase of
+     * its contact with the source, based on its collision type and specific
+     * instance.
+     *
+     * @param source the source game object
+     * @param target the target game object
+     * @param phase  the phase of the contact between the two objects
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    CompletableFuture<Void> applyEffects(CollidableGameObject source, CollidableGameObject target,
+            ContactPhase phase);
+
     /**
      * Retrieves all effects associated with a specific game object, combining both
      * type and object-specific effects.
@@ -75,4 +89,11 @@ public interface EffectHandler {
      * @param type   the collision type
      */
     void reset(CollidableGameObject object, CollisionType type);
+
+    /**
+     * Freezes the effects registered so far into a dispatch table, so that
+     * applying effects no longer searches or allocates. Registering effects
+     * afterwards compiles the table again.
+     */
+    void compile();
 }
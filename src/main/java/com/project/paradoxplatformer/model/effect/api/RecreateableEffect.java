@@ -12,4 +12,13 @@ public interface RecreateableEffect extends Effect {
      */
     @Override
     Effect recreate();
+
+    /**
+     * Restores the state this effect had when created, so that the same instance
+     * can be applied again instead of a {@link #recreate() recreated} one.
+     * Called whenever the effect is recycled at the end of a contact; does
+     * nothing by default, for effects without state.
+     */
+    default void resetState() {
+    }
 }
@@ -2,13 +2,12 @@ package com.project.paradoxplatformer.model.effect.impl;
 
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractOneTimeEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
-import com.project.paradoxplatformer.view.manager.ViewNavigator;
 
 /**
  * An effect that changes the game level when applied.
@@ -41,11 +40,12 @@ public class ChangeLevelEffect extends AbstractOneTimeEffect {
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
         //To ensure that this operation is done only one time
         if (isNew) {
+            final GameSession session = GameSession.current();
             // Notify the event manager to stop the current view
-            EventManager.getInstance().publish(GameEventType.STOP_VIEW, PageIdentifier.GAME, level);
+            session.events().publish(GameEventType.STOP_VIEW, PageIdentifier.GAME, level);
 
             // Open the new view associated with the specified level
-            ViewNavigator.getInstance().openView(PageIdentifier.GAME, level);
+            session.navigator().openView(PageIdentifier.GAME, level);
             isNew = false;
         }
         return CompletableFuture.completedFuture(null); // Return a completed future
@@ -3,8 +3,8 @@ package com.project.paradoxplatformer.model.effect.impl;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractPlayerEffect;
 import com.project.paradoxplatformer.model.entity.CollectableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
@@ -24,7 +24,7 @@ public final class CollectingEffect extends AbstractPlayerEffect {
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             Optional.of(gameObject)
                     .filter(CollectableGameObject.class::isInstance)
                     .filter(g -> getPlayer().isPresent())
@@ -39,7 +39,7 @@ public final class CollectingEffect extends AbstractPlayerEffect {
     @Override
     protected CompletableFuture<Void> applyToSelf(final Optional<? extends CollidableGameObject> self) {
         return super.applyToSelf(self)
-                .thenAccept(obj -> EventManager.getInstance()
+                .thenAccept(obj -> GameSession.current().events()
                         .publish(GameEventType.REMOVE_OBJECT, PageIdentifier.GAME, self));
     }
 
@@ -17,7 +17,7 @@ public final class DeathEffect extends AbstractOneTimeEffect {
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             // System.out.println(gameObject);
             DeathObstacleCollisionCondition.setDeath(true);
         });
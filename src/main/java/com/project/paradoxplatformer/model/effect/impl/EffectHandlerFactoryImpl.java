@@ -99,19 +99,22 @@ public final class EffectHandlerFactoryImpl implements EffectHandlerFactory {
     }
 
     /**
-     * Creates an EffectHandler based on the specified level.
+     * Creates an EffectHandler based on the specified level, compiled for
+     * dispatch.
      *
      * @param level the level for which to create the EffectHandler
      * @return an EffectHandler instance specific to the level
      */
     @Override
     public EffectHandler getEffectHandlerForLevel(final Level level) {
-        return switch (level) {
+        final EffectHandler handler = switch (level) {
             case LEVEL_ONE -> levelOneEffectHandler();
             case LEVEL_TWO -> levelTwoEffectHandler();
             case LEVEL_THREE -> levelThreeEffectHandler();
             case LEVEL_FOUR -> levelFourEffectHandler();
             default -> defaultEffectHandler();
         };
+        handler.compile();
+        return handler;
     }
 }
@@ -1,7 +1,5 @@
 package com.project.paradoxplatformer.model.effect.impl;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -10,10 +8,12 @@ import com.project.paradoxplatformer.model.effect.api.Effect;
 import com.project.paradoxplatformer.model.effect.api.EffectHandler;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffectsBuilder;
+import com.project.paradoxplatformer.model.effect.managers.EffectDispatchTable;
 import com.project.paradoxplatformer.model.effect.managers.ObjectEffectsManager;
 import com.project.paradoxplatformer.model.effect.managers.TypeEffectsManager;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Manages the application and handling of effects in the game.
@@ -25,6 +25,7 @@ public final class EffectHandlerImpl implements EffectHandler {
 
         private final TypeEffectsManager typeEffectsManager = new TypeEffectsManager();
         private final ObjectEffectsManager objectEffectsManager = new ObjectEffectsManager();
+        private Optional<EffectDispatchTable> dispatchTable = Optional.empty();
 
         /**
          * Adds a collision effect for a specific collision type.
@@ -35,6 +36,7 @@ public final class EffectHandlerImpl implements EffectHandler {
         @Override
         public void addCollisionEffectsForType(final CollisionType type, final Supplier<Effect> effectSupplier) {
                 typeEffectsManager.addEffects(type, effectSupplier);
+                recompileIfFrozen();
         }
 
         /**
@@ -46,6 +48,7 @@ public final class EffectHandlerImpl implements EffectHandler {
         @Override
         public void addCollisionEffectsForType(final CollisionType type, final ChainOfEffects newChain) {
                 typeEffectsManager.addEffects(type, newChain);
+                recompileIfFrozen();
         }
 
         /**
@@ -59,6 +62,7 @@ public final class EffectHandlerImpl implements EffectHandler {
         public void addCollisionEffectsForObject(final CollisionType type, final CollidableGameObject object,
                         final Supplier<Effect> effectSupplier) {
                 objectEffectsManager.addEffects(type, object, effectSupplier);
+                recompileIfFrozen();
         }
 
         /**
@@ -72,6 +76,7 @@ public final class EffectHandlerImpl implements EffectHandler {
         public void addCollisionEffectsForObject(final CollisionType type, final CollidableGameObject object,
                         final ChainOfEffects newChain) {
                 objectEffectsManager.addEffects(type, object, newChain);
+                recompileIfFrozen();
         }
 
         /**
@@ -88,16 +93,36 @@ public final class EffectHandlerImpl implements EffectHandler {
 
                 // Apply type-based effects
                 final CompletableFuture<Void> typeEffectsFuture = applyEffects(
-                                typeEffectsManager.getEffects(target.getCollisionType()), source, target);
+                                typeEffects(target.getCollisionType()), source, target);
 
                 // Apply object-specific effects
                 final CompletableFuture<Void> objectEffectsFuture = applyEffects(
-                                objectEffectsManager.getEffects(target.getCollisionType(), target), source, target);
+                                objectEffects(target.getCollisionType(), target), source, target);
 
                 // Return a future that completes when both type and object effects are applied
                 return CompletableFuture.allOf(typeEffectsFuture, objectEffectsFuture);
         }
 
+        /**
+         * Applies to the target object the effects subscribed to the given phase of
+         * its contact with the source, based on its collision type and specific
+         * instance.
+         *
+         * @param source the source game object
+         * @param target the target game object
+         * @param phase  the phase of the contact between the two objects
+         * @return a CompletableFuture that completes when all effects have been applied
+         */
+        @Override
+        public CompletableFuture<Void> applyEffects(final CollidableGameObject source,
+                        final CollidableGameObject target, final ContactPhase phase) {
+                final CompletableFuture<Void> typeEffectsFuture = typeEffects(target.getCollisionType())
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase);
+                final CompletableFuture<Void> objectEffectsFuture = objectEffects(target.getCollisionType(), target)
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase);
+                return CompletableFuture.allOf(typeEffectsFuture, objectEffectsFuture);
+        }
+
         /**
          * Applies a chain of effects sequentially to the source and target objects.
          *
@@ -125,11 +150,10 @@ public final class EffectHandlerImpl implements EffectHandler {
                 final ChainOfEffectsBuilder combinedChain = ChainOfEffectsBuilder.builder();
 
                 // Add type-based effects
-                combinedChain.addEffects(typeEffectsManager.getEffects(object.getCollisionType()).getEffects());
+                combinedChain.addEffects(typeEffects(object.getCollisionType()).getEffects());
 
                 // Add object-specific effects
-                combinedChain.addEffects(
-                                objectEffectsManager.getEffects(object.getCollisionType(), object).getEffects());
+                combinedChain.addEffects(objectEffects(object.getCollisionType(), object).getEffects());
 
                 return combinedChain.build();
         }
@@ -137,47 +161,75 @@ public final class EffectHandlerImpl implements EffectHandler {
         /**
          * Resets the effects associated with a specific game object and collision type,
          * recreating effects if possible.
+         * <p>
+         * One-time effects are dropped, while recreatable effects are recycled in
+         * place; chains are only rebuilt when one of their effects is dropped or
+         * replaced.
+         * </p>
          *
          * @param object the game object
          * @param type   the collision type
          */
         @Override
         public void reset(final CollidableGameObject object, final CollisionType type) {
-                objectEffectsManager.replaceEffects(type, object,
-                                ChainOfEffectsBuilder.builder().addEffects(recreateIfPossible(
-                                                objectEffectsManager.getEffects(type, object).getEffects())).build());
+                final ChainOfEffects objectChain = objectEffectsManager.getEffects(type, object);
+                final ChainOfEffects recycledObjectChain = objectChain.recycled();
+                if (recycledObjectChain != objectChain) {
+                        objectEffectsManager.replaceEffects(type, object, recycledObjectChain);
+                        dispatchTable.ifPresent(table -> table.setObjectEffects(type, object, recycledObjectChain));
+                }
 
-                typeEffectsManager.replaceEffects(type,
-                                ChainOfEffectsBuilder.builder().addEffects(recreateIfPossible(
-                                                typeEffectsManager.getEffects(type).getEffects())).build());
+                final ChainOfEffects typeChain = typeEffectsManager.getEffects(type);
+                final ChainOfEffects recycledTypeChain = typeChain.recycled();
+                if (recycledTypeChain != typeChain) {
+                        typeEffectsManager.replaceEffects(type, recycledTypeChain);
+                        dispatchTable.ifPresent(table -> table.setTypeEffects(type, recycledTypeChain));
+                }
         }
 
         /**
-         * Attempts to recreate effects if they support recreation, returning a list of
-         * recreated effects.
+         * Freezes the effects registered so far into a dispatch table, so that
+         * applying effects no longer searches or allocates. Registering effects
+         * afterwards compiles the table again.
+         */
+        @Override
+        public void compile() {
+                dispatchTable = Optional.of(EffectDispatchTable.compile(typeEffectsManager, objectEffectsManager));
+        }
+
+        /**
+         * Compiles the dispatch table again if it was already compiled.
+         */
+        private void recompileIfFrozen() {
+                if (dispatchTable.isPresent()) {
+                        compile();
+                }
+        }
+
+        /**
+         * Retrieves the effects of a collision type, from the dispatch table if
+         * compiled.
          *
-         * @param effects the list of effects to attempt to recreate
-         * @return a list of recreated effects
+         * @param type the collision type
+         * @return the chain of effects of the collision type
          */
-        private List<Effect> recreateIfPossible(final List<? extends Effect> effects) {
-                return effects.stream()
-                                .map(this::tryRecreate)
-                                .flatMap(Optional::stream)
-                                .toList();
+        private ChainOfEffects typeEffects(final CollisionType type) {
+                return dispatchTable.isPresent()
+                                ? dispatchTable.get().getTypeEffects(type)
+                                : typeEffectsManager.getEffects(type);
         }
 
         /**
-         * Attempts to invoke the "recreate" method on an effect, if it exists.
+         * Retrieves the effects of a game object, from the dispatch table if
+         * compiled.
          *
-         * @param effect the effect to attempt to recreate
-         * @return an Optional containing the recreated effect, or an empty Optional if
-         *         recreation failed
+         * @param type   the collision type
+         * @param object the game object
+         * @return the chain of effects of the game object
          */
-        private Optional<Effect> tryRecreate(final Effect effect) {
-                try {
-                        return Optional.ofNullable((Effect) effect.getClass().getMethod("recreate").invoke(effect));
-                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                        return Optional.empty();
-                }
+        private ChainOfEffects objectEffects(final CollisionType type, final CollidableGameObject object) {
+                return dispatchTable.isPresent()
+                                ? dispatchTable.get().getObjectEffects(type, object)
+                                : objectEffectsManager.getEffects(type, object);
         }
 }
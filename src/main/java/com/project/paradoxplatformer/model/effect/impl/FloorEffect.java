@@ -6,6 +6,7 @@ import com.project.paradoxplatformer.model.effect.abstracts.AbstractRecreatableE
 import com.project.paradoxplatformer.model.effect.api.RecreateableEffect;
 import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Effect applied to prevent from falling upon a ground level (or a platfrom).
@@ -20,12 +21,24 @@ public final class FloorEffect extends AbstractRecreatableEffect {
         return this;
     }
 
+    /**
+     * Applied both when the contact begins and while it lasts, since
+     * the player has to be held on the ground for as long as it stands on it.
+     *
+     * @param phase the phase of the contact
+     * @return true unless the contact is ending
+     */
+    @Override
+    public boolean appliesOn(final ContactPhase phase) {
+        return phase != ContactPhase.EXIT;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             if (gameObject instanceof ControllableObject controllableObject) {
                 controllableObject.stopFall();
             }
@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractPlayerEffect;
 import com.project.paradoxplatformer.model.obstacles.Wall;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 import com.project.paradoxplatformer.utils.geometries.physic.Direction;
 
 /**
@@ -16,12 +17,24 @@ public final class HorizontalBlockEffect extends AbstractPlayerEffect {
 
     private static final double TOLERANCE = 1.d;
 
+    /**
+     * Applied both when the contact begins and while it lasts, since
+     * the player has to be pushed back for as long as it walks against the wall.
+     *
+     * @param phase the phase of the contact
+     * @return true unless the contact is ending
+     */
+    @Override
+    public boolean appliesOn(final ContactPhase phase) {
+        return phase != ContactPhase.EXIT;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             Optional.of(gameObject)
                     .filter(Wall.class::isInstance)
                     .filter(g -> getPlayer().isPresent())
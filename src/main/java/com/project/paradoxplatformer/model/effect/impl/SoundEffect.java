@@ -63,6 +63,15 @@ public final class SoundEffect extends AbstractRecreatableEffect {
         hasPlayed = false;
     }
 
+    /**
+     * Resets the sound effect so that the sound can be played again, once
+     * recycled.
+     */
+    @Override
+    public void resetState() {
+        this.reset();
+    }
+
     /**
      * Creates a new instance of this SoundEffect, effectively recreating it.
      *
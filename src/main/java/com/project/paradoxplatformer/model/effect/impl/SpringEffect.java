@@ -25,7 +25,7 @@ public final class SpringEffect extends AbstractRecreatableEffect {
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             if (gameObject instanceof ControllableObject) {
                 ((ControllableObject) gameObject).jump();
             }
@@ -67,7 +67,7 @@ public final class TransportEffect extends AbstractOneTimeEffect {
      */
     @Override
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
-        return CompletableFuture.runAsync(() -> {
+        return defer(() -> {
             if (gameObject instanceof PlayerModel) {
                 ((PlayerModel) gameObject).setDisplacement(this.destination);
             } else {
@@ -1,12 +1,17 @@
 package com.project.paradoxplatformer.model.effect.managers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.api.RecreateableEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Represents a chain of effects to be applied sequentially to a target object.
@@ -14,6 +19,8 @@ import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
  * need to be applied to involved objects.
  */
 public class ChainOfEffects {
+    private static final ChainOfEffects EMPTY = new ChainOfEffects(List.of());
+
     private final List<Effect> effects;
 
     /**
@@ -49,6 +56,20 @@ public class ChainOfEffects {
         return applySequentially(target, self);
     }
 
+    /**
+     * Applies the effects of the chain subscribed to the given contact phase to
+     * both target and self objects asynchronously, skipping the others.
+     *
+     * @param target the optional target object to apply effects to
+     * @param self   the optional self object to apply effects to
+     * @param phase  the phase of the contact the effects are applied in
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    public CompletableFuture<Void> applyToBoth(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final ContactPhase phase) {
+        return applySequentially(target, self, effect -> effect.appliesOn(phase));
+    }
+
     /**
      * Helper method to apply effects sequentially to target and self.
      *
@@ -58,15 +79,33 @@ public class ChainOfEffects {
      */
     private CompletableFuture<Void> applySequentially(final Optional<? extends CollidableGameObject> target,
             final Optional<? extends CollidableGameObject> self) {
+        return applySequentially(target, self, effect -> true);
+    }
+
+    /**
+     * Helper method to apply the accepted effects sequentially to target and self.
+     *
+     * @param target the optional target object
+     * @param self   the optional self object
+     * @param filter the effects to apply
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    private CompletableFuture<Void> applySequentially(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final Predicate<Effect> filter) {
         if (effects.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
 
-        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        // Effects defer their mutations in submission order, so applying them one
+        // after the other keeps them sequential without chaining their futures
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[effects.size()];
+        int applied = 0;
         for (final Effect effect : effects) {
-            future = future.thenCompose(v -> effect.apply(target, self));
+            if (filter.test(effect)) {
+                futures[applied++] = effect.apply(target, self);
+            }
         }
-        return future;
+        return CompletableFuture.allOf(Arrays.copyOf(futures, applied));
     }
 
     /**
@@ -84,6 +123,47 @@ public class ChainOfEffects {
         return new ChainOfEffects(effects);
     }
 
+    /**
+     * Recycles the effects of this chain once a contact is over: one-time effects
+     * are dropped, recreatable ones have their state reset and are kept, and any
+     * other effect is recreated.
+     * As long as no effect is dropped or replaced, this chain is returned as it
+     * is and nothing is allocated.
+     *
+     * @return this chain, or a new one if some effect was dropped or replaced
+     */
+    public ChainOfEffects recycled() {
+        List<Effect> kept = null;
+        for (int i = 0; i < effects.size(); i++) {
+            final Effect effect = effects.get(i);
+            final Effect next;
+            if (effect.isOneTimeEffect()) {
+                next = null;
+            } else if (effect instanceof RecreateableEffect recreatable) {
+                recreatable.resetState();
+                next = recreatable;
+            } else {
+                next = effect.recreate();
+            }
+            if (next != effect && kept == null) {
+                kept = new ArrayList<>(effects.subList(0, i));
+            }
+            if (kept != null && next != null) {
+                kept.add(next);
+            }
+        }
+        return kept == null ? this : new ChainOfEffects(kept);
+    }
+
+    /**
+     * Returns the shared chain without effects.
+     *
+     * @return an empty ChainOfEffects instance
+     */
+    public static ChainOfEffects empty() {
+        return EMPTY;
+    }
+
     /**
      * Returns the list of effects in this chain.
      *
@@ -0,0 +1,123 @@
+package com.project.paradoxplatformer.model.effect.managers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A frame-local buffer of the mutations requested by effects.
+ * <p>
+ * While a buffer {@link #record(Runnable) records} a phase, such as collision
+ * resolution, effects {@link #submit(Runnable) submitting} work on the same
+ * thread have it queued rather than executed, so that no game object changes
+ * while collisions are still being resolved. The loop then {@link #drain()
+ * drains} the buffer at a defined point of the frame, running every command in
+ * submission order on its own thread. Outside of a recorded phase commands run
+ * immediately on the calling thread.
+ * </p>
+ * <p>
+ * Buffers are bound to the thread recording them, so simulations running on
+ * different threads never see each other's commands. A buffer is not meant to
+ * be shared between threads.
+ * </p>
+ */
+public final class EffectCommandBuffer {
+
+    private static final ThreadLocal<EffectCommandBuffer> RECORDING = new ThreadLocal<>();
+
+    private final Deque<Command> commands;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public EffectCommandBuffer() {
+        this.commands = new ArrayDeque<>();
+    }
+
+    /**
+     * Runs the given phase, queueing in this buffer every command submitted
+     * meanwhile on the calling thread.
+     *
+     * @param phase the phase whose commands are to be deferred
+     */
+    public void record(final Runnable phase) {
+        final EffectCommandBuffer previous = RECORDING.get();
+        RECORDING.set(this);
+        try {
+            phase.run();
+        } finally {
+            if (previous == null) {
+                RECORDING.remove();
+            } else {
+                RECORDING.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs every queued command in submission order, completing their futures.
+     * Commands are not recorded while draining: those submitted by a command,
+     * or by work chained on its future, run right away, nested within it.
+     *
+     * @return the number of commands run
+     */
+    public int drain() {
+        int count = 0;
+        Command command = this.commands.poll();
+        while (command != null) {
+            command.run();
+            count++;
+            command = this.commands.poll();
+        }
+        return count;
+    }
+
+    /**
+     * The number of commands waiting to be drained.
+     *
+     * @return the number of queued commands
+     */
+    public int size() {
+        return this.commands.size();
+    }
+
+    /**
+     * Submits a command, queueing it in the buffer recording on the calling
+     * thread if any, or running it right away otherwise.
+     *
+     * @param action the mutation to perform
+     * @return a future completing once the command has run
+     */
+    public static CompletableFuture<Void> submit(final Runnable action) {
+        final EffectCommandBuffer buffer = RECORDING.get();
+        final Command command = new Command(action);
+        if (buffer == null) {
+            command.run();
+        } else {
+            buffer.commands.add(command);
+        }
+        return command.done;
+    }
+
+    /**
+     * A queued mutation, along with the future completed once it has run.
+     */
+    private static final class Command {
+        private final Runnable action;
+        private final CompletableFuture<Void> done;
+
+        Command(final Runnable action) {
+            this.action = action;
+            this.done = new CompletableFuture<>();
+        }
+
+        void run() {
+            try {
+                this.action.run();
+                this.done.complete(null);
+            } catch (RuntimeException e) {
+                this.done.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.project.paradoxplatformer.model.effect.managers;
+
+import java.util.Arrays;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+
+/**
+ * A frozen view of the effects registered in a {@link TypeEffectsManager} and
+ * an {@link ObjectEffectsManager}, laid out for lookups on the collision path.
+ * <p>
+ * Chains of collision types are kept in an array indexed by
+ * {@link CollisionType#ordinal()}, and chains of single objects in an
+ * open-addressing table per collision type, keyed by object id; a lookup is
+ * then an array load, or a short probe, and never allocates. The table does not
+ * follow later changes of the managers: they are to be either compiled again or
+ * patched through {@link #setTypeEffects} and {@link #setObjectEffects}.
+ * </p>
+ */
+public final class EffectDispatchTable {
+
+    private static final CollisionType[] TYPES = CollisionType.values();
+
+    private final ChainOfEffects[] typeChains;
+    private final ObjectChains[] objectChains;
+
+    private EffectDispatchTable() {
+        this.typeChains = new ChainOfEffects[TYPES.length];
+        Arrays.fill(this.typeChains, ChainOfEffects.empty());
+        this.objectChains = new ObjectChains[TYPES.length];
+    }
+
+    /**
+     * Compiles the effects currently registered in the given managers.
+     *
+     * @param typeEffects   the effects of collision types
+     * @param objectEffects the effects of single objects
+     * @return the compiled table
+     */
+    public static EffectDispatchTable compile(final TypeEffectsManager typeEffects,
+            final ObjectEffectsManager objectEffects) {
+        final EffectDispatchTable table = new EffectDispatchTable();
+        for (final CollisionType type : TYPES) {
+            table.setTypeEffects(type, typeEffects.getEffects(type));
+            objectEffects.getObjectEffects(type).forEach((object, chain) -> table.setObjectEffects(type, object, chain));
+        }
+        return table;
+    }
+
+    /**
+     * Retrieves the chain of effects of the specified collision type.
+     *
+     * @param type the collision type
+     * @return the chain of effects, empty if none was registered
+     */
+    public ChainOfEffects getTypeEffects(final CollisionType type) {
+        return this.typeChains[type.ordinal()];
+    }
+
+    /**
+     * Retrieves the chain of effects of the specified game object for the
+     * specified collision type.
+     *
+     * @param type   the collision type
+     * @param object the game object
+     * @return the chain of effects, empty if none was registered
+     */
+    public ChainOfEffects getObjectEffects(final CollisionType type, final CollidableGameObject object) {
+        final ObjectChains chains = this.objectChains[type.ordinal()];
+        return chains == null ? ChainOfEffects.empty() : chains.get(object);
+    }
+
+    /**
+     * Replaces the chain of effects of the specified collision type.
+     *
+     * @param type  the collision type
+     * @param chain the new chain of effects
+     */
+    public void setTypeEffects(final CollisionType type, final ChainOfEffects chain) {
+        this.typeChains[type.ordinal()] = chain;
+    }
+
+    /**
+     * Replaces the chain of effects of the specified game object for the
+     * specified collision type.
+     *
+     * @param type   the collision type
+     * @param object the game object
+     * @param chain  the new chain of effects
+     */
+    public void setObjectEffects(final CollisionType type, final CollidableGameObject object,
+            final ChainOfEffects chain) {
+        final int index = type.ordinal();
+        if (this.objectChains[index] == null) {
+            if (chain.getEffects().isEmpty()) {
+                return;
+            }
+            this.objectChains[index] = new ObjectChains();
+        }
+        this.objectChains[index].put(object, chain);
+    }
+
+    /**
+     * An open-addressing table from game objects to their chains, probed by
+     * object id and matched by identity, so that objects sharing an id are still
+     * told apart.
+     */
+    private static final class ObjectChains {
+        private static final int INITIAL_CAPACITY = 8;
+        private static final int HASH_MULTIPLIER = 0x9E37_79B9;
+
+        private int[] ids;
+        private CollidableGameObject[] objects;
+        private ChainOfEffects[] chains;
+        private int size;
+
+        ObjectChains() {
+            this.allocate(INITIAL_CAPACITY);
+        }
+
+        ChainOfEffects get(final CollidableGameObject object) {
+            final int id = idOf(object);
+            final int mask = this.objects.length - 1;
+            for (int slot = slotOf(id, mask); this.objects[slot] != null; slot = slot + 1 & mask) {
+                if (this.ids[slot] == id && this.objects[slot] == object) {
+                    return this.chains[slot];
+                }
+            }
+            return ChainOfEffects.empty();
+        }
+
+        void put(final CollidableGameObject object, final ChainOfEffects chain) {
+            final int id = idOf(object);
+            final int mask = this.objects.length - 1;
+            int slot = slotOf(id, mask);
+            while (this.objects[slot] != null) {
+                if (this.ids[slot] == id && this.objects[slot] == object) {
+                    this.chains[slot] = chain;
+                    return;
+                }
+                slot = slot + 1 & mask;
+            }
+            this.ids[slot] = id;
+            this.objects[slot] = object;
+            this.chains[slot] = chain;
+            this.size++;
+            if (2 * this.size > this.objects.length) {
+                this.grow();
+            }
+        }
+
+        private void grow() {
+            final int[] oldIds = this.ids;
+            final CollidableGameObject[] oldObjects = this.objects;
+            final ChainOfEffects[] oldChains = this.chains;
+            this.allocate(2 * oldObjects.length);
+            for (int i = 0; i < oldObjects.length; i++) {
+                if (oldObjects[i] != null) {
+                    int slot = slotOf(oldIds[i], this.objects.length - 1);
+                    while (this.objects[slot] != null) {
+                        slot = slot + 1 & this.objects.length - 1;
+                    }
+                    this.ids[slot] = oldIds[i];
+                    this.objects[slot] = oldObjects[i];
+                    this.chains[slot] = oldChains[i];
+                }
+            }
+        }
+
+        private void allocate(final int capacity) {
+            this.ids = new int[capacity];
+            this.objects = new CollidableGameObject[capacity];
+            this.chains = new ChainOfEffects[capacity];
+        }
+
+        private static int slotOf(final int id, final int mask) {
+            return id * HASH_MULTIPLIER >>> Integer.SIZE / 2 & mask;
+        }
+
+        private static int idOf(final CollidableGameObject object) {
+            return object instanceof MutableObject mutable ? mutable.getID() : System.identityHashCode(object);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.paradoxplatformer.model.effect.managers;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
@@ -81,8 +82,18 @@ public final class ObjectEffectsManager {
     public ChainOfEffects getEffects(final CollisionType type, final CollidableGameObject object) {
         // Return the chain of effects for the object and type, or an empty chain if
         // none exists
-        return objectEffectsMap.getOrDefault(type, new HashMap<>()).getOrDefault(object,
-                ChainOfEffectsBuilder.builder().build());
+        return objectEffectsMap.getOrDefault(type, Map.of()).getOrDefault(object, ChainOfEffects.empty());
+    }
+
+    /**
+     * Retrieves the chains of effects of every game object for the specified
+     * collision type.
+     *
+     * @param type the collision type
+     * @return an unmodifiable view of the chains of effects, by game object
+     */
+    public Map<CollidableGameObject, ChainOfEffects> getObjectEffects(final CollisionType type) {
+        return Collections.unmodifiableMap(objectEffectsMap.getOrDefault(type, Map.of()));
     }
 
     /**
@@ -74,7 +74,7 @@ public final class TypeEffectsManager {
      */
     public ChainOfEffects getEffects(final CollisionType type) {
         // Return the existing chain or an empty chain if none exists
-        return typeEffectsMap.getOrDefault(type, ChainOfEffectsBuilder.builder().build());
+        return typeEffectsMap.getOrDefault(type, ChainOfEffects.empty());
     }
 
     /**
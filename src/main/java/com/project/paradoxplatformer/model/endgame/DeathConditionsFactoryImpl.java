@@ -10,6 +10,7 @@ import com.project.paradoxplatformer.model.endgame.condition.FallenCondition;
 import com.project.paradoxplatformer.model.endgame.condition.OutOfMapCondition;
 import com.project.paradoxplatformer.model.endgame.condition.TimeLimitDeathCondition;
 import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -25,8 +26,26 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public class DeathConditionsFactoryImpl implements ConditionsFactory<DeathCondition> {
 
     private static final int TIME_LIMIT = 600; // Constant for time limit in seconds
+    private final Dimension bounds;
     private PlayerModel player;
 
+    /**
+     * Creates a factory for levels within the default bounds.
+     */
+    public DeathConditionsFactoryImpl() {
+        this(OutOfMapCondition.DEFAULT_BOUNDS);
+    }
+
+    /**
+     * Creates a factory for levels of the given dimension, used to tell when the
+     * player leaves the level.
+     *
+     * @param bounds the dimension of the level
+     */
+    public DeathConditionsFactoryImpl(final Dimension bounds) {
+        this.bounds = bounds;
+    }
+
     /**
      * Creates an iterator of death conditions for the specified level.
      * Each level can have unique conditions or default ones.
@@ -105,7 +124,7 @@ public class DeathConditionsFactoryImpl implements ConditionsFactory<DeathCondit
         // Player dies if health is below 0.
         conditions.add(new FallenCondition(this.player));
         conditions.add(new DeathObstacleCollisionCondition());
-        conditions.add(new OutOfMapCondition(this.player));
+        conditions.add(new OutOfMapCondition(this.player, this.bounds));
         return conditions.iterator();
     }
 
@@ -1,24 +1,26 @@
 package com.project.paradoxplatformer.model.endgame.condition;
 
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.endgame.DeathCondition;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
- * A static implementation of the DeathCondition interface that tracks
+ * An implementation of the DeathCondition interface that tracks
  * if a player is dead based on collision with a death obstacle.
+ * <p>
+ * The death state belongs to the {@link GameSession} the condition is created
+ * in, so that games running side by side never kill each other's players.
+ * </p>
  */
 public class DeathObstacleCollisionCondition implements DeathCondition {
 
-    // Static state to track if the player is dead.
-    private static boolean isDead;
+    private final GameSession session;
 
     /**
-     * Constructor initializing the death state to false.
+     * Constructor initializing the death state of the current session to false.
      */
-    @SuppressFBWarnings(value = { "ST" }, justification = "For a simply call.")
     public DeathObstacleCollisionCondition() {
-        setDeath(false);
+        this.session = GameSession.current();
+        this.session.setPlayerDead(false);
     }
 
     /**
@@ -28,11 +30,11 @@ public class DeathObstacleCollisionCondition implements DeathCondition {
      */
     @Override
     public boolean death() {
-        return isDead;
+        return this.session.isPlayerDead();
     }
 
     /**
-     * Sets the death state of the player.
+     * Sets the death state of the player in the current session.
      * This method will be called by an observer when a collision with a
      * deathObstacle occurs.
      *
@@ -40,6 +42,6 @@ public class DeathObstacleCollisionCondition implements DeathCondition {
      *             otherwise.
      */
     public static void setDeath(final boolean dead) {
-        isDead = dead;
+        GameSession.current().setPlayerDead(dead);
     }
 }
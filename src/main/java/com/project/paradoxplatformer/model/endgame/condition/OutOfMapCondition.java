@@ -2,39 +2,58 @@ package com.project.paradoxplatformer.model.endgame.condition;
 
 import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.endgame.DeathCondition;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
- * FallenCondition checks if the player's height has fallen below zero.
+ * OutOfMapCondition checks if the player has left the bounds of the level.
  */
 public class OutOfMapCondition implements DeathCondition {
 
+    /**
+     * The bounds assumed when none are given, the ones of the original levels.
+     */
+    public static final Dimension DEFAULT_BOUNDS = new Dimension(640, 360);
+
     private final PlayerModel player;
-    private static final int HIGH = 360;
-    private static final int WITH = 640;
+    private final Dimension bounds;
 
     /**
-     * Constructs a FallenCondition with the specified player model.
+     * Constructs an OutOfMapCondition with the specified player model, within
+     * the {@link #DEFAULT_BOUNDS}.
      *
-     * @param player the player model to check the health of.
+     * @param player the player model to check the position of.
      */
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "This method needs exactly the original player.")
     public OutOfMapCondition(final PlayerModel player) {
+        this(player, DEFAULT_BOUNDS);
+    }
+
+    /**
+     * Constructs an OutOfMapCondition with the specified player model, within
+     * the given bounds.
+     *
+     * @param player the player model to check the position of.
+     * @param bounds the dimension of the level.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "This method needs exactly the original player.")
+    public OutOfMapCondition(final PlayerModel player, final Dimension bounds) {
         this.player = player;
+        this.bounds = bounds;
     }
 
     /**
-     * Checks if the player's health is below zero.
+     * Checks if the player is out of the bounds of the level.
      *
-     * @return true if the player's height is below zero, false otherwise.
+     * @return true if the player has reached or crossed an edge of the level,
+     *         false otherwise.
      */
     @Override
     public boolean death() {
         return player.getPosition().y() <= 0
                 || player.getPosition().x() <= 0
-                || player.getPosition().y() >= OutOfMapCondition.HIGH
-                || player.getPosition().x() >= OutOfMapCondition.WITH;
+                || player.getPosition().y() >= this.bounds.height()
+                || player.getPosition().x() >= this.bounds.width();
     }
 
 }
@@ -1,13 +1,19 @@
 package com.project.paradoxplatformer.model.endgame.condition;
 
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.endgame.DeathCondition;
 
 /**
  * TimeLimitDeathCondition checks if the player has survived past a specific
  * time limit.
+ * <p>
+ * Time is read from the clock of the {@link GameSession} the condition is
+ * created in, so that it only flows while the game is simulated.
+ * </p>
  */
 public class TimeLimitDeathCondition implements DeathCondition {
 
+    private final GameSession session;
     private final long startTime;
     private final long timeLimit;
 
@@ -17,7 +23,8 @@ public class TimeLimitDeathCondition implements DeathCondition {
      * @param timeLimit the time limit in seconds after which the player dies.
      */
     public TimeLimitDeathCondition(final long timeLimit) {
-        this.startTime = System.currentTimeMillis();
+        this.session = GameSession.current();
+        this.startTime = this.session.elapsedMillis();
         this.timeLimit = timeLimit * 1000; // Convert seconds to milliseconds
     }
 
@@ -28,7 +35,7 @@ public class TimeLimitDeathCondition implements DeathCondition {
      */
     @Override
     public boolean death() {
-        final long elapsedTime = System.currentTimeMillis() - startTime;
+        final long elapsedTime = this.session.elapsedMillis() - startTime;
         return elapsedTime > timeLimit;
     }
 
@@ -17,6 +17,7 @@ import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 public abstract class AbstractMutableObject implements MutableObject {
 
     private final int id;
+    private int revision;
 
     /**
      * Constructs a basic mutable object with a given id.
@@ -91,4 +92,21 @@ public abstract class AbstractMutableObject implements MutableObject {
     public int getID() {
         return this.id;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int revision() {
+        return this.revision;
+    }
+
+    /**
+     * Records that the position, dimension or speed of this object changed.
+     * Subclasses call it from their setters, only when the new value actually
+     * differs, so that unchanged objects keep their revision.
+     */
+    protected final void markChanged() {
+        this.revision++;
+    }
 }
@@ -76,7 +76,10 @@ public abstract class AbstractPositionableObject extends AbstractMutableObject {
      */
     @Override
     public void setPosition(final Coord2D position) {
-        this.position = position;
+        if (!position.equals(this.position)) {
+            this.position = position;
+            this.markChanged();
+        }
     }
 
     /**
@@ -96,7 +96,10 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
      */
     @Override
     public void setDimension(final Dimension dimension) {
-        this.dimension = dimension;
+        if (!dimension.equals(this.dimension)) {
+            this.dimension = dimension;
+            this.markChanged();
+        }
     }
 
     /**
@@ -140,6 +143,17 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
         return BASE_DELTA;
     }
 
+    /**
+     * An object is dynamic as long as it has pending transformations, even
+     * if not yet started.
+     * 
+     * @return {@code true} if transformations are pending
+     */
+    @Override
+    public boolean isDynamic() {
+        return !this.transformationStats.isEmpty();
+    }
+
     /**
      * Updates the state of this object based on the time delta.
      * <p>
@@ -152,7 +166,7 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
      */
     @Override
     public void updateState(final long dt) {
-        if (!this.isIdle && !this.transformationStats.isEmpty()) {
+        if (this.isTransforming()) {
             final TrajectoryInfo currentTransf = transformationStats.peek();
             switch (currentTransf.transfType()) {
                 case DISPLACEMENT:
@@ -232,6 +246,16 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
         this.widthVector = widthVector;
     }
 
+    /**
+     * Checks if this object is carrying out a transformation, thus changing its
+     * position or dimension at every update.
+     * 
+     * @return true if the object is not idle and has transformations pending
+     */
+    protected boolean isTransforming() {
+        return !this.isIdle && !this.transformationStats.isEmpty();
+    }
+
     /**
      * Checks if this object is idle.
      * 
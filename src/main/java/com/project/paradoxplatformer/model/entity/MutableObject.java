@@ -37,4 +37,28 @@ public interface MutableObject extends CollidableGameObject {
      * @return the base delta value.
      */
     double getBaseDelta();
+
+    /**
+     * Tells whether the object may still change its position or dimension on its
+     * own through {@link #updateState(long)}. Objects which are not dynamic keep
+     * their bounds unless moved from outside, allowing spatial indexes to skip
+     * them when refreshing.
+     * 
+     * @return {@code true} if the object may move on its own, the default.
+     */
+    default boolean isDynamic() {
+        return true;
+    }
+
+    /**
+     * A counter changing whenever the position, dimension or speed of the object
+     * changes, letting observers find out what to redraw by comparing it with the
+     * value they saw last, instead of comparing the whole state.
+     * 
+     * @return the revision of the state of the object, {@code 0} by default for
+     *         objects which do not track their changes
+     */
+    default int revision() {
+        return 0;
+    }
 }
@@ -0,0 +1,141 @@
+package com.project.paradoxplatformer.model.entity;
+
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
+
+/**
+ * An immutable copy of the state of a {@link MutableObject} at a given tick.
+ * <p>
+ * Snapshots are meant to be handed from the simulation to the rendering
+ * thread: they carry everything the view needs to present an object, including
+ * the speed used to select sprite animations, and can be shared safely since
+ * none of their state can change.
+ * </p>
+ *
+ * @param id            the ID of the object
+ * @param position      the position of the object
+ * @param dimension     the dimension of the object
+ * @param collisionType the collision type of the object
+ * @param speed         the speed of the object
+ * @param baseDelta     the base delta of the object
+ */
+public record ObjectSnapshot(
+        int id,
+        Coord2D position,
+        Dimension dimension,
+        CollisionType collisionType,
+        Vector2D speed,
+        double baseDelta) implements MutableObject {
+
+    /**
+     * Captures the current state of the given object.
+     *
+     * @param object the object to copy
+     * @return the snapshot of the object
+     */
+    public static ObjectSnapshot of(final MutableObject object) {
+        return new ObjectSnapshot(
+                object.getID(),
+                object.getPosition(),
+                object.getDimension(),
+                object.getCollisionType(),
+                object.getSpeed(),
+                object.getBaseDelta());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D getPosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension getDimension() {
+        return this.dimension;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getID() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CollisionType getCollisionType() {
+        return this.collisionType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector2D getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBaseDelta() {
+        return this.baseDelta;
+    }
+
+    /**
+     * A snapshot never changes, hence it is not dynamic.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isDynamic() {
+        return false;
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because snapshots are
+     * immutable.
+     *
+     * @param position the new position (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void setPosition(final Coord2D position) {
+        throw new UnsupportedOperationException("Unable to execute 'setPosition'");
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because snapshots are
+     * immutable.
+     *
+     * @param dimension the new dimension (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void setDimension(final Dimension dimension) {
+        throw new UnsupportedOperationException("Unable to execute 'setDimension'");
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because snapshots are
+     * immutable.
+     *
+     * @param dt the time delta (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void updateState(final long dt) {
+        throw new UnsupportedOperationException("Unable to execute 'updateState'");
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.paradoxplatformer.model.entity;
 
+import java.util.Optional;
+
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
@@ -17,6 +19,7 @@ import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 public final class ReadOnlyMutableObjectWrapper implements MutableObject {
 
     private final MutableObject wrapped;
+    private final Optional<Coord2D> renderPosition;
 
     /**
      * Constructs a {@code ReadOnlyMutableObjectWrapper} with the specified
@@ -26,16 +29,31 @@ public final class ReadOnlyMutableObjectWrapper implements MutableObject {
      */
     public ReadOnlyMutableObjectWrapper(final MutableObject abstractDecorator) {
         this.wrapped = abstractDecorator;
+        this.renderPosition = Optional.empty();
+    }
+
+    /**
+     * Constructs a {@code ReadOnlyMutableObjectWrapper} exposing the given
+     * position in place of the wrapped one, used to present an interpolated
+     * state between two simulation ticks.
+     *
+     * @param abstractDecorator the {@link MutableObject} to wrap
+     * @param renderPosition    the position to expose
+     */
+    public ReadOnlyMutableObjectWrapper(final MutableObject abstractDecorator, final Coord2D renderPosition) {
+        this.wrapped = abstractDecorator;
+        this.renderPosition = Optional.of(renderPosition);
     }
 
     /**
-     * Returns the position of the wrapped {@link MutableObject}.
+     * Returns the position of the wrapped {@link MutableObject}, or the render
+     * position if one was given.
      *
      * @return the position as a {@link Coord2D}
      */
     @Override
     public Coord2D getPosition() {
-        return this.wrapped.getPosition();
+        return this.renderPosition.orElseGet(this.wrapped::getPosition);
     }
 
     /**
@@ -123,4 +141,24 @@ public final class ReadOnlyMutableObjectWrapper implements MutableObject {
     public double getBaseDelta() {
         return this.wrapped.getBaseDelta();
     }
+
+    /**
+     * Returns whether the wrapped {@link MutableObject} is dynamic.
+     *
+     * @return {@code true} if the wrapped object may move on its own
+     */
+    @Override
+    public boolean isDynamic() {
+        return this.wrapped.isDynamic();
+    }
+
+    /**
+     * Returns the revision of the wrapped {@link MutableObject}.
+     *
+     * @return the revision of the wrapped object
+     */
+    @Override
+    public int revision() {
+        return this.wrapped.revision();
+    }
 }
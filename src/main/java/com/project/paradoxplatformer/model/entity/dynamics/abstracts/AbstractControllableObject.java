@@ -5,6 +5,7 @@ import java.util.Optional;
 import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
 import com.project.paradoxplatformer.model.entity.dynamics.behavior.JumpBehavior;
 import com.project.paradoxplatformer.model.entity.dynamics.behavior.PlatformJump;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Polar2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
@@ -92,7 +93,7 @@ public abstract class AbstractControllableObject extends AbstractHorizontalObjec
     @Override
     public void stopFall() {
         // Reset vertical speed to stop falling
-        this.verticalSpeed = new Simple2DVector(0.0, 0.0);
+        this.verticalSpeed = Polar2DVector.nullVector();
 
         // Update jump behavior to stop falling and reset gravity
         jumpBehavior.setFalling(false);
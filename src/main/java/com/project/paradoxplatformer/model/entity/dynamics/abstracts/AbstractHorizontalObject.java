@@ -74,7 +74,7 @@ public abstract class AbstractHorizontalObject extends AbstractMutableObject imp
         this.magnitude = Math.min(this.magnitude + this.delta, this.limit);
 
         // Update horizontal speed using polar coordinates
-        this.horizontalSpeed = new Polar2DVector(this.magnitude * magnitudeSign, 0.0);
+        this.setHorizontalSpeed(new Polar2DVector(this.magnitude * magnitudeSign, 0.0));
 
         if (movingDir == currentDirection.opposite()) {
             currentDirection = movingDir;
@@ -104,7 +104,7 @@ public abstract class AbstractHorizontalObject extends AbstractMutableObject imp
     @Override
     public void stop() {
         this.magnitude = Math.max(this.magnitude - delta, RESET_MAG);
-        this.horizontalSpeed = Polar2DVector.nullVector();
+        this.setHorizontalSpeed(Polar2DVector.nullVector());
     }
 
     /**
@@ -145,11 +145,17 @@ public abstract class AbstractHorizontalObject extends AbstractMutableObject imp
     }
 
     /**
-     * Sets the horizontal speed vector of the object.
+     * Sets the horizontal speed vector of the object, marking it as changed when
+     * the speed differs, since it selects how the object is animated.
      *
      * @param horizontalSpeed the new horizontal speed vector
      */
     public void setHorizontalSpeed(final Vector2D horizontalSpeed) {
+        if (this.horizontalSpeed == null
+                || this.horizontalSpeed.xComponent() != horizontalSpeed.xComponent()
+                || this.horizontalSpeed.yComponent() != horizontalSpeed.yComponent()) {
+            this.markChanged();
+        }
         this.horizontalSpeed = horizontalSpeed;
     }
 }
@@ -2,6 +2,7 @@ package com.project.paradoxplatformer.model.entity.dynamics.behavior;
 
 import java.util.Optional;
 
+import com.project.paradoxplatformer.utils.geometries.vector.api.Polar2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
@@ -40,7 +41,7 @@ public final class PlatformJump extends AbstractJumpBehavior {
             return new Simple2DVector(0., this.grav);
         } else {
             // If the player is not falling, return a zero vector to stop vertical movement
-            return new Simple2DVector(0., 0.);
+            return Polar2DVector.nullVector();
         }
     }
 
@@ -56,9 +56,12 @@ public abstract class AbstractObstacle extends AbstractTransformableObject imple
      */
     @Override
     public void updateState(final long dt) {
-        super.updateState(dt);
-        this.setPosition(new Coord2D(getDisplacement().xComponent(), getDisplacement().yComponent()));
-        this.setDimension(new Dimension(getWidthVector().magnitude(), getHeightVector().yComponent()));
+        // idle obstacles keep their bounds, only moving ones are refreshed
+        if (this.isTransforming()) {
+            super.updateState(dt);
+            this.setPosition(new Coord2D(getDisplacement().xComponent(), getDisplacement().yComponent()));
+            this.setDimension(new Dimension(getWidthVector().magnitude(), getHeightVector().yComponent()));
+        }
     }
 
     /**
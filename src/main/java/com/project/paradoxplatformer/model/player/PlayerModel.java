@@ -13,7 +13,7 @@ import com.project.paradoxplatformer.utils.geometries.interpolations.Interpolato
 import com.project.paradoxplatformer.utils.geometries.interpolations.InterpolatorFactoryImpl;
 import com.project.paradoxplatformer.utils.geometries.physic.PhysicsEngine;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Polar2DVector;
-import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+import com.project.paradoxplatformer.utils.geometries.vector.api.MutableVector2D;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
 /**
@@ -30,7 +30,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
     // Proprietà del giocatore
     private Coord2D position;
     private Dimension dimension;
-    private Vector2D displacement;
+    private final MutableVector2D displacement = new MutableVector2D();
 
     // Sistema fisico e interpolazioni
     private final PhysicsEngine physics;
@@ -71,7 +71,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
     private void initialize(final Coord2D pos, final Dimension dimension) {
         this.setPosition(pos);
         this.setDimension(dimension);
-        this.displacement = new Simple2DVector(pos.x(), pos.y());
+        this.displacement.set(pos.x(), pos.y());
         setHorizontalSpeed(Polar2DVector.nullVector());
         setVerticalSpeed(Polar2DVector.nullVector());
     }
@@ -89,7 +89,10 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      */
     @Override
     public void setPosition(final Coord2D pos) {
-        this.position = new Coord2D(pos.x(), pos.y());
+        if (!pos.equals(this.position)) {
+            this.position = new Coord2D(pos.x(), pos.y());
+            this.markChanged();
+        }
     }
 
     /**
@@ -98,7 +101,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      * @param pos The new position to set as displacement.
      */
     public void setDisplacement(final Coord2D pos) {
-        this.displacement = new Simple2DVector(pos.x(), pos.y());
+        this.displacement.set(pos.x(), pos.y());
     }
 
     /**
@@ -107,7 +110,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      * @param x The new horizontal displacement value.
      */
     public void setDisplacement(final double x) {
-        this.displacement = new Simple2DVector(x, this.displacement.yComponent());
+        this.displacement.set(x, this.displacement.y());
     }
 
     /**
@@ -123,7 +126,10 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      */
     @Override
     public void setDimension(final Dimension dimension) {
-        this.dimension = dimension;
+        if (!dimension.equals(this.dimension)) {
+            this.dimension = dimension;
+            this.markChanged();
+        }
     }
 
     /**
@@ -183,7 +189,10 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
         this.fall();
         handleHorizontalMovement(dt);
         handleVerticalMovement(dt);
-        this.setPosition(this.displacement.convert());
+        if (this.displacement.x() != this.position.x() || this.displacement.y() != this.position.y()) {
+            this.position = this.displacement.convert();
+            this.markChanged();
+        }
         getJumpBehavior().setFalling(true);
     }
 
@@ -232,8 +241,8 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      * @param dt The elapsed time since the last update.
      */
     private void handleHorizontalMovement(final long dt) {
-        this.displacement = physics.step(this.displacement,
-                this.displacement.add(getHorizontalSpeed()),
+        physics.stepBy(this.displacement,
+                getHorizontalSpeed(),
                 interpFactory.linear(),
                 dt);
     }
@@ -244,11 +253,10 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      * @param dt The elapsed time since the last update.
      */
     private void handleVerticalMovement(final long dt) {
-        final var nextVerticalDisplace = physics.moveTo(this.displacement,
-                this.displacement.add(getVerticalSpeed()),
+        physics.moveBy(this.displacement,
+                getVerticalSpeed(),
                 1,
                 interpFactory.easeIn(),
                 dt);
-        this.displacement = nextVerticalDisplace.getKey();
     }
 }
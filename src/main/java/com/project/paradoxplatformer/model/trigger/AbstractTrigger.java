@@ -55,18 +55,21 @@ public abstract class AbstractTrigger extends AbstractTransformableObject implem
 
     /**
      * Updates the state of the trigger. This method adjusts the position and
-     * dimension of the trigger based on its displacement and size vectors.
+     * dimension of the trigger based on its displacement and size vectors, while
+     * idle triggers are left untouched.
      * 
      * @param dt The delta time since the last update, used for any time-dependent
      *           calculations.
      */
     @Override
     public void updateState(final long dt) {
-        super.updateState(dt);
-        // Update the position of the trigger based on its displacement vector.
-        this.setPosition(new Coord2D(getDisplacement().xComponent(), getDisplacement().yComponent()));
-        // Update the dimension of the trigger based on its width and height vectors.
-        this.setDimension(new Dimension(getWidthVector().magnitude(), getHeightVector().yComponent()));
+        if (this.isTransforming()) {
+            super.updateState(dt);
+            // Update the position of the trigger based on its displacement vector.
+            this.setPosition(new Coord2D(getDisplacement().xComponent(), getDisplacement().yComponent()));
+            // Update the dimension of the trigger based on its width and height vectors.
+            this.setDimension(new Dimension(getWidthVector().magnitude(), getHeightVector().yComponent()));
+        }
     }
 
     /**
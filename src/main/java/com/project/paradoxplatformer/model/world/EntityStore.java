@@ -0,0 +1,211 @@
+package com.project.paradoxplatformer.model.world;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.utils.IntIndexTable;
+
+/**
+ * A store of game objects of one kind, indexed by their {@link MutableObject#getID() ID}.
+ * <p>
+ * Objects are kept in a dense array, iterated without any hashing, while an
+ * {@link IntIndexTable} maps every ID to its position in the array, so that
+ * lookups, insertions and removals take constant time. Removals move the last
+ * object into the freed position: the iteration order is therefore not the
+ * insertion one, but it only depends on the sequence of insertions and
+ * removals, which keeps runs deterministic.
+ * </p>
+ * <p>
+ * IDs are unique within a store: adding a different object with an ID already
+ * in use is rejected.
+ * </p>
+ *
+ * @param <E> the kind of the stored objects
+ */
+final class EntityStore<E extends MutableObject> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private Object[] entities;
+    private int[] entityIds;
+    private int size;
+    private final IntIndexTable index;
+    private int modCount;
+    private final Collection<E> view;
+
+    /**
+     * Creates a store holding the given objects, in their iteration order.
+     *
+     * @param initial the objects to store
+     * @throws IllegalArgumentException if two different objects share an ID
+     */
+    EntityStore(final Collection<? extends E> initial) {
+        final int capacity = Math.max(MIN_CAPACITY, initial.size());
+        this.entities = new Object[capacity];
+        this.entityIds = new int[capacity];
+        this.index = new IntIndexTable(capacity);
+        this.view = new View();
+        initial.forEach(this::add);
+    }
+
+    /**
+     * Adds an object to the store.
+     *
+     * @param entity the object to add
+     * @return {@code true} if the object was added, {@code false} if it was
+     *         already stored
+     * @throws IllegalArgumentException if a different object with the same ID
+     *                                  is already stored
+     */
+    boolean add(final E entity) {
+        final int id = entity.getID();
+        final int existing = this.index.get(id);
+        if (existing != IntIndexTable.ABSENT) {
+            if (this.entities[existing] == entity) {
+                return false;
+            }
+            throw new IllegalArgumentException("Another object is already stored with id " + id);
+        }
+        if (this.size == this.entities.length) {
+            this.entities = Arrays.copyOf(this.entities, this.size * 2);
+            this.entityIds = Arrays.copyOf(this.entityIds, this.size * 2);
+        }
+        this.entities[this.size] = entity;
+        this.entityIds[this.size] = id;
+        this.index.put(id, this.size);
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Removes an object from the store, moving the last object in its place.
+     *
+     * @param entity the object to remove
+     * @return {@code true} if the object was stored and has been removed
+     */
+    boolean remove(final MutableObject entity) {
+        final int position = this.index.get(entity.getID());
+        if (position == IntIndexTable.ABSENT || this.entities[position] != entity) {
+            return false;
+        }
+        this.index.remove(entity.getID());
+        final int last = this.size - 1;
+        if (position != last) {
+            this.entities[position] = this.entities[last];
+            this.entityIds[position] = this.entityIds[last];
+            this.index.put(this.entityIds[position], position);
+        }
+        this.entities[last] = null;
+        this.size = last;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Looks up an object by its ID.
+     *
+     * @param id the ID of the object
+     * @return the object with the given ID, if stored
+     */
+    Optional<E> get(final int id) {
+        final int position = this.index.get(id);
+        return position == IntIndexTable.ABSENT ? Optional.empty() : Optional.of(this.entityAt(position));
+    }
+
+    /**
+     * Checks whether the given object is stored.
+     *
+     * @param object the object to look for
+     * @return {@code true} if the very same object is stored
+     */
+    boolean contains(final Object object) {
+        if (object instanceof MutableObject entity) {
+            final int position = this.index.get(entity.getID());
+            return position != IntIndexTable.ABSENT && this.entities[position] == entity;
+        }
+        return false;
+    }
+
+    /**
+     * The number of stored objects.
+     *
+     * @return the number of stored objects
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * A read-only view of the stored objects, backed by the store and iterated
+     * in the order of the dense array.
+     *
+     * @return a read-only view of the stored objects
+     */
+    Collection<E> view() {
+        return this.view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E entityAt(final int position) {
+        return (E) this.entities[position];
+    }
+
+    /**
+     * The read-only view of the store.
+     */
+    private final class View extends AbstractCollection<E> {
+
+        @Override
+        public int size() {
+            return EntityStore.this.size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return EntityStore.this.contains(o);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            final int expected = EntityStore.this.modCount;
+            for (int i = 0; i < EntityStore.this.size; i++) {
+                action.accept(EntityStore.this.entityAt(i));
+            }
+            if (expected != EntityStore.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private final int expected = EntityStore.this.modCount;
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < EntityStore.this.size;
+                }
+
+                @Override
+                public E next() {
+                    if (this.expected != EntityStore.this.modCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return EntityStore.this.entityAt(this.next++);
+                }
+            };
+        }
+    }
+}
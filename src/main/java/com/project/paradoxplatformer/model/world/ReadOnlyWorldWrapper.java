@@ -0,0 +1,105 @@
+package com.project.paradoxplatformer.model.world;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.obstacles.Obstacle;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Trigger;
+import com.project.paradoxplatformer.model.world.api.World;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A read-only wrapper for a {@link World}.
+ * <p>
+ * This class decorates a {@link World} to prevent changes to its structure,
+ * while every read goes straight to the wrapped world, so that it can be handed
+ * out in place of defensive copies.
+ * </p>
+ */
+public final class ReadOnlyWorldWrapper implements World {
+
+    private final World wrapped;
+
+    /**
+     * Constructs a {@code ReadOnlyWorldWrapper} with the specified {@link World}.
+     *
+     * @param wrapped the {@link World} to wrap
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The wrapper is meant to reflect the live world it decorates"
+    )
+    public ReadOnlyWorldWrapper(final World wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public Collection<Obstacle> obstacles() {
+        return this.wrapped.obstacles();
+    }
+
+    @Override
+    public Collection<Trigger> triggers() {
+        return this.wrapped.triggers();
+    }
+
+    @Override
+    public Collection<MutableObject> gameObjects() {
+        return this.wrapped.gameObjects();
+    }
+
+    /**
+     * Prevents the removal of objects from the wrapped world.
+     *
+     * @param mutGameObject the mutable object to be removed
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeGameObjects(final MutableObject mutGameObject) {
+        throw new UnsupportedOperationException("World is read-only");
+    }
+
+    /**
+     * Retrieves the player model of the wrapped world.
+     *
+     * @return The player model.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "It does need the original player model as it is continuously modified by the game loop."
+    )
+    @Override
+    public PlayerModel player() {
+        return this.wrapped.player();
+    }
+
+    @Override
+    public Dimension bounds() {
+        return this.wrapped.bounds();
+    }
+
+    @Override
+    public Optional<Obstacle> obstacle(final int id) {
+        return this.wrapped.obstacle(id);
+    }
+
+    @Override
+    public Optional<Trigger> trigger(final int id) {
+        return this.wrapped.trigger(id);
+    }
+
+    @Override
+    public long version() {
+        return this.wrapped.version();
+    }
+
+    @Override
+    public World snapshot() {
+        return this.wrapped.snapshot();
+    }
+}
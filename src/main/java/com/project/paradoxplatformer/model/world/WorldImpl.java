@@ -1,11 +1,13 @@
 package com.project.paradoxplatformer.model.world;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.Iterators;
 import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.model.player.PlayerModel;
@@ -20,13 +22,20 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * in the Paradox Platformer game. This class maintains collections of
  * obstacles, triggers, and provides access to the player model and world
  * dimensions.
+ * <p>
+ * Obstacles and triggers are kept in {@link EntityStore}s indexed by ID, so
+ * that they are looked up and removed in constant time and iterated over dense
+ * arrays. Views over the objects are built once and backed by the live stores.
+ * </p>
  */
 public final class WorldImpl implements World {
 
-    private final Set<Obstacle> obstacles;
-    private final Set<Trigger> triggers;
+    private final EntityStore<Obstacle> obstacles;
+    private final EntityStore<Trigger> triggers;
     private final PlayerModel player;
     private final Dimension bounds;
+    private final Collection<MutableObject> gameObjectsView;
+    private long version;
 
     /**
      * Constructs a WorldImpl instance with specified obstacles, triggers, player
@@ -36,6 +45,8 @@ public final class WorldImpl implements World {
      * @param triggers  The collection of triggers in the world.
      * @param player    The player model representing the player in the world.
      * @param bounds    The dimensions (bounds) of the world.
+     * @throws IllegalArgumentException if two different obstacles, or two
+     *                                  different triggers, share an ID
      */
     @SuppressFBWarnings(
         value = "EI_EXPOSE_REP", 
@@ -43,14 +54,16 @@ public final class WorldImpl implements World {
     )
     public WorldImpl(final Collection<Obstacle> obstacles, final Collection<Trigger> triggers, final PlayerModel player,
             final Dimension bounds) {
-        this.obstacles = new LinkedHashSet<>(obstacles);
-        this.triggers = new LinkedHashSet<>(triggers);
+        this.obstacles = new EntityStore<>(obstacles);
+        this.triggers = new EntityStore<>(triggers);
         this.player = player;
         this.bounds = bounds;
+        this.gameObjectsView = new GameObjectsView();
     }
 
     /**
      * Copy constructor to create a new WorldImpl instance from an existing World.
+     * The copy starts from the version of the original.
      *
      * @param copy The World instance to copy.
      */
@@ -59,16 +72,17 @@ public final class WorldImpl implements World {
                 copy.triggers(),
                 copy.player(),
                 copy.bounds());
+        this.version = copy.version();
     }
 
     @Override
     public Collection<Obstacle> obstacles() {
-        return Collections.unmodifiableCollection(this.obstacles);
+        return this.obstacles.view();
     }
 
     @Override
     public Collection<Trigger> triggers() {
-        return Collections.unmodifiableCollection(this.triggers);
+        return this.triggers.view();
     }
 
     /**
@@ -102,12 +116,18 @@ public final class WorldImpl implements World {
      */
     @Override
     public boolean removeGameObjects(final MutableObject mutableGameObj) {
+        final boolean removed;
         if (mutableGameObj instanceof Trigger) {
-            return this.triggers.remove(mutableGameObj);
+            removed = this.triggers.remove(mutableGameObj);
         } else if (mutableGameObj instanceof Obstacle) {
-            return this.obstacles.remove(mutableGameObj);
+            removed = this.obstacles.remove(mutableGameObj);
+        } else {
+            removed = false;
         }
-        return false;
+        if (removed) {
+            this.version++;
+        }
+        return removed;
     }
 
     /**
@@ -118,6 +138,60 @@ public final class WorldImpl implements World {
      */
     @Override
     public Collection<MutableObject> gameObjects() {
-        return Sets.union(Sets.union(this.obstacles, this.triggers), Set.of(this.player()));
+        return this.gameObjectsView;
+    }
+
+    @Override
+    public Optional<Obstacle> obstacle(final int id) {
+        return this.obstacles.get(id);
+    }
+
+    @Override
+    public Optional<Trigger> trigger(final int id) {
+        return this.triggers.get(id);
+    }
+
+    @Override
+    public long version() {
+        return this.version;
+    }
+
+    @Override
+    public World snapshot() {
+        return new WorldImpl(this);
+    }
+
+    /**
+     * The read-only view of every object in the world: obstacles, then
+     * triggers, then the player.
+     */
+    private final class GameObjectsView extends AbstractCollection<MutableObject> {
+
+        @Override
+        public int size() {
+            return obstacles.size() + triggers.size() + (player == null ? 0 : 1);
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o != null && (o == player || obstacles.contains(o) || triggers.contains(o));
+        }
+
+        @Override
+        public void forEach(final Consumer<? super MutableObject> action) {
+            obstacles.view().forEach(action);
+            triggers.view().forEach(action);
+            if (player != null) {
+                action.accept(player);
+            }
+        }
+
+        @Override
+        public Iterator<MutableObject> iterator() {
+            return Iterators.concat(
+                    obstacles.view().iterator(),
+                    triggers.view().iterator(),
+                    player == null ? Collections.<MutableObject>emptyIterator() : Iterators.<MutableObject>singletonIterator(player));
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.project.paradoxplatformer.model.world;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+
+/**
+ * Computes a 64-bit fingerprint of the state of a world, cheap enough to be
+ * taken at every tick.
+ * <p>
+ * The fingerprint covers the game time and, for every object, its ID,
+ * position and dimension, taken bit for bit: two runs fed the same
+ * input produce the same stream of fingerprints, and the first differing
+ * fingerprint points at the tick the runs diverged. Objects are hashed in
+ * iteration order, which is itself deterministic. The fingerprint does not
+ * depend on the JVM, unlike {@link Object#hashCode()}. Speeds are left out,
+ * since they are derived with trigonometry and show in positions a tick later.
+ * </p>
+ */
+public final class WorldStateHash {
+
+    private static final long SEED = 0xCBF2_9CE4_8422_2325L;
+    private static final long PRIME = 0x0000_0100_0000_01B3L;
+    private static final long MIX_1 = 0xBF58_476D_1CE4_E5B9L;
+    private static final long MIX_2 = 0x94D0_49BB_1331_11EBL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    // Private constructor to prevent instantiation
+    private WorldStateHash() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Fingerprints the state of the given objects at the given game time.
+     *
+     * @param objects  the objects of the world
+     * @param gameTime the game time, in milliseconds
+     * @return the fingerprint of the state
+     */
+    public static long of(final Iterable<? extends MutableObject> objects, final long gameTime) {
+        long hash = combine(SEED, gameTime);
+        for (final MutableObject o : objects) {
+            hash = combine(hash, o.getID());
+            hash = combine(hash, Double.doubleToLongBits(o.getPosition().x()));
+            hash = combine(hash, Double.doubleToLongBits(o.getPosition().y()));
+            hash = combine(hash, Double.doubleToLongBits(o.getDimension().width()));
+            hash = combine(hash, Double.doubleToLongBits(o.getDimension().height()));
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Folds a value into a running hash.
+     *
+     * @param hash  the running hash
+     * @param value the value to fold
+     * @return the new running hash
+     */
+    private static long combine(final long hash, final long value) {
+        return (hash ^ mix(value)) * PRIME;
+    }
+
+    /**
+     * Spreads the bits of a value, as the finalizer of SplitMix64 does.
+     *
+     * @param value the value to spread
+     * @return the spread value
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
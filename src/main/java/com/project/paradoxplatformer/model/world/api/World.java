@@ -6,25 +6,31 @@ import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * An interface representing the game world in the Paradox Platformer game.
  * This interface provides methods to interact with various elements within the
  * game world.
+ * <p>
+ * Collections are returned as read-only views of the live world, so reading
+ * them copies nothing and they reflect later removals. Callers needing a stable
+ * state either take a {@link #snapshot()} or compare {@link #version()}s.
+ * </p>
  */
 public interface World {
 
     /**
      * Retrieves a collection of all obstacles present in the world.
      *
-     * @return A collection of obstacles.
+     * @return A read-only view of the obstacles.
      */
     Collection<Obstacle> obstacles();
 
     /**
      * Retrieves a collection of all triggers present in the world.
      *
-     * @return A collection of triggers.
+     * @return A read-only view of the triggers.
      */
     Collection<Trigger> triggers();
 
@@ -33,7 +39,7 @@ public interface World {
      * Mutable objects are entities that can change their state or properties during
      * gameplay.
      *
-     * @return A collection of mutable objects.
+     * @return A read-only view of the mutable objects.
      */
     Collection<MutableObject> gameObjects();
 
@@ -58,4 +64,39 @@ public interface World {
      * @return The dimension of the world.
      */
     Dimension bounds();
+
+    /**
+     * Looks up an obstacle by its ID.
+     *
+     * @param id The ID of the obstacle.
+     * @return The obstacle with the given ID, if it is in the world.
+     */
+    Optional<Obstacle> obstacle(int id);
+
+    /**
+     * Looks up a trigger by its ID.
+     *
+     * @param id The ID of the trigger.
+     * @return The trigger with the given ID, if it is in the world.
+     */
+    Optional<Trigger> trigger(int id);
+
+    /**
+     * Retrieves the structural version of the world, increased every time an
+     * object is added to or removed from it.
+     * <p>
+     * Two equal versions of the same world guarantee that its views hold the
+     * same objects, so anything derived from them can be reused.
+     * </p>
+     *
+     * @return The structural version of the world.
+     */
+    long version();
+
+    /**
+     * Takes a copy of the world, unaffected by later changes to its structure.
+     *
+     * @return A stable copy of the world.
+     */
+    World snapshot();
 }
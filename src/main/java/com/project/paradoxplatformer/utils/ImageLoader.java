@@ -1,8 +1,11 @@
 package com.project.paradoxplatformer.utils;
 
 import java.io.IOException;
+import java.util.Optional;
 import javax.imageio.ImageIO;
 
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+
 import javafx.scene.image.Image;
 
 /**
@@ -10,24 +13,118 @@ import javafx.scene.image.Image;
  * This class provides static methods to load images in both JavaFX and AWT
  * formats.
  * It is designed as a utility class and should not be instantiated.
+ * <p>
+ * JavaFX images are cached process-wide by path and requested size, so that
+ * restarting or switching level does not decode the same files again. The
+ * cache is bounded by the decoded size of its images, {@value #BYTES_PER_PIXEL}
+ * bytes per pixel, and evicts the least recently used ones first; its budget is
+ * read from the {@value #BUDGET_PROPERTY} system property, in bytes.
+ * </p>
  */
 public final class ImageLoader {
 
+    /**
+     * Name of the system property holding the budget of the image cache, in
+     * bytes.
+     */
+    public static final String BUDGET_PROPERTY = "paradox.imageCache.bytes";
+
+    /**
+     * The budget of the image cache when no valid one is configured.
+     */
+    public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * The bytes a decoded pixel takes.
+     */
+    public static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * The requested size keeping the natural size of an image.
+     */
+    public static final Dimension NATURAL_SIZE = new Dimension(0, 0);
+
+    private static final WeightedLruCache<ImageKey, Image> FX_CACHE = new WeightedLruCache<>(
+            configuredBudget(), ImageLoader::decodedBytes);
+
     // Private constructor to prevent instantiation
     private ImageLoader() {
         throw new UnsupportedOperationException("Image loader cannot be initialized");
     }
 
     /**
-     * Loads an image as a JavaFX Image from the specified image path.
+     * Loads an image as a JavaFX Image from the specified image path, at its
+     * natural size.
      *
      * @param imagePath the path to the image resource
-     * @return the JavaFX Image object
+     * @return the JavaFX Image object, possibly shared with previous callers
      * @throws InvalidResourceException if the image resource cannot be found or
      *                                  loaded
      */
     public static Image createFXImage(final String imagePath) throws InvalidResourceException {
-        return new Image(ResourcesFinder.getURL(ResourcesFinder.IMAGES_FOLDER + imagePath).toExternalForm());
+        return createFXImage(imagePath, NATURAL_SIZE, false);
+    }
+
+    /**
+     * Loads an image as a JavaFX Image from the specified image path, decoded at
+     * the requested size, unless it is already cached.
+     *
+     * @param imagePath         the path to the image resource
+     * @param requestedSize     the size to decode the image at, a zero width or
+     *                          height keeping the natural one
+     * @param backgroundLoading whether a decoding image is returned at once,
+     *                          while it is still being decoded in background
+     * @return the JavaFX Image object, possibly shared with previous callers
+     * @throws InvalidResourceException if the image resource cannot be found or
+     *                                  loaded
+     */
+    public static Image createFXImage(
+            final String imagePath,
+            final Dimension requestedSize,
+            final boolean backgroundLoading) throws InvalidResourceException {
+        final ImageKey key = new ImageKey(imagePath, requestedSize);
+        final Optional<Image> cached = FX_CACHE.get(key);
+        if (cached.isPresent() && !cached.get().isError()) {
+            return cached.get();
+        }
+        final Image image = new Image(
+                ResourcesFinder.getURL(ResourcesFinder.IMAGES_FOLDER + imagePath).toExternalForm(),
+                requestedSize.width(),
+                requestedSize.height(),
+                false,
+                true,
+                backgroundLoading);
+        if (!image.isError()) {
+            FX_CACHE.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Returns the counters of the JavaFX image cache.
+     *
+     * @return a snapshot of the hits, misses, evictions and size of the cache
+     */
+    public static WeightedLruCache.Stats cacheStats() {
+        return FX_CACHE.stats();
+    }
+
+    /**
+     * Changes the budget of the JavaFX image cache, evicting images if it no
+     * longer fits it.
+     *
+     * @param bytes the maximum decoded size of the cached images
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public static void setCacheBudget(final long bytes) {
+        FX_CACHE.setBudget(bytes);
+    }
+
+    /**
+     * Empties the JavaFX image cache.
+     */
+    public static void clearCache() {
+        FX_CACHE.clear();
     }
 
     /**
@@ -49,4 +146,27 @@ public final class ImageLoader {
             throw new IOException("Image could not be read by ImageIO", e);
         }
     }
+
+    private static long decodedBytes(final Image image) {
+        // Images still decoding in background weigh nothing until they are done
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static long configuredBudget() {
+        try {
+            final long budget = Long.parseLong(System.getProperty(BUDGET_PROPERTY, String.valueOf(DEFAULT_BUDGET)));
+            return budget < 0 ? DEFAULT_BUDGET : budget;
+        } catch (NumberFormatException e) {
+            return DEFAULT_BUDGET;
+        }
+    }
+
+    /**
+     * Identifies a cached image.
+     *
+     * @param path the path to the image resource
+     * @param size the size the image is decoded at
+     */
+    private record ImageKey(String path, Dimension size) {
+    }
 }
@@ -0,0 +1,169 @@
+package com.project.paradoxplatformer.utils;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code int} keys to non-negative {@code int} indices, without any
+ * boxing.
+ * <p>
+ * Meant to index dense arrays by the ID of what they hold: the table uses open
+ * addressing with linear probing, is kept at most half full, and removes keys
+ * by shifting back the following entries, so that lookups stay constant time
+ * however many keys come and go.
+ * </p>
+ */
+public final class IntIndexTable {
+
+    /**
+     * The value returned for missing keys.
+     */
+    public static final int ABSENT = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int HASH_MIX = 0x9E3779B9;
+
+    private int[] keys;
+    private int[] indices;
+    private int size;
+
+    /**
+     * Creates a table sized for the given number of keys.
+     *
+     * @param expected the number of keys expected to be stored
+     */
+    public IntIndexTable(final int expected) {
+        this.allocate(capacityFor(expected));
+    }
+
+    /**
+     * Looks up the index of a key.
+     *
+     * @param key the key
+     * @return the index of the key, or {@link #ABSENT} if it is not stored
+     */
+    public int get(final int key) {
+        final int slot = this.slotOf(key);
+        return slot < 0 ? ABSENT : this.indices[slot];
+    }
+
+    /**
+     * Associates an index to a key, replacing the previous index if any.
+     *
+     * @param key   the key
+     * @param index the index, not negative
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public void put(final int key, final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index must not be negative, got " + index);
+        }
+        final int slot = this.slotOf(key);
+        if (slot >= 0) {
+            this.indices[slot] = index;
+            return;
+        }
+        if ((this.size + 1) * 2 > this.keys.length) {
+            this.rehash(this.keys.length * 2);
+            this.insert(~this.slotOf(key), key, index);
+        } else {
+            this.insert(~slot, key, index);
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return the index the key had, or {@link #ABSENT} if it was not stored
+     */
+    public int remove(final int key) {
+        final int slot = this.slotOf(key);
+        if (slot < 0) {
+            return ABSENT;
+        }
+        final int index = this.indices[slot];
+        this.deleteSlot(slot);
+        this.size--;
+        return index;
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        Arrays.fill(this.indices, ABSENT);
+        this.size = 0;
+    }
+
+    /**
+     * The number of stored keys.
+     *
+     * @return the number of stored keys
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private static int capacityFor(final int expected) {
+        return Integer.highestOneBit(Math.max(MIN_CAPACITY / 2, expected) * 2 - 1) * 2;
+    }
+
+    private static int home(final int key, final int mask) {
+        final int hash = key * HASH_MIX;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new int[capacity];
+        this.indices = new int[capacity];
+        Arrays.fill(this.indices, ABSENT);
+    }
+
+    private void insert(final int slot, final int key, final int index) {
+        this.keys[slot] = key;
+        this.indices[slot] = index;
+        this.size++;
+    }
+
+    // Returns the slot holding the key, or the complement of the free slot where it would go
+    private int slotOf(final int key) {
+        final int mask = this.keys.length - 1;
+        int slot = home(key, mask);
+        while (this.indices[slot] != ABSENT) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = this.keys;
+        final int[] oldIndices = this.indices;
+        this.allocate(capacity);
+        this.size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIndices[i] != ABSENT) {
+                this.insert(~this.slotOf(oldKeys[i]), oldKeys[i], oldIndices[i]);
+            }
+        }
+    }
+
+    // Backward shift deletion, keeping every probe sequence free of holes
+    private void deleteSlot(final int slot) {
+        final int mask = this.keys.length - 1;
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (this.indices[next] != ABSENT) {
+            final int home = home(this.keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                this.keys[gap] = this.keys[next];
+                this.indices[gap] = this.indices[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.indices[gap] = ABSENT;
+    }
+}
@@ -0,0 +1,147 @@
+package com.project.paradoxplatformer.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe cache bounded by the total weight of its values rather than by
+ * their number, evicting the least recently used ones first.
+ * <p>
+ * The weight of a value is measured when it is stored and measured again on
+ * every hit, so that values whose size is only known later, such as images
+ * decoded in background, are accounted for once they are. A value heavier than
+ * the whole budget is still returned to the caller, but not kept.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class WeightedLruCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final ToLongFunction<? super V> weigher;
+    private long budget;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param budget  the maximum total weight of the cached values
+     * @param weigher measures the weight of a value, not negative
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public WeightedLruCache(final long budget, final ToLongFunction<? super V> weigher) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.weigher = Optional.of(weigher).get();
+        this.setBudget(budget);
+    }
+
+    /**
+     * Looks a value up, marking it as the most recently used one.
+     *
+     * @param key the key of the value
+     * @return the cached value, or an empty {@link Optional} on a miss
+     */
+    public synchronized Optional<V> get(final K key) {
+        final Entry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            this.misses++;
+            return Optional.empty();
+        }
+        this.hits++;
+        this.reweigh(entry);
+        this.evict();
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Stores a value, replacing the previous value of the key if any, and evicts
+     * the least recently used values until the cache fits its budget again.
+     *
+     * @param key   the key of the value
+     * @param value the value
+     */
+    public synchronized void put(final K key, final V value) {
+        final Entry<V> entry = new Entry<>(Optional.of(value).get());
+        final Entry<V> previous = this.entries.put(key, entry);
+        if (previous != null) {
+            this.weight -= previous.weight;
+        }
+        this.reweigh(entry);
+        this.evict();
+    }
+
+    /**
+     * Removes every value, without counting them as evictions.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    /**
+     * Changes the budget, evicting values if the cache no longer fits it.
+     *
+     * @param budget the maximum total weight of the cached values
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public synchronized void setBudget(final long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative, got " + budget);
+        }
+        this.budget = budget;
+        this.evict();
+    }
+
+    /**
+     * Returns the counters of the cache.
+     *
+     * @return a snapshot of the counters
+     */
+    public synchronized Stats stats() {
+        return new Stats(this.hits, this.misses, this.evictions, this.entries.size(), this.weight, this.budget);
+    }
+
+    private void reweigh(final Entry<V> entry) {
+        final long measured = this.weigher.applyAsLong(entry.value);
+        this.weight += measured - entry.weight;
+        entry.weight = measured;
+    }
+
+    private void evict() {
+        final Iterator<Entry<V>> eldest = this.entries.values().iterator();
+        while (this.weight > this.budget && eldest.hasNext()) {
+            this.weight -= eldest.next().weight;
+            eldest.remove();
+            this.evictions++;
+        }
+    }
+
+    /**
+     * The counters of a cache at a given time.
+     *
+     * @param hits      the number of lookups finding a value
+     * @param misses    the number of lookups finding nothing
+     * @param evictions the number of values evicted to fit the budget
+     * @param size      the number of cached values
+     * @param weight    the total weight of the cached values
+     * @param budget    the maximum total weight of the cached values
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weight, long budget) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private long weight;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhaseFactory;
+
+/**
+ * Implementation of the BroadPhaseFactory choosing, for every level, the spatial
+ * index which suits its layout.
+ * <p>
+ * Levels with moving platforms use a {@link DynamicAABBTree}, which only touches
+ * a moving object once it leaves its margin, while levels made only of static
+ * objects use a {@link SpatialHashGrid}, which they fill once.
+ * </p>
+ */
+public final class BroadPhaseFactoryImpl implements BroadPhaseFactory {
+
+    /**
+     * Creates a BroadPhase based on the specified level.
+     *
+     * @param level the level for which to create the BroadPhase
+     * @return a BroadPhase instance suited to the level
+     */
+    @Override
+    public BroadPhase getBroadPhaseForLevel(final Level level) {
+        return switch (level) {
+            case LEVEL_ONE, LEVEL_TWO, LEVEL_FOUR -> new DynamicAABBTree();
+            default -> new SpatialHashGrid();
+        };
+    }
+}
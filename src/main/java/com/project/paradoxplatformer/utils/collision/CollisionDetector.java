@@ -5,7 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
 /**
  * A utility class for detecting collisions between game objects. This class
@@ -47,6 +51,25 @@ public final class CollisionDetector {
         return collidingObjects;
     }
 
+    /**
+     * Detects collisions between the player and the objects indexed by a broad
+     * phase. Only the candidates overlapping the player bounds are tested.
+     *
+     * @param broadPhase the spatial index of the collidable game objects, which
+     *                   must be up to date
+     * @param player     the player game object to check for collisions with
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(final BroadPhase broadPhase, final CollidableGameObject player) {
+        final Set<CollidableGameObject> collidingObjects = new HashSet<>();
+        broadPhase.queryOverlaps(AABB.of(player), object -> {
+            if (!object.equals(player) && CollisionDetector.isColliding(player, object)) {
+                collidingObjects.add(object);
+            }
+        });
+        return collidingObjects;
+    }
+
     /**
      * Checks if two collidable game objects are colliding.
      *
@@ -56,12 +79,16 @@ public final class CollisionDetector {
      * @return true if the objects are colliding, false otherwise
      */
     public static <T extends CollidableGameObject> boolean isColliding(final T obj1, final T obj2) {
+        final Coord2D p1 = obj1.getPosition();
+        final Dimension d1 = obj1.getDimension();
+        final Coord2D p2 = obj2.getPosition();
+        final Dimension d2 = obj2.getDimension();
         // Check if the objects are not colliding based on their positions and
         // dimensions
-        return !(obj1.getPosition().x() + obj1.getDimension().width() <= obj2.getPosition().x()
-                || obj1.getPosition().x() >= obj2.getPosition().x() + obj2.getDimension().width()
-                || obj1.getPosition().y() + obj1.getDimension().height() <= obj2.getPosition().y()
-                || obj1.getPosition().y() >= obj2.getPosition().y() + obj2.getDimension().height());
+        return !(p1.x() + d1.width() <= p2.x()
+                || p1.x() >= p2.x() + d2.width()
+                || p1.y() + d1.height() <= p2.y()
+                || p1.y() >= p2.y() + d2.height());
     }
 
     /**
@@ -1,43 +1,101 @@
 package com.project.paradoxplatformer.utils.collision;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 
 import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.effect.managers.EffectCommandBuffer;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 
 /**
  * Manages collisions between game objects and applies effects based on those
  * collisions. Delegates detection and observation to appropriate classes.
+ * <p>
+ * Objects are kept in a {@link BroadPhase} index, so that only those near the
+ * player are tested. The index is rebuilt whenever the number of given objects
+ * changes, that is when objects are removed from the game, and otherwise only
+ * refreshed for moving objects.
+ * </p>
+ * <p>
+ * Effects triggered by collisions do not change game objects while collisions
+ * are being handled: their mutations are queued and performed once
+ * {@link #flushEffects()} is called.
+ * </p>
  */
 public class CollisionManager {
 
     private final CollisionObserver collisionObserver;
+    private final BroadPhase broadPhase;
+    private final EffectCommandBuffer effectCommands;
 
     /**
-     * Constructs a CollisionManager with the specified effect handler.
+     * Constructs a CollisionManager with the specified effect handler, indexing
+     * objects in a {@link SpatialHashGrid}.
      *
      * @param effectHandler the effect handler to use for applying and resetting
      *                      effects
      */
     public CollisionManager(final EffectHandler effectHandler) {
+        this(effectHandler, new SpatialHashGrid());
+    }
+
+    /**
+     * Constructs a CollisionManager with the specified effect handler and broad
+     * phase.
+     *
+     * @param effectHandler the effect handler to use for applying and resetting
+     *                      effects
+     * @param broadPhase    the spatial index used to find collision candidates
+     */
+    public CollisionManager(final EffectHandler effectHandler, final BroadPhase broadPhase) {
         this.collisionObserver = new CollisionObserver(effectHandler);
+        this.broadPhase = Optional.of(broadPhase).get();
+        this.effectCommands = new EffectCommandBuffer();
     }
 
     /**
      * Handles collisions between the player and other collidable game objects.
      *
      * @param collidableGameObjects a collection of collidable game objects to check
-     *                              for collisions
+     *                              for collisions, expected to be the same objects
+     *                              at every call except for removals
      * @param player                the player game object to check for collisions
      *                              with
      */
     public void handleCollisions(final Collection<? extends CollidableGameObject> collidableGameObjects,
             final CollidableGameObject player) {
+        this.synchronize(collidableGameObjects);
         // Detect collisions between the player and other collidable objects
-        final Set<CollidableGameObject> collidingObjects = CollisionDetector.detect(collidableGameObjects, player);
+        final Set<CollidableGameObject> collidingObjects = CollisionDetector.detect(this.broadPhase, player);
+
+        // Handle collision observation and trigger effects, deferring their mutations
+        this.effectCommands.record(() -> collisionObserver.observeCollisions(collidingObjects, player));
+    }
 
-        // Handle collision observation and trigger effects
-        collisionObserver.observeCollisions(collidingObjects, player);
+    /**
+     * Performs the mutations requested by the effects triggered in the last
+     * calls to {@link #handleCollisions(Collection, CollidableGameObject)}, on
+     * the calling thread and in the order they were requested.
+     *
+     * @return the number of mutations performed
+     */
+    public int flushEffects() {
+        return this.effectCommands.drain();
+    }
+
+    /**
+     * Brings the broad phase up to date with the given objects.
+     *
+     * @param collidableGameObjects the current collidable game objects
+     */
+    private void synchronize(final Collection<? extends CollidableGameObject> collidableGameObjects) {
+        if (this.broadPhase.size() != collidableGameObjects.size()) {
+            this.broadPhase.clear();
+            collidableGameObjects.forEach(this.broadPhase::insert);
+        } else {
+            this.broadPhase.update();
+        }
     }
 }
@@ -1,15 +1,19 @@
 package com.project.paradoxplatformer.utils.collision;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.model.trigger.Trigger;
 import com.project.paradoxplatformer.utils.BiConsumerWithAndThen;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 import com.project.paradoxplatformer.view.javafx.PageIdentifier;
 
 /**
@@ -17,10 +21,23 @@ import com.project.paradoxplatformer.view.javafx.PageIdentifier;
  * appropriate.
  * This class monitors collidable objects, applies effects during collisions,
  * and resets them when the collisions end.
+ * <p>
+ * Contacts are remembered across frames, keyed by the ids of the two objects,
+ * so that every contact goes through one {@link ContactPhase#ENTER}, a
+ * {@link ContactPhase#STAY} for each following frame and one
+ * {@link ContactPhase#EXIT}. Effects are only applied in the phases they
+ * subscribe to, triggers are activated on enter and effects are reset on exit,
+ * so that a sustained contact costs no more than its subscribed effects.
+ * </p>
  */
 public class CollisionObserver {
 
+    private static final int ID_BITS = 32;
+    private static final long ID_MASK = 0xFFFF_FFFFL;
+
     private final EffectHandler effectHandler;
+    private Map<Long, CollidableGameObject> contacts;
+    private Map<Long, CollidableGameObject> previousContacts;
 
     /**
      * Constructs a CollisionObserver with a provided EffectHandler to manage
@@ -31,12 +48,19 @@ public class CollisionObserver {
      */
     public CollisionObserver(final EffectHandler effectHandler) {
         this.effectHandler = Optional.of(effectHandler).get();
+        this.contacts = new HashMap<>();
+        this.previousContacts = new HashMap<>();
     }
 
     /**
      * Monitors collisions between the player and a set of colliding game objects,
      * applying effects
      * and handling triggers when collisions start or end.
+     * <p>
+     * Expected to be called once per frame with every object colliding with the
+     * player in that frame: objects missing from the set are considered no
+     * longer in contact.
+     * </p>
      *
      * @param collidingObjects the set of game objects colliding with the player.
      * @param player           the player game object involved in collisions.
@@ -49,11 +73,54 @@ public class CollisionObserver {
         final BiConsumerWithAndThen<CollidableGameObject, CollisionType> onCollideEnd = 
             createCollisionTriggerHandlerEnd();
 
-        // Apply effects for every collision between the player and other objects
-        collidingObjects.forEach(obj -> onCollideStart.andThen(effectHandler::applyEffects).accept(player, obj));
+        // Swap the contact buffers, the last frame contacts are consumed below
+        final Map<Long, CollidableGameObject> swap = this.previousContacts;
+        this.previousContacts = this.contacts;
+        this.contacts = swap;
+
+        for (final CollidableGameObject obj : collidingObjects) {
+            final Long key = pairKey(player, obj);
+            this.contacts.put(key, obj);
+            if (this.previousContacts.remove(key) == null) {
+                // Apply effects and activate triggers once, when the collision starts
+                onCollideStart.andThen((p, o) -> effectHandler.applyEffects(p, o, ContactPhase.ENTER))
+                        .accept(player, obj);
+            } else {
+                effectHandler.applyEffects(player, obj, ContactPhase.STAY);
+            }
+        }
 
         // Reset effects when collisions end
-        collidingObjects.forEach(obj -> onCollideEnd.andThen(effectHandler::reset).accept(obj, obj.getCollisionType()));
+        for (final CollidableGameObject obj : this.previousContacts.values()) {
+            effectHandler.applyEffects(player, obj, ContactPhase.EXIT);
+            onCollideEnd.andThen(effectHandler::reset).accept(obj, obj.getCollisionType());
+        }
+        this.previousContacts.clear();
+    }
+
+    /**
+     * Returns the number of contacts currently in place.
+     *
+     * @return the number of objects colliding with the player in the last frame
+     */
+    public int contactCount() {
+        return this.contacts.size();
+    }
+
+    /**
+     * Computes the key of the contact between two objects from their ids, falling
+     * back to their identity for objects without one.
+     *
+     * @param first  the first object of the contact
+     * @param second the second object of the contact
+     * @return the key of the contact
+     */
+    private static long pairKey(final CollidableGameObject first, final CollidableGameObject second) {
+        return (long) idOf(first) << ID_BITS | idOf(second) & ID_MASK;
+    }
+
+    private static int idOf(final CollidableGameObject object) {
+        return object instanceof MutableObject mutable ? mutable.getID() : System.identityHashCode(object);
     }
 
     /**
@@ -106,7 +173,7 @@ public class CollisionObserver {
     private void removeTriggerIfPresent(final CollidableGameObject object, final CollisionType collisionType) {
         if (object instanceof Trigger && object.getCollisionType() == collisionType) {
             // System.out.println(object + " is removed from Collision Observer.");
-            EventManager.getInstance().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, Optional.of(object));
+            GameSession.current().events().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, Optional.of(object));
         }
     }
 }
@@ -0,0 +1,324 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+
+/**
+ * A {@link BroadPhase} keeping objects in a balanced bounding volume hierarchy.
+ * <p>
+ * Every object is stored in a leaf whose bounds are its own enlarged by a
+ * margin. On {@link #update()} moving objects are only reinserted once they
+ * leave those fattened bounds, so objects moving slowly, such as platforms,
+ * touch the tree every few ticks rather than at every one. Insertion picks the
+ * sibling which least grows the perimeter of the tree, and the tree is kept
+ * balanced by rotations, so queries stay logarithmic whatever the layout.
+ * </p>
+ * <p>
+ * Unlike {@link SpatialHashGrid}, the tree does not depend on the size of the
+ * objects, which makes it fit for levels mixing small and very large objects or
+ * with many moving ones. Candidates are reported by their fattened bounds, so
+ * they are always to be confirmed by an exact test.
+ * </p>
+ */
+public final class DynamicAABBTree implements BroadPhase {
+
+    /**
+     * Default margin of the leaves, about half the size of the player.
+     */
+    public static final double DEFAULT_MARGIN = 8;
+
+    private final double margin;
+    private final Map<CollidableGameObject, Node> leaves;
+    private final Set<CollidableGameObject> dynamics;
+    private final Deque<Node> stack;
+    private Node root;
+
+    /**
+     * Creates a tree with the {@link #DEFAULT_MARGIN default} margin.
+     */
+    public DynamicAABBTree() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Creates a tree with the given margin.
+     *
+     * @param margin how much the leaves are enlarged on every side, in world
+     *               units
+     * @throws IllegalArgumentException if the margin is negative
+     */
+    public DynamicAABBTree(final double margin) {
+        if (!(margin >= 0)) {
+            throw new IllegalArgumentException("Margin must not be negative, got " + margin);
+        }
+        this.margin = margin;
+        this.leaves = new HashMap<>();
+        this.dynamics = new LinkedHashSet<>();
+        this.stack = new ArrayDeque<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insert(final CollidableGameObject object) {
+        if (!this.leaves.containsKey(object)) {
+            final Node leaf = new Node(object, AABB.of(object).expand(this.margin));
+            this.leaves.put(object, leaf);
+            this.insertLeaf(leaf);
+            if (BroadPhase.isDynamic(object)) {
+                this.dynamics.add(object);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final CollidableGameObject object) {
+        final Node leaf = this.leaves.remove(object);
+        if (leaf != null) {
+            this.removeLeaf(leaf);
+            this.dynamics.remove(object);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.root = null;
+        this.leaves.clear();
+        this.dynamics.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.leaves.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
+        final Iterator<CollidableGameObject> it = this.dynamics.iterator();
+        while (it.hasNext()) {
+            final CollidableGameObject object = it.next();
+            final AABB box = AABB.of(object);
+            final Node leaf = this.leaves.get(object);
+            if (!leaf.box.contains(box)) {
+                this.removeLeaf(leaf);
+                leaf.box = box.expand(this.margin);
+                this.insertLeaf(leaf);
+            }
+            if (!BroadPhase.isDynamic(object)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CollidableGameObject> query(final AABB area) {
+        final Set<CollidableGameObject> found = new LinkedHashSet<>();
+        this.queryOverlaps(area, found::add);
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every object is reported at most once, and no collection is allocated.
+     * </p>
+     */
+    @Override
+    public void queryOverlaps(final AABB area, final Consumer<? super CollidableGameObject> visitor) {
+        if (this.root == null) {
+            return;
+        }
+        this.stack.push(this.root);
+        while (!this.stack.isEmpty()) {
+            final Node node = this.stack.pop();
+            if (node.box.overlaps(area)) {
+                if (node.isLeaf()) {
+                    visitor.accept(node.object);
+                } else {
+                    this.stack.push(node.left);
+                    this.stack.push(node.right);
+                }
+            }
+        }
+    }
+
+    /**
+     * The height of the tree, where a single leaf has height zero.
+     *
+     * @return the height of the tree, or {@code -1} if it is empty
+     */
+    public int height() {
+        return this.root == null ? -1 : this.root.height;
+    }
+
+    private void insertLeaf(final Node leaf) {
+        if (this.root == null) {
+            leaf.parent = null;
+            this.root = leaf;
+            return;
+        }
+        final Node sibling = this.findSibling(leaf.box);
+        final Node oldParent = sibling.parent;
+        final Node parent = new Node(leaf.box.union(sibling.box), sibling, leaf);
+        parent.parent = oldParent;
+        if (oldParent == null) {
+            this.root = parent;
+        } else {
+            oldParent.replace(sibling, parent);
+        }
+        this.refit(parent);
+    }
+
+    // Descends towards the node whose pairing with the box grows the tree least
+    private Node findSibling(final AABB box) {
+        Node node = this.root;
+        while (!node.isLeaf()) {
+            final double perimeter = node.box.perimeter();
+            final double combined = node.box.union(box).perimeter();
+            final double cost = 2 * combined;
+            final double inherited = 2 * (combined - perimeter);
+            final double leftCost = this.descentCost(node.left, box) + inherited;
+            final double rightCost = this.descentCost(node.right, box) + inherited;
+            if (cost < leftCost && cost < rightCost) {
+                break;
+            }
+            node = leftCost < rightCost ? node.left : node.right;
+        }
+        return node;
+    }
+
+    private double descentCost(final Node child, final AABB box) {
+        final double grown = child.box.union(box).perimeter();
+        return child.isLeaf() ? grown : grown - child.box.perimeter();
+    }
+
+    private void removeLeaf(final Node leaf) {
+        if (leaf == this.root) {
+            this.root = null;
+            return;
+        }
+        final Node parent = leaf.parent;
+        final Node grandParent = parent.parent;
+        final Node sibling = parent.left == leaf ? parent.right : parent.left;
+        sibling.parent = grandParent;
+        if (grandParent == null) {
+            this.root = sibling;
+        } else {
+            grandParent.replace(parent, sibling);
+            this.refit(grandParent);
+        }
+        leaf.parent = null;
+    }
+
+    // Walks up from the given node fixing bounds and heights, rebalancing on the way
+    private void refit(final Node from) {
+        Node node = from;
+        while (node != null) {
+            node = this.balance(node);
+            node.fit();
+            node = node.parent;
+        }
+    }
+
+    // Rotates the taller grandchild up when the children heights differ by more than one
+    private Node balance(final Node node) {
+        if (node.isLeaf() || node.height < 2) {
+            return node;
+        }
+        final int skew = node.right.height - node.left.height;
+        if (skew > 1) {
+            return this.rotate(node, node.right);
+        } else if (skew < -1) {
+            return this.rotate(node, node.left);
+        }
+        return node;
+    }
+
+    private Node rotate(final Node node, final Node pivot) {
+        final Node taller = pivot.left.height > pivot.right.height ? pivot.left : pivot.right;
+        final Node shorter = taller == pivot.left ? pivot.right : pivot.left;
+
+        pivot.parent = node.parent;
+        if (node.parent == null) {
+            this.root = pivot;
+        } else {
+            node.parent.replace(node, pivot);
+        }
+        node.replace(pivot, shorter);
+        pivot.replace(shorter, node);
+        node.fit();
+        pivot.fit();
+        return pivot;
+    }
+
+    /**
+     * A node of the tree, either a leaf holding an object or an inner node
+     * holding exactly two children.
+     */
+    private static final class Node {
+        private final CollidableGameObject object;
+        private AABB box;
+        private Node parent;
+        private Node left;
+        private Node right;
+        private int height;
+
+        Node(final CollidableGameObject object, final AABB box) {
+            this.object = object;
+            this.box = box;
+        }
+
+        Node(final AABB box, final Node left, final Node right) {
+            this(null, box);
+            this.left = left;
+            this.right = right;
+            left.parent = this;
+            right.parent = this;
+            this.height = 1 + Math.max(left.height, right.height);
+        }
+
+        boolean isLeaf() {
+            return this.left == null;
+        }
+
+        void replace(final Node child, final Node with) {
+            if (this.left == child) {
+                this.left = with;
+            } else {
+                this.right = with;
+            }
+            with.parent = this;
+        }
+
+        void fit() {
+            this.box = this.left.box.union(this.right.box);
+            this.height = 1 + Math.max(this.left.height, this.right.height);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+
+/**
+ * A {@link BroadPhase} bucketing objects into the cells of a uniform grid.
+ * <p>
+ * Each object is stored in every cell its bounds overlap, so a query only visits
+ * the cells covered by the queried area. Objects which do not move on their own
+ * are bucketed once on insertion; moving objects are kept in a separate list
+ * and only those are re-bucketed on {@link #update()}, when their cell range
+ * changes. Once an object stops being dynamic it is dropped from that list.
+ * </p>
+ * <p>
+ * The grid is unbounded: cells are addressed by hashing their coordinates, and
+ * only non-empty cells take memory. It suits levels made of many objects of
+ * similar size, since very large objects span many cells; levels mixing sizes
+ * are better served by a {@link DynamicAABBTree}.
+ * </p>
+ */
+public final class SpatialHashGrid implements BroadPhase {
+
+    /**
+     * Default cell size, about twice the size of the player.
+     */
+    public static final double DEFAULT_CELL_SIZE = 32;
+
+    private static final int COORD_BITS = 32;
+    private static final long COORD_MASK = 0xFFFF_FFFFL;
+
+    private final double cellSize;
+    private final Map<Long, List<CollidableGameObject>> cells;
+    private final Map<CollidableGameObject, AABB> bounds;
+    private final Set<CollidableGameObject> dynamics;
+
+    /**
+     * Creates a grid with the {@link #DEFAULT_CELL_SIZE default} cell size.
+     */
+    public SpatialHashGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a grid with the given cell size.
+     *
+     * @param cellSize the side of a cell, in world units
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public SpatialHashGrid(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive, got " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.cells = new HashMap<>();
+        this.bounds = new HashMap<>();
+        this.dynamics = new LinkedHashSet<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insert(final CollidableGameObject object) {
+        if (!this.bounds.containsKey(object)) {
+            final AABB box = AABB.of(object);
+            this.bounds.put(object, box);
+            this.bucket(object, box);
+            if (BroadPhase.isDynamic(object)) {
+                this.dynamics.add(object);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final CollidableGameObject object) {
+        final AABB box = this.bounds.remove(object);
+        if (box != null) {
+            this.unbucket(object, box);
+            this.dynamics.remove(object);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.cells.clear();
+        this.bounds.clear();
+        this.dynamics.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.bounds.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
+        final Iterator<CollidableGameObject> it = this.dynamics.iterator();
+        while (it.hasNext()) {
+            final CollidableGameObject object = it.next();
+            final AABB old = this.bounds.get(object);
+            final AABB box = AABB.of(object);
+            if (!this.sameCells(old, box)) {
+                this.unbucket(object, old);
+                this.bucket(object, box);
+            }
+            this.bounds.put(object, box);
+            if (!BroadPhase.isDynamic(object)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CollidableGameObject> query(final AABB area) {
+        final Set<CollidableGameObject> found = new LinkedHashSet<>();
+        for (long x = this.cell(area.minX()); x <= this.cell(area.maxX()); x++) {
+            for (long y = this.cell(area.minY()); y <= this.cell(area.maxY()); y++) {
+                final List<CollidableGameObject> bucket = this.cells.get(key(x, y));
+                if (bucket != null) {
+                    for (final CollidableGameObject object : bucket) {
+                        if (this.bounds.get(object).overlaps(area)) {
+                            found.add(object);
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private void bucket(final CollidableGameObject object, final AABB box) {
+        for (long x = this.cell(box.minX()); x <= this.cell(box.maxX()); x++) {
+            for (long y = this.cell(box.minY()); y <= this.cell(box.maxY()); y++) {
+                this.cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(object);
+            }
+        }
+    }
+
+    private void unbucket(final CollidableGameObject object, final AABB box) {
+        for (long x = this.cell(box.minX()); x <= this.cell(box.maxX()); x++) {
+            for (long y = this.cell(box.minY()); y <= this.cell(box.maxY()); y++) {
+                final Long key = key(x, y);
+                final List<CollidableGameObject> bucket = this.cells.get(key);
+                if (bucket != null) {
+                    bucket.remove(object);
+                    if (bucket.isEmpty()) {
+                        this.cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean sameCells(final AABB a, final AABB b) {
+        return this.cell(a.minX()) == this.cell(b.minX())
+                && this.cell(a.minY()) == this.cell(b.minY())
+                && this.cell(a.maxX()) == this.cell(b.maxX())
+                && this.cell(a.maxY()) == this.cell(b.maxY());
+    }
+
+    private long cell(final double coordinate) {
+        return (long) Math.floor(coordinate / this.cellSize);
+    }
+
+    private static long key(final long x, final long y) {
+        return x << COORD_BITS | y & COORD_MASK;
+    }
+}
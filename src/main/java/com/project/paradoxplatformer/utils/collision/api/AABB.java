@@ -0,0 +1,96 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import com.project.paradoxplatformer.model.entity.GameObject;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * An axis-aligned bounding box, given by its minimum and maximum corners.
+ * <p>
+ * Boxes touching only along an edge are not considered overlapping, consistently
+ * with {@code CollisionDetector.isColliding}.
+ * </p>
+ *
+ * @param minX the minimum x coordinate
+ * @param minY the minimum y coordinate
+ * @param maxX the maximum x coordinate
+ * @param maxY the maximum y coordinate
+ */
+public record AABB(double minX, double minY, double maxX, double maxY) {
+
+    /**
+     * Computes the bounding box of a game object, reading its position and
+     * dimension once.
+     *
+     * @param object the game object
+     * @return the bounding box of the object
+     */
+    public static AABB of(final GameObject object) {
+        final Coord2D position = object.getPosition();
+        final Dimension dimension = object.getDimension();
+        return new AABB(
+                position.x(),
+                position.y(),
+                position.x() + dimension.width(),
+                position.y() + dimension.height());
+    }
+
+    /**
+     * Checks whether this box overlaps another one.
+     *
+     * @param other the other box
+     * @return {@code true} if the two boxes share some area
+     */
+    public boolean overlaps(final AABB other) {
+        return !(this.maxX <= other.minX
+                || this.minX >= other.maxX
+                || this.maxY <= other.minY
+                || this.minY >= other.maxY);
+    }
+
+    /**
+     * Checks whether this box fully contains another one.
+     *
+     * @param other the other box
+     * @return {@code true} if the other box lies within this one
+     */
+    public boolean contains(final AABB other) {
+        return this.minX <= other.minX
+                && this.minY <= other.minY
+                && this.maxX >= other.maxX
+                && this.maxY >= other.maxY;
+    }
+
+    /**
+     * Computes the smallest box containing both this box and another one.
+     *
+     * @param other the other box
+     * @return the union of the two boxes
+     */
+    public AABB union(final AABB other) {
+        return new AABB(
+                Math.min(this.minX, other.minX),
+                Math.min(this.minY, other.minY),
+                Math.max(this.maxX, other.maxX),
+                Math.max(this.maxY, other.maxY));
+    }
+
+    /**
+     * Enlarges this box by the same margin on every side.
+     *
+     * @param margin the margin to add
+     * @return the enlarged box
+     */
+    public AABB expand(final double margin) {
+        return new AABB(this.minX - margin, this.minY - margin, this.maxX + margin, this.maxY + margin);
+    }
+
+    /**
+     * The perimeter of the box, used as its cost by bounding volume hierarchies.
+     *
+     * @return the perimeter of the box
+     */
+    public double perimeter() {
+        return 2 * (this.maxX - this.minX + this.maxY - this.minY);
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+
+/**
+ * A spatial index used as the broad phase of collision detection.
+ * <p>
+ * The broad phase cheaply narrows down the objects which may collide with a
+ * given area, so that the exact test only runs on a few candidates instead of
+ * every object of the level. Candidates are selected by the bounds the index
+ * knows of, which are refreshed by {@link #update()} for objects still moving
+ * on their own, see {@code MutableObject#isDynamic()}.
+ * </p>
+ */
+public interface BroadPhase {
+
+    /**
+     * Adds an object to the index.
+     *
+     * @param object the object to add
+     */
+    void insert(CollidableGameObject object);
+
+    /**
+     * Removes an object from the index.
+     *
+     * @param object the object to remove
+     */
+    void remove(CollidableGameObject object);
+
+    /**
+     * Removes every object from the index.
+     */
+    void clear();
+
+    /**
+     * The number of indexed objects.
+     *
+     * @return the size of the index
+     */
+    int size();
+
+    /**
+     * Refreshes the bounds of the objects which may have moved since the last
+     * update.
+     */
+    void update();
+
+    /**
+     * Finds the objects whose indexed bounds overlap the given area.
+     *
+     * @param area the area to query
+     * @return the overlapping objects
+     */
+    Set<CollidableGameObject> query(AABB area);
+
+    /**
+     * Visits the objects whose indexed bounds overlap the given area, without
+     * collecting them. Implementations may report an object more than once.
+     *
+     * @param area    the area to query
+     * @param visitor called with every overlapping object
+     */
+    default void queryOverlaps(final AABB area, final Consumer<? super CollidableGameObject> visitor) {
+        this.query(area).forEach(visitor);
+    }
+
+    /**
+     * Tells whether an object may change its bounds on its own and must thus be
+     * refreshed at every update. Objects which are not {@link MutableObject}
+     * are conservatively considered dynamic.
+     *
+     * @param object the object to check
+     * @return {@code true} if the object is dynamic
+     */
+    static boolean isDynamic(final CollidableGameObject object) {
+        return !(object instanceof MutableObject) || ((MutableObject) object).isDynamic();
+    }
+}
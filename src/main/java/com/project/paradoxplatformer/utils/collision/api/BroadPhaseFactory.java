@@ -0,0 +1,18 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import com.project.paradoxplatformer.controller.games.Level;
+
+/**
+ * An interface for creating instances of {@link BroadPhase}.
+ * Provides method to get the broad phase best suited to a level.
+ */
+public interface BroadPhaseFactory {
+
+    /**
+     * Creates and returns a {@link BroadPhase} suited to the given level.
+     *
+     * @param level the level for which to create the broad phase
+     * @return the broad phase for the specified level or the default one
+     */
+    BroadPhase getBroadPhaseForLevel(Level level);
+}
@@ -0,0 +1,23 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+/**
+ * Enum representing the phases of a contact between two game objects, as seen
+ * across consecutive frames.
+ */
+public enum ContactPhase {
+    /**
+     * The objects started colliding in this frame.
+     */
+    ENTER,
+
+    /**
+     * The objects were already colliding in the previous frame and still are.
+     */
+    STAY,
+
+    /**
+     * The objects were colliding in the previous frame and no longer are, either
+     * because they moved apart or because one of them was removed.
+     */
+    EXIT
+}
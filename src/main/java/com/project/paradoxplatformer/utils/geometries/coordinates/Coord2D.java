@@ -1,5 +1,7 @@
 package com.project.paradoxplatformer.utils.geometries.coordinates;
 
+import com.project.paradoxplatformer.controller.session.GameSession;
+
 /**
  * Represents a point in a 2D coordinate system.
  * <p>
@@ -63,6 +65,8 @@ public record Coord2D(double x, double y) {
      * (inclusive).
      * <p>
      * This is a helper method used internally to generate random coordinates.
+     * Numbers are drawn from the {@link GameSession#random() random numbers} of
+     * the current session, so that seeded sessions draw the same coordinates.
      * </p>
      *
      * @param min the minimum value (inclusive)
@@ -70,6 +74,6 @@ public record Coord2D(double x, double y) {
      * @return a random integer between min and max
      */
     private static int randomInt(final int min, final int max) {
-        return (int) (Math.random() * (max - min + 1) + min);
+        return GameSession.current().random().nextInt(max - min + 1) + min;
     }
 }
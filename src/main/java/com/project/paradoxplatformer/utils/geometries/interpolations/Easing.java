@@ -0,0 +1,42 @@
+package com.project.paradoxplatformer.utils.geometries.interpolations;
+
+import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
+
+/**
+ * An {@link Interpolator} for {@link Vector2D} values defined by an easing
+ * curve.
+ * <p>
+ * The curve maps the interpolation factor to the fraction of the way from the
+ * start to the end, on primitive doubles, so that it can be applied without
+ * creating any intermediate vector.
+ * </p>
+ */
+@FunctionalInterface
+public interface Easing extends Interpolator<Vector2D> {
+
+    /**
+     * Computes the fraction of the way from the start to the end reached at the
+     * given interpolation factor.
+     *
+     * @param t the interpolation factor (should be between 0 and 1)
+     * @return the fraction of the way covered
+     */
+    double progress(double t);
+
+    /**
+     * Interpolates between two vectors along the easing curve.
+     *
+     * @param start the starting value of the interpolation
+     * @param end   the ending value of the interpolation
+     * @param t     the interpolation factor (should be between 0 and 1)
+     * @return the interpolated vector
+     */
+    @Override
+    default Vector2D lerp(final Vector2D start, final Vector2D end, final double t) {
+        final double progress = this.progress(t);
+        return new Simple2DVector(
+                start.xComponent() + (end.xComponent() - start.xComponent()) * progress,
+                start.yComponent() + (end.yComponent() - start.yComponent()) * progress);
+    }
+}
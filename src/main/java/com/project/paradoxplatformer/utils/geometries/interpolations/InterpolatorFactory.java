@@ -18,9 +18,9 @@ public interface InterpolatorFactory {
      * values.
      * </p>
      *
-     * @return an {@link Interpolator} that performs linear interpolation
+     * @return an {@link Easing} that performs linear interpolation
      */
-    Interpolator<Vector2D> linear();
+    Easing linear();
 
     /**
      * Creates an ease-in interpolator.
@@ -30,9 +30,9 @@ public interface InterpolatorFactory {
      * and accelerates towards the end.
      * </p>
      *
-     * @return an {@link Interpolator} that performs ease-in interpolation
+     * @return an {@link Easing} that performs ease-in interpolation
      */
-    Interpolator<Vector2D> easeIn();
+    Easing easeIn();
 
     /**
      * Creates an ease-out interpolator.
@@ -42,9 +42,9 @@ public interface InterpolatorFactory {
      * and decelerates towards the end.
      * </p>
      *
-     * @return an {@link Interpolator} that performs ease-out interpolation
+     * @return an {@link Easing} that performs ease-out interpolation
      */
-    Interpolator<Vector2D> easeOut();
+    Easing easeOut();
 
     /**
      * Creates an ease-in-out interpolator.
@@ -54,7 +54,7 @@ public interface InterpolatorFactory {
      * accelerates in the middle, and then decelerates towards the end.
      * </p>
      *
-     * @return an {@link Interpolator} that performs ease-in-out interpolation
+     * @return an {@link Easing} that performs ease-in-out interpolation
      */
-    Interpolator<Vector2D> easeInOut();
+    Easing easeInOut();
 }
@@ -1,9 +1,7 @@
 package com.project.paradoxplatformer.utils.geometries.interpolations;
 
-import java.util.Optional;
-import java.util.function.UnaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
-import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
 /**
@@ -14,6 +12,10 @@ import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
  * easing functions
  * for {@link Vector2D} objects.
  * </p>
+ * <p>
+ * Interpolators are stateless, so each kind is built once and shared by every
+ * factory.
+ * </p>
  */
 public final class InterpolatorFactoryImpl implements InterpolatorFactory {
 
@@ -23,31 +25,32 @@ public final class InterpolatorFactoryImpl implements InterpolatorFactory {
     private static final double UNIT = 1.d;
     private static final double NULL_ALGEBRIC_VALUE = 0.d;
 
+    private static final Easing LINEAR = templateEase(DoubleUnaryOperator.identity(), LINEAR_EXPO,
+            NULL_ALGEBRIC_VALUE);
+    private static final Easing EASE_IN = templateEase(DoubleUnaryOperator.identity(), EASY_IN_EXPO,
+            NULL_ALGEBRIC_VALUE);
+    private static final Easing EASE_OUT = templateEase(t -> UNIT - t, EASY_OUT_EXPO, -UNIT);
+    private static final Easing EASE_IN_OUT = templateEase(t -> UNIT - t, 2.d, -UNIT);
+
     /**
      * Use of template method
      * Creates an interpolator using a base function and exponent for easing
      * calculations.
      * <p>
-     * This method returns an {@link Interpolator} that performs interpolation based
+     * This method returns an {@link Easing} that performs interpolation based
      * on the provided base function
-     * and exponent, optionally adjusting for any residual values.
+     * and exponent, shifted by the given residual value.
      * </p>
      *
-     * @param base     a {@link UnaryOperator} function to apply for interpolation
+     * @param base     a {@link DoubleUnaryOperator} function to apply for
+     *                 interpolation
      * @param exponent the exponent to use in the interpolation calculation
-     * @param residuo  an optional residual value for further adjustment
-     * @return an {@link Interpolator} for {@link Vector2D} that performs
-     *         interpolation
+     * @param residuo  a residual value added to the eased factor
+     * @return an {@link Easing} that performs interpolation
      */
-    private Interpolator<Vector2D> templateEase(final UnaryOperator<Double> base, final double exponent,
-            final Optional<Double> residuo) {
-        return (s, e, t) -> new Simple2DVector(
-                s.xComponent() + (e.xComponent() - s.xComponent())
-                        * (residuo.orElse(NULL_ALGEBRIC_VALUE) * residuo.map(sign -> -UNIT).orElse(UNIT)
-                                + Math.min(Math.pow(base.apply(t), exponent), UNIT)),
-                s.yComponent() + (e.yComponent() - s.yComponent())
-                        * (residuo.orElse(NULL_ALGEBRIC_VALUE) * residuo.map(sign -> -UNIT).orElse(UNIT)
-                                + Math.min(Math.pow(base.apply(t), exponent), UNIT)));
+    private static Easing templateEase(final DoubleUnaryOperator base, final double exponent,
+            final double residuo) {
+        return t -> residuo + Math.min(Math.pow(base.applyAsDouble(t), exponent), UNIT);
     }
 
     /**
@@ -57,12 +60,11 @@ public final class InterpolatorFactoryImpl implements InterpolatorFactory {
      * values.
      * </p>
      *
-     * @return an {@link Interpolator} for {@link Vector2D} that performs linear
-     *         interpolation
+     * @return an {@link Easing} that performs linear interpolation
      */
     @Override
-    public Interpolator<Vector2D> linear() {
-        return templateEase(UnaryOperator.identity(), LINEAR_EXPO, Optional.empty());
+    public Easing linear() {
+        return LINEAR;
     }
 
     /**
@@ -73,12 +75,11 @@ public final class InterpolatorFactoryImpl implements InterpolatorFactory {
      * and accelerates towards the end.
      * </p>
      *
-     * @return an {@link Interpolator} for {@link Vector2D} that performs ease-in
-     *         interpolation
+     * @return an {@link Easing} that performs ease-in interpolation
      */
     @Override
-    public Interpolator<Vector2D> easeIn() {
-        return templateEase(UnaryOperator.identity(), EASY_IN_EXPO, Optional.empty());
+    public Easing easeIn() {
+        return EASE_IN;
     }
 
     /**
@@ -89,27 +90,25 @@ public final class InterpolatorFactoryImpl implements InterpolatorFactory {
      * and decelerates towards the end.
      * </p>
      *
-     * @return an {@link Interpolator} for {@link Vector2D} that performs ease-out
-     *         interpolation
+     * @return an {@link Easing} that performs ease-out interpolation
      */
     @Override
-    public Interpolator<Vector2D> easeOut() {
-        return templateEase(t -> 1 - t, EASY_OUT_EXPO, Optional.of(UNIT));
+    public Easing easeOut() {
+        return EASE_OUT;
     }
 
+    /**
+     * Creates an ease-in-out interpolator.
+     * <p>
+     * This interpolator performs ease-in-out interpolation, where the interpolation
+     * starts slowly,
+     * accelerates in the middle, and then decelerates towards the end.
+     * </p>
+     *
+     * @return an {@link Easing} that performs ease-in-out interpolation
+     */
     @Override
-    public Interpolator<Vector2D> easeInOut() {
-        /**
-         * Creates an ease-in-out interpolator.
-         * <p>
-         * This interpolator performs ease-in-out interpolation, where the interpolation
-         * starts slowly,
-         * accelerates in the middle, and then decelerates towards the end.
-         * </p>
-         *
-         * @return an {@link Interpolator} for {@link Vector2D} that performs
-         *         ease-in-out interpolation
-         */
-        return templateEase(t -> 1 - t, 2.d, Optional.of(UNIT));
+    public Easing easeInOut() {
+        return EASE_IN_OUT;
     }
 }
@@ -2,8 +2,10 @@ package com.project.paradoxplatformer.utils.geometries.physic;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.project.paradoxplatformer.utils.geometries.interpolations.Easing;
 import com.project.paradoxplatformer.utils.geometries.interpolations.Interpolator;
 import com.project.paradoxplatformer.utils.geometries.physic.api.Physics;
+import com.project.paradoxplatformer.utils.geometries.vector.api.MutableVector2D;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Polar2DVector;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
@@ -35,13 +37,7 @@ public final class PhysicsEngine implements Physics {
             final Interpolator<Vector2D> interpType,
             final long dt
         ) {
-        if (duration <= 0L || dt < 0L) {
-            throw new IllegalArgumentException("Duration and delta time must be positive");
-        }
-        this.elapseTime += dt;
-        final double y = elapseTime / (duration * MILLISECOND_IN_SEC);
-
-        final double percentage = Math.min(y, CLAMP_VALUE);
+        final double percentage = this.advance(duration, dt);
         return Pair.of(interpType.lerp(start, end, percentage), percentage);
     }
 
@@ -55,10 +51,36 @@ public final class PhysicsEngine implements Physics {
         final Interpolator<Vector2D> interpType, 
         final long dt
         ) {
-        if (dt < 0L) {
-            throw new IllegalArgumentException("delta time must be positive");
-        }
-        return interpType.lerp(start, end, dt / MILLISECOND_IN_SEC);
+        return interpType.lerp(start, end, stepFactor(dt));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double moveBy(
+            final MutableVector2D position,
+            final Vector2D offset,
+            final long duration,
+            final Easing easing,
+            final long dt
+        ) {
+        final double percentage = this.advance(duration, dt);
+        lerpBy(position, offset, easing.progress(percentage));
+        return percentage;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stepBy(
+        final MutableVector2D position,
+        final Vector2D offset,
+        final Easing easing,
+        final long dt
+        ) {
+        lerpBy(position, offset, easing.progress(stepFactor(dt)));
     }
 
     /**
@@ -69,4 +91,29 @@ public final class PhysicsEngine implements Physics {
         this.elapseTime = 0.d;
         return Polar2DVector.nullVector();
     }
+
+    private double advance(final long duration, final long dt) {
+        if (duration <= 0L || dt < 0L) {
+            throw new IllegalArgumentException("Duration and delta time must be positive");
+        }
+        this.elapseTime += dt;
+        final double y = elapseTime / (duration * MILLISECOND_IN_SEC);
+
+        return Math.min(y, CLAMP_VALUE);
+    }
+
+    private static double stepFactor(final long dt) {
+        if (dt < 0L) {
+            throw new IllegalArgumentException("delta time must be positive");
+        }
+        return dt / MILLISECOND_IN_SEC;
+    }
+
+    // Computes the destination as Vector2D#add does, so that results match the immutable path
+    private static void lerpBy(final MutableVector2D position, final Vector2D offset, final double progress) {
+        position.lerp(
+                offset.xComponent() + position.x(),
+                offset.yComponent() + position.y(),
+                progress);
+    }
 }
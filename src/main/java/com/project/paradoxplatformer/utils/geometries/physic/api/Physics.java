@@ -2,7 +2,9 @@ package com.project.paradoxplatformer.utils.geometries.physic.api;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.project.paradoxplatformer.utils.geometries.interpolations.Easing;
 import com.project.paradoxplatformer.utils.geometries.interpolations.Interpolator;
+import com.project.paradoxplatformer.utils.geometries.vector.api.MutableVector2D;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
 
 /**
@@ -73,6 +75,52 @@ public interface Physics {
         long dt
     );
 
+    /**
+     * In-place variant of {@link #moveTo(Vector2D, Vector2D, long, Interpolator, long)},
+     * moving the given position towards itself plus the given offset.
+     * 
+     * <p>The position is updated directly and no object is created, which makes this 
+     * method fit for movements computed at every update. The result is the same as 
+     * moving from the position to {@code position.add(offset)}.
+     * </p>
+     * 
+     * @param position the position to move, updated in place
+     * @param offset the offset from the position to the destination of the movement
+     * @param duration the total duration over which the movement should occur (in milliseconds)
+     * @param easing the easing curve used to determine how the motion is calculated over time
+     * @param dt the delta time representing the elapsed time for the current step (in milliseconds)
+     * @return the completion percentage of the movement (0.0 to 1.0)
+     * @throws IllegalArgumentException if duration or delta time (`dt`) are non-positive values
+     */
+    double moveBy(
+        MutableVector2D position,
+        Vector2D offset,
+        long duration,
+        Easing easing,
+        long dt
+    );
+
+    /**
+     * In-place variant of {@link #step(Vector2D, Vector2D, Interpolator, long)},
+     * stepping the given position towards itself plus the given offset.
+     * 
+     * <p>The position is updated directly and no object is created. The result is the 
+     * same as stepping from the position to {@code position.add(offset)}.
+     * </p>
+     * 
+     * @param position the position to move, updated in place
+     * @param offset the offset from the position to the destination of the movement
+     * @param easing the easing curve used to determine how the motion is calculated at each step
+     * @param dt the delta time representing the time interval for the current step (in milliseconds)
+     * @throws IllegalArgumentException if delta time (`dt`) is non-positive
+     */
+    void stepBy(
+        MutableVector2D position,
+        Vector2D offset,
+        Easing easing,
+        long dt
+    );
+
     /**
      * Resets any internal state related to the current movement and stops further progression. 
      * 
@@ -1,7 +1,5 @@
 package com.project.paradoxplatformer.utils.geometries.vector.api;
 
-import java.util.Optional;
-
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.utils.geometries.coordinates.api.Cartesian;
 
@@ -13,27 +11,32 @@ import com.project.paradoxplatformer.utils.geometries.coordinates.api.Cartesian;
  * defines abstract methods for vector operations that must be implemented
  * by subclasses.
  * </p>
+ * <p>
+ * Components are kept as primitives, while magnitude and direction are only
+ * computed the first time they are asked for, so that vectors used for plain
+ * component arithmetic never pay for the trigonometry.
+ * </p>
  */
 public abstract sealed class AbstractVector implements Vector2D permits Simple2DVector {
 
-    private final Cartesian cartesian;
-    private final double magnitude;
-    private final double angle;
+    private final double x;
+    private final double y;
+    private double magnitude = Double.NaN;
+    private double angle = Double.NaN;
 
     /**
      * Constructs an {@link AbstractVector} with the specified x and y components.
      * <p>
-     * This constructor initializes the vector using Cartesian coordinates and
-     * calculates the magnitude and angle from these coordinates.
+     * This constructor only stores the components; magnitude and angle are
+     * derived from them lazily.
      * </p>
      *
      * @param x the x component of the vector
      * @param y the y component of the vector
      */
     protected AbstractVector(final double x, final double y) {
-        this.cartesian = new Cartesian(x, y);
-        this.magnitude = cartesian.toPolar().getMagnitude();
-        this.angle = cartesian.toPolar().getAngle();
+        this.x = x;
+        this.y = y;
     }
 
     /**
@@ -46,6 +49,9 @@ public abstract sealed class AbstractVector implements Vector2D permits Simple2D
      */
     @Override
     public double magnitude() {
+        if (Double.isNaN(this.magnitude)) {
+            this.magnitude = Math.sqrt(Math.pow(this.x, 2) + Math.pow(this.y, 2));
+        }
         return this.magnitude;
     }
 
@@ -59,6 +65,9 @@ public abstract sealed class AbstractVector implements Vector2D permits Simple2D
      */
     @Override
     public double direction() {
+        if (Double.isNaN(this.angle)) {
+            this.angle = this.y + this.y == 0.0d ? 0.0d : Math.atan2(this.y, this.x);
+        }
         return this.angle;
     }
 
@@ -105,26 +114,30 @@ public abstract sealed class AbstractVector implements Vector2D permits Simple2D
     /**
      * Returns the y component of this vector.
      * <p>
-     * This method retrieves the y component of the vector's Cartesian coordinates
-     * and must be implemented by subclasses.
+     * This method retrieves the y component of the vector's Cartesian
+     * coordinates.
      * </p>
      *
      * @return the y component of this vector
      */
     @Override
-    public abstract double yComponent();
+    public double yComponent() {
+        return this.y;
+    }
 
     /**
      * Returns the x component of this vector.
      * <p>
-     * This method retrieves the x component of the vector's Cartesian coordinates
-     * and must be implemented by subclasses.
+     * This method retrieves the x component of the vector's Cartesian
+     * coordinates.
      * </p>
      *
      * @return the x component of this vector
      */
     @Override
-    public abstract double xComponent();
+    public double xComponent() {
+        return this.x;
+    }
 
     /**
      * Returns a string representation of this vector.
@@ -136,21 +149,20 @@ public abstract sealed class AbstractVector implements Vector2D permits Simple2D
      */
     @Override
     public String toString() {
-        return "{" + cartesian + ", Mag: " + magnitude + "}";
+        return "{" + this.getCartesian() + ", Mag: " + this.magnitude() + "}";
     }
 
     /**
      * Returns the Cartesian coordinates of this vector.
      * <p>
-     * This method provides access to the underlying Cartesian coordinates of
-     * the vector. Subclasses can use this method to get the coordinates for
-     * further calculations or representations.
+     * This method provides the Cartesian coordinates of the vector as a new
+     * instance, so that changing them does not affect the vector.
      * </p>
      *
      * @return a {@link Cartesian} instance representing the Cartesian coordinates
      */
     public Cartesian getCartesian() {
-        return Optional.of(cartesian).get();
+        return new Cartesian(this.x, this.y);
     }
 
 }
@@ -0,0 +1,163 @@
+package com.project.paradoxplatformer.utils.geometries.vector.api;
+
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A mutable 2D vector on primitive components.
+ * <p>
+ * Unlike {@link Vector2D}, whose operations always return new vectors, this
+ * class updates its components in place, so that positions advanced every
+ * update can be kept without creating any object. It is meant to be owned by a
+ * single object and never shared: {@link #toVector()} takes an immutable
+ * snapshot whenever a {@link Vector2D} is to be handed out.
+ * </p>
+ */
+public final class MutableVector2D {
+
+    private double x;
+    private double y;
+
+    /**
+     * Constructs a mutable vector with the specified components.
+     *
+     * @param x the x component of the vector
+     * @param y the y component of the vector
+     */
+    public MutableVector2D(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Constructs a mutable vector at the origin.
+     */
+    public MutableVector2D() {
+        this(0.d, 0.d);
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component of this vector
+     */
+    public double x() {
+        return this.x;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component of this vector
+     */
+    public double y() {
+        return this.y;
+    }
+
+    /**
+     * Sets both components of this vector.
+     *
+     * @param newX the new x component
+     * @param newY the new y component
+     * @return this vector
+     */
+    public MutableVector2D set(final double newX, final double newY) {
+        this.x = newX;
+        this.y = newY;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to those of another vector.
+     *
+     * @param vector the vector to copy
+     * @return this vector
+     */
+    public MutableVector2D set(final Vector2D vector) {
+        return this.set(vector.xComponent(), vector.yComponent());
+    }
+
+    /**
+     * Adds the given components to this vector.
+     *
+     * @param dx the value to add to the x component
+     * @param dy the value to add to the y component
+     * @return this vector
+     */
+    public MutableVector2D add(final double dx, final double dy) {
+        return this.set(this.x + dx, this.y + dy);
+    }
+
+    /**
+     * Adds another vector to this vector.
+     *
+     * @param vector the vector to add
+     * @return this vector
+     */
+    public MutableVector2D add(final Vector2D vector) {
+        return this.add(vector.xComponent(), vector.yComponent());
+    }
+
+    /**
+     * Multiplies both components of this vector by a scalar.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public MutableVector2D scale(final double scalar) {
+        return this.set(this.x * scalar, this.y * scalar);
+    }
+
+    /**
+     * Moves this vector towards the given end point by the given fraction of
+     * the way, that is {@code this + (end - this) * t}.
+     *
+     * @param endX the x component of the end point
+     * @param endY the y component of the end point
+     * @param t    the fraction of the way to cover
+     * @return this vector
+     */
+    public MutableVector2D lerp(final double endX, final double endY, final double t) {
+        return this.set(this.x + (endX - this.x) * t, this.y + (endY - this.y) * t);
+    }
+
+    /**
+     * Moves this vector towards the given end point by the given fraction of
+     * the way.
+     *
+     * @param end the end point
+     * @param t   the fraction of the way to cover
+     * @return this vector
+     * @see #lerp(double, double, double)
+     */
+    public MutableVector2D lerp(final Vector2D end, final double t) {
+        return this.lerp(end.xComponent(), end.yComponent(), t);
+    }
+
+    /**
+     * Takes an immutable snapshot of this vector.
+     *
+     * @return a {@link Vector2D} with the current components of this vector
+     */
+    public Vector2D toVector() {
+        return new Simple2DVector(this.x, this.y);
+    }
+
+    /**
+     * Converts this vector to a {@link Coord2D} representation.
+     *
+     * @return a {@link Coord2D} with the current components of this vector
+     */
+    public Coord2D convert() {
+        return new Coord2D(this.x, this.y);
+    }
+
+    /**
+     * Returns a string representation of this vector.
+     *
+     * @return a string representation of this vector
+     */
+    @Override
+    public String toString() {
+        return "MutableVector2D [x=" + this.x + ", y=" + this.y + "]";
+    }
+}
@@ -11,26 +11,32 @@ import com.project.paradoxplatformer.utils.geometries.coordinates.api.Polar;
  */
 public final class Polar2DVector extends Simple2DVector {
 
+    private static final Vector2D NULL_VECTOR = new Polar2DVector(0.d, 0.d);
+
     /**
      * Constructs a new Polar2DVector using the given polar coordinates.
      * <p>
      * The polar coordinates are converted to Cartesian coordinates for
-     * initialization.
+     * initialization, with the same rounding of the direction as
+     * {@link Polar#toCartesian()}.
      * </p>
      *
      * @param r     the radial distance from the origin
      * @param theta the angle in radians
      */
     public Polar2DVector(final double r, final double theta) {
-        super(new Polar(r, theta).toCartesian().getX(), new Polar(r, theta).toCartesian().getY());
+        super(Math.round(Math.cos(theta)) * r, Math.round(Math.sin(theta)) * r);
     }
 
     /**
-     * Creates a null vector with zero magnitude and direction.
+     * Returns the null vector, with zero magnitude and direction.
+     * <p>
+     * Vectors being immutable, the same instance is shared by every caller.
+     * </p>
      *
-     * @return a new Polar2DVector representing the null vector
+     * @return a Polar2DVector representing the null vector
      */
     public static Vector2D nullVector() {
-        return new Polar2DVector(0.d, 0.d);
+        return NULL_VECTOR;
     }
 }
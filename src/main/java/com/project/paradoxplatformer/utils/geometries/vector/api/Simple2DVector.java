@@ -58,32 +58,6 @@ public sealed class Simple2DVector extends AbstractVector permits Polar2DVector
         return new Polar2DVector(scalar * this.magnitude(), this.direction());
     }
 
-    /**
-     * Returns the y component of this vector.
-     * <p>
-     * This method retrieves the y component of the vector's Cartesian coordinates.
-     * </p>
-     *
-     * @return the y component of this vector
-     */
-    @Override
-    public double yComponent() {
-        return getCartesian().getY();
-    }
-
-    /**
-     * Returns the x component of this vector.
-     * <p>
-     * This method retrieves the x component of the vector's Cartesian coordinates.
-     * </p>
-     *
-     * @return the x component of this vector
-     */
-    @Override
-    public double xComponent() {
-        return getCartesian().getX();
-    }
-
     /**
      * Subtracts the specified vector from this vector and returns the result.
      * <p>
@@ -50,19 +50,21 @@ public interface GameView<C> {
     Dimension dimension();
 
     /**
-     * Updates the state of a graphical control based on the provided mutable object
-     * and graphic decorator.
+     * Updates the graphical controls of the game objects changed since the last
+     * call, then advances the animations of every control.
      * <p>
      * This method is used to synchronize the graphical representation with the
-     * state of the underlying game object.
+     * state of the underlying game objects, each control being matched to its
+     * object by ID: controls of objects missing from the batch are left as they
+     * are, apart from their animation.
      * </p>
      *
-     * @param readOnlyMutable the {@link ReadOnlyMutableObjectWrapper} containing
-     *                        the state information for the control
-     * @param readOnlyGraphic the {@link ReadOnlyGraphicDecorator} providing
-     *                        the graphical representation to be updated
+     * @param changed  the {@link ReadOnlyMutableObjectWrapper}s of the changed
+     *                 objects, holding the state information for their controls
+     * @param gameTime the game time elapsed since the start of the level, in
+     *                 milliseconds, animations being played against it
      */
-    void updateControlState(ReadOnlyMutableObjectWrapper readOnlyMutable, ReadOnlyGraphicDecorator<C> readOnlyGraphic);
+    void updateControlStates(List<ReadOnlyMutableObjectWrapper> changed, long gameTime);
 
     /**
      * Removes a graphical node from the view.
@@ -3,49 +3,89 @@ package com.project.paradoxplatformer.view;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
 import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
 import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
+import com.project.paradoxplatformer.utils.IntIndexTable;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.utils.geometries.orientations.GraphicOffsetCorrector;
 import com.project.paradoxplatformer.utils.geometries.orientations.OffsetCorrector;
 import com.project.paradoxplatformer.utils.geometries.orientations.factory.OffsetFactory;
 import com.project.paradoxplatformer.utils.geometries.orientations.factory.OffsetFactoryImpl;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+import com.project.paradoxplatformer.view.camera.Camera;
+import com.project.paradoxplatformer.view.camera.CullingGrid;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.GraphicBindings;
 import com.project.paradoxplatformer.view.graphics.GraphicContainer;
 import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+import com.project.paradoxplatformer.view.graphics.sprites.SpriteAnimations;
 import com.project.paradoxplatformer.view.graphics.sprites.SpriteStatus;
+import com.project.paradoxplatformer.view.graphics.sprites.Spriteable;
 import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
-import com.project.paradoxplatformer.view.javafx.fxcomponents.FXSpriteAdapter;
 
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ObservableDoubleValue;
 
 /**
  * Represents a view for the game platform, responsible for managing and
  * updating
  * graphical components based on the level data and game state.
+ * <p>
+ * The view shows the part of the level framed by a {@link Camera} following
+ * the player. Only the graphics within the camera, give or take a margin, are
+ * rendered in the container and animated: the others are found out through a
+ * {@link CullingGrid}, and rendered again, in their original order, once they
+ * come back into view.
+ * </p>
+ * <p>
+ * Colored objects without a trajectory never move: they are baked together
+ * into a single {@link StaticLayer} below every other graphic, and their own
+ * graphics are never rendered nor updated. Should one of them move all the
+ * same, it is taken out of the layer and handled like any other graphic.
+ * </p>
  * 
  * @param <C> the type of the graphics context
  * @param <K> the type of key used in the view mapping
  */
 public final class GameViewImpl<C, K> implements GameView<C> {
 
+    private static final double CULLING_MARGIN = 64;
+    private static final double CULLING_CELL_SIZE = 128;
+
     private final LevelDTO packedData;
     private final GraphicContainer<C, ?> container;
-    private List<GraphicAdapter<C>> setComponents;
+    private GraphicBindings<C> setComponents;
     private final ViewMappingFactory<C> viewMappingFactory;
     private OffsetCorrector offsetCorrector;
     private boolean isFlipped;
+    private SpriteAnimations animations;
+    private long gameTime;
+    private Camera camera;
+    private CullingGrid culling;
+    private IntIndexTable drawOrder;
+    private Optional<Coord2D> followed;
+    private Optional<StaticLayer<C>> staticLayer;
+    private final Map<Integer, AABB> bakedBounds;
+    private ObservableDoubleValue widthRatio;
+    private ObservableDoubleValue heightRatio;
 
     /**
      * Constructs a {@link GameViewImpl} with the specified level data, graphic
@@ -63,8 +103,16 @@ public final class GameViewImpl<C, K> implements GameView<C> {
         this.viewMappingFactory = factory;
         this.container = graphContainer.defensiveCopy(); // TO FIX
         this.offsetCorrector = null;
-        this.setComponents = new ArrayList<>();
+        this.setComponents = new GraphicBindings<>();
         this.isFlipped = false;
+        this.animations = new SpriteAnimations();
+        this.gameTime = 0;
+        this.camera = new Camera(this.dimension(), this.dimension(), CULLING_MARGIN);
+        this.culling = new CullingGrid(CULLING_CELL_SIZE);
+        this.drawOrder = new IntIndexTable(0);
+        this.followed = Optional.empty();
+        this.staticLayer = Optional.empty();
+        this.bakedBounds = new HashMap<>();
     }
 
     /**
@@ -78,10 +126,16 @@ public final class GameViewImpl<C, K> implements GameView<C> {
      */
     @Override
     public void init() {
+        final Dimension viewport = new Dimension(this.packedData.getViewWidth(), this.packedData.getViewHeight());
         final Pair<DoubleProperty, DoubleProperty> dimScalingProperties = this.initializeProperties(this.container);
-        this.container.setDimension(this.packedData.getWidth(), this.packedData.getHeight());
+        this.container.setDimension(viewport.width(), viewport.height());
+        this.widthRatio = dimScalingProperties.getKey().divide(viewport.width());
+        this.heightRatio = dimScalingProperties.getValue().divide(viewport.height());
+        final Map<Integer, GameDTO> statics = Arrays.stream(this.packedData.getGameDTOs())
+                .filter(g -> Objects.nonNull(g.getColor()) && g.getTraj().length == 0)
+                .collect(Collectors.toMap(GameDTO::getID, Function.identity()));
 
-        this.setComponents = Arrays.stream(this.packedData.getGameDTOs())
+        final List<GraphicAdapter<C>> components = Arrays.stream(this.packedData.getGameDTOs())
                 .collect(Collectors.teeing(
                         Collectors.filtering(g -> Objects.nonNull(g.getImage()),
                                 Collectors.mapping(this.viewMappingFactory.imageToView()::map, Collectors.toList())),
@@ -89,17 +143,43 @@ public final class GameViewImpl<C, K> implements GameView<C> {
                                 Collectors.mapping(this.viewMappingFactory.blockToView()::map, Collectors.toList())),
                         (l1, l2) -> Stream.of(l1, l2).flatMap(List::stream).collect(Collectors.toList())));
 
-        this.setComponents.stream()
-                .filter(this.container::render)
-                .forEach(o -> o.bindProperties(
-                        dimScalingProperties.getKey().divide(this.packedData.getWidth()),
-                        dimScalingProperties.getValue().divide(this.packedData.getHeight())));
-
         final OffsetFactory factory = new OffsetFactoryImpl(this.dimension());
         this.offsetCorrector = new GraphicOffsetCorrector(
                 factory.bottomLeft(), // BETTER SEPARATE LAYOUT AND BOX IN FACTORY, MAKE A LIST
                 factory.boxOffset(), // SO CAN USE REDUCE IN IMPLEMENTATION
                 new Simple2DVector(1, -1));
+
+        this.setComponents = new GraphicBindings<>(components.size());
+        this.camera = new Camera(this.dimension(), viewport, CULLING_MARGIN);
+        this.culling = new CullingGrid(CULLING_CELL_SIZE);
+        this.drawOrder = new IntIndexTable(components.size());
+        this.animations = new SpriteAnimations();
+        this.followed = Optional.empty();
+        this.bakedBounds.clear();
+        final List<StaticShape> shapes = new ArrayList<>();
+        for (int order = 0; order < components.size(); order++) {
+            final GraphicAdapter<C> graphic = components.get(order);
+            final AABB bounds = this.boundsOf(graphic.absolutePosition(), graphic.dimension(), graphic.dimension());
+            this.setComponents.register(graphic);
+            this.drawOrder.put(graphic.getID(), order);
+            if (statics.containsKey(graphic.getID())) {
+                shapes.add(new StaticShape(graphic.getID(), bounds, statics.get(graphic.getID()).getColor()));
+                this.bakedBounds.put(graphic.getID(), bounds);
+            } else {
+                graphic.bindProperties(this.widthRatio, this.heightRatio);
+                this.culling.put(graphic.getID(), bounds);
+                asSprite(graphic).ifPresent(sprite -> this.animations.add(
+                        graphic.getID(), sprite.sheet(), sprite.frameDuration(), this.gameTime));
+            }
+        }
+        this.staticLayer = shapes.isEmpty()
+                ? Optional.empty()
+                : Optional.of(this.viewMappingFactory.staticLayer(this.dimension(), shapes));
+        this.staticLayer.ifPresent(layer -> {
+            layer.bindProperties(this.widthRatio, this.heightRatio);
+            this.container.render(layer, StaticLayer.DRAW_ORDER);
+        });
+        this.culling.cull(this.camera.visibleArea(), this::show, this::hide);
     }
 
     /**
@@ -109,7 +189,7 @@ public final class GameViewImpl<C, K> implements GameView<C> {
      */
     @Override
     public List<GraphicAdapter<C>> getUnmodifiableControls() {
-        return Optional.ofNullable(Collections.unmodifiableList(this.setComponents))
+        return Optional.ofNullable(Collections.unmodifiableList(this.setComponents.graphics()))
                 .orElse(Collections.emptyList());
     }
 
@@ -125,33 +205,70 @@ public final class GameViewImpl<C, K> implements GameView<C> {
     }
 
     /**
-     * Updates the state of the graphical component based on the given mutable
-     * entity and graphic component.
+     * Updates the graphical components of the given changed entities, moves the
+     * camera after the player, then advances the animations of the visible
+     * sprites to the given game time.
      * <p>
-     * This method adjusts the position and dimension of the graphic component,
-     * animates sprites, and handles
-     * flipping the sprite based on the player's speed.
+     * This method adjusts the position and dimension of the graphic components
+     * in the batch and handles flipping the sprite based on the player's speed,
+     * so that idle entities cost nothing. Graphics are then culled against the
+     * camera, if it moved or something changed, and moved along with the camera.
+     * Animations of the sprites in view are then advanced all together, non
+     * special sprites playing idle and the player's one according to its last
+     * known speed, and only the sprites whose frame changed are touched.
      * </p>
      * 
-     * @param mutEntity    the mutable entity containing updated game state
-     *                     information
-     * @param graphicCompo the read-only graphic component to be updated
+     * @param changed  the changed entities containing updated game state
+     *                 information
+     * @param gameTime the game time elapsed since the start of the level, in
+     *                 milliseconds
      */
     @Override
-    public void updateControlState(
-            final ReadOnlyMutableObjectWrapper mutEntity,
-            final ReadOnlyGraphicDecorator<C> graphicCompo) {
-        retriveGraphic(graphicCompo).ifPresent(graph -> {
+    public void updateControlStates(final List<ReadOnlyMutableObjectWrapper> changed, final long gameTime) {
+        this.gameTime = gameTime;
+        changed.forEach(this::updateControlState);
+        final boolean moved = this.followed.isPresent()
+                && this.camera.follow(this.followed.get().x(), this.followed.get().y());
+        if (moved || !changed.isEmpty()) {
+            this.culling.cull(this.camera.visibleArea(), this::show, this::hide);
+        }
+        if (moved) {
+            final Coord2D origin = this.camera.origin();
+            this.staticLayer.ifPresent(layer -> layer.setPosition(-origin.x(), -origin.y()));
+            this.culling.forEachVisible(this::place);
+        }
+        if (this.animations.advance(this.gameTime) > 0) {
+            this.animations.forEachChanged((id, frame) -> this.setComponents.graphic(id)
+                    .flatMap(GameViewImpl::asSprite)
+                    .ifPresent(sprite -> sprite.showFrame(frame)));
+        }
+    }
 
-            final var c = offsetCorrector.correct(graphicCompo.dimension(), mutEntity.getPosition());
-            graph.setPosition(c.x(), c.y());
-            graph.setDimension(mutEntity.getDimension().width(), mutEntity.getDimension().height());
+    /**
+     * Updates the state of the graphical component of the given mutable entity.
+     * 
+     * @param mutEntity the mutable entity containing updated game state
+     *                  information
+     */
+    private void updateControlState(final ReadOnlyMutableObjectWrapper mutEntity) {
+        this.setComponents.graphic(mutEntity.getID()).ifPresent(graph -> {
 
-            if (graph instanceof FXSpriteAdapter spriAdapter && !spriAdapter.isSpecial()) {
-                spriAdapter.animate(SpriteStatus.IDLE);
+            final AABB bounds = this.boundsOf(mutEntity.getPosition(), graph.dimension(), mutEntity.getDimension());
+            if (this.bakedBounds.containsKey(mutEntity.getID())) {
+                if (this.bakedBounds.get(mutEntity.getID()).equals(bounds)) {
+                    return;
+                }
+                this.unbake(mutEntity.getID(), graph);
             }
+            final Coord2D origin = this.camera.origin();
+            graph.setPosition(bounds.minX() - origin.x(), bounds.minY() - origin.y());
+            graph.setDimension(mutEntity.getDimension().width(), mutEntity.getDimension().height());
+            this.culling.put(mutEntity.getID(), bounds);
 
             if (mutEntity.getCollisionType().equals(CollisionType.PLAYER)) {
+                this.followed = Optional.of(new Coord2D(
+                        (bounds.minX() + bounds.maxX()) / 2,
+                        (bounds.minY() + bounds.maxY()) / 2));
                 // JUST FOR TESTING, MUST DO BETTER
                 if (mutEntity.getSpeed().xComponent() < 0 && !this.isFlipped) {
                     graph.flip();
@@ -161,28 +278,86 @@ public final class GameViewImpl<C, K> implements GameView<C> {
                     this.isFlipped = false;
                 }
 
-                // System.out.println("[Player Position]: " + mutEntity.getSpeed());
-
-                if (graph instanceof FXSpriteAdapter spriAdapter) {
-                    spriAdapter
-                            .animate(mutEntity.getSpeed().magnitude() > mutEntity.getBaseDelta() ? SpriteStatus.RUNNING
-                                    : SpriteStatus.IDLE);
-                }
+                this.animations.play(mutEntity.getID(),
+                        mutEntity.getSpeed().magnitude() > mutEntity.getBaseDelta()
+                                ? SpriteStatus.RUNNING
+                                : SpriteStatus.IDLE,
+                        this.gameTime);
             }
         });
     }
 
     /**
-     * Retrieves the graphic adapter corresponding to the given graphic component.
+     * Takes the graphic of an object out of the static layer, since it moved.
+     * 
+     * @param id    the ID of the object
+     * @param graph the graphic of the object
+     */
+    private void unbake(final int id, final GraphicAdapter<C> graph) {
+        this.bakedBounds.remove(id);
+        this.staticLayer.ifPresent(layer -> layer.remove(id));
+        graph.bindProperties(this.widthRatio, this.heightRatio);
+        asSprite(graph).ifPresent(sprite -> this.animations.add(
+                id, sprite.sheet(), sprite.frameDuration(), this.gameTime));
+    }
+
+    /**
+     * Computes the bounds of a graphic within the level, in view coordinates.
+     * 
+     * @param position  the position of the game object
+     * @param layout    the dimension the graphic is laid out with
+     * @param dimension the current dimension of the game object
+     * @return the bounds of the graphic
+     */
+    private AABB boundsOf(final Coord2D position, final Dimension layout, final Dimension dimension) {
+        final Coord2D corner = this.offsetCorrector.correct(layout, position);
+        return new AABB(corner.x(), corner.y(), corner.x() + dimension.width(), corner.y() + dimension.height());
+    }
+
+    /**
+     * Places a graphic relatively to the camera.
+     * 
+     * @param id the ID of the graphic
+     */
+    private void place(final int id) {
+        final Coord2D origin = this.camera.origin();
+        this.culling.bounds(id).ifPresent(bounds -> this.setComponents.graphic(id)
+                .ifPresent(graph -> graph.setPosition(bounds.minX() - origin.x(), bounds.minY() - origin.y())));
+    }
+
+    /**
+     * Renders a graphic coming into view, in its original order, resuming its
+     * animation.
+     * 
+     * @param id the ID of the graphic
+     */
+    private void show(final int id) {
+        this.place(id);
+        this.animations.setActive(id, true);
+        this.setComponents.graphic(id).ifPresent(graph -> this.container.render(graph, this.drawOrder.get(id)));
+    }
+
+    /**
+     * Removes a graphic going out of view from the container, suspending its
+     * animation.
+     * 
+     * @param id the ID of the graphic
+     */
+    private void hide(final int id) {
+        this.animations.setActive(id, false);
+        this.setComponents.graphic(id).ifPresent(this.container::delete);
+    }
+
+    /**
+     * Looks at the given graphic as an animated sprite, whatever its backend.
      * 
-     * @param graphicCompo the read-only graphic component
-     * @return an {@link Optional} containing the {@link GraphicAdapter} if found,
-     *         otherwise empty
+     * @param graphic the graphic
+     * @return the graphic as a sprite, if it is one
      */
-    private Optional<GraphicAdapter<C>> retriveGraphic(final ReadOnlyGraphicDecorator<C> graphicCompo) {
-        return this.setComponents.stream()
-                .filter(g -> graphicCompo.getID() == g.getID())
-                .findFirst();
+    private static Optional<Spriteable> asSprite(final GraphicAdapter<?> graphic) {
+        return graphic instanceof Spriteable sprite
+                ? Optional.of(sprite)
+                : Optional.empty();
     }
 
     /**
@@ -192,7 +367,13 @@ public final class GameViewImpl<C, K> implements GameView<C> {
      */
     @Override
     public void removeGraphic(final ReadOnlyGraphicDecorator<C> node) {
-        retriveGraphic(node).ifPresent(this.setComponents::remove);
+        this.animations.remove(node.getID());
+        this.setComponents.remove(node.getID());
+        this.culling.remove(node.getID());
+        if (this.bakedBounds.remove(node.getID()) != null) {
+            this.staticLayer.ifPresent(layer -> layer.remove(node.getID()));
+        }
+        this.drawOrder.remove(node.getID());
         this.container.delete(node);
         // System.out.println("DELETED? ");
     }
@@ -0,0 +1,92 @@
+package com.project.paradoxplatformer.view.camera;
+
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A viewport over a level larger than the window, following a target across
+ * it.
+ * <p>
+ * Coordinates are the ones of the view, with the origin at the top left corner
+ * of the level. The viewport is kept centered on its target, unless that would
+ * show something outside the level, and is never larger than the level.
+ * </p>
+ */
+public final class Camera {
+
+    private final Dimension world;
+    private final Dimension viewport;
+    private final double margin;
+    private double x;
+    private double y;
+
+    /**
+     * Creates a camera at the top left corner of the level.
+     *
+     * @param world    the dimension of the whole level
+     * @param viewport the dimension of the visible part of the level, clipped to
+     *                 the level
+     * @param margin   how far outside the viewport things are still considered
+     *                 visible, so that they are ready before entering it
+     * @throws IllegalArgumentException if the margin is negative
+     */
+    public Camera(final Dimension world, final Dimension viewport, final double margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Margin must not be negative, got " + margin);
+        }
+        this.world = world;
+        this.viewport = new Dimension(
+                Math.min(viewport.width(), world.width()),
+                Math.min(viewport.height(), world.height()));
+        this.margin = margin;
+    }
+
+    /**
+     * Centers the viewport on a target, as far as the level allows.
+     *
+     * @param targetX the x coordinate of the target
+     * @param targetY the y coordinate of the target
+     * @return {@code true} if the viewport moved
+     */
+    public boolean follow(final double targetX, final double targetY) {
+        final double newX = clamp(targetX - this.viewport.width() / 2, this.world.width() - this.viewport.width());
+        final double newY = clamp(targetY - this.viewport.height() / 2, this.world.height() - this.viewport.height());
+        final boolean moved = newX != this.x || newY != this.y;
+        this.x = newX;
+        this.y = newY;
+        return moved;
+    }
+
+    /**
+     * The top left corner of the viewport within the level.
+     *
+     * @return the origin of the viewport
+     */
+    public Coord2D origin() {
+        return new Coord2D(this.x, this.y);
+    }
+
+    /**
+     * The dimension of the viewport.
+     *
+     * @return the dimension of the visible part of the level
+     */
+    public Dimension viewport() {
+        return this.viewport;
+    }
+
+    /**
+     * The area considered visible, that is the viewport enlarged by the margin.
+     *
+     * @return the visible area
+     */
+    public AABB visibleArea() {
+        return new AABB(this.x, this.y, this.x + this.viewport.width(), this.y + this.viewport.height())
+                .expand(this.margin);
+    }
+
+    private static double clamp(final double value, final double max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
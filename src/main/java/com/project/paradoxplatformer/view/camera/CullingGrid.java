@@ -0,0 +1,315 @@
+package com.project.paradoxplatformer.view.camera;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+import com.project.paradoxplatformer.utils.IntIndexTable;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+
+/**
+ * Tells which graphics lie within a visible area, through a uniform grid of
+ * buckets of graphic IDs.
+ * <p>
+ * Each graphic is bucketed in every cell its bounds overlap, so that
+ * {@link #cull(AABB, IntConsumer, IntConsumer) culling} only looks at the
+ * cells under the visible area: its cost depends on what is around the area,
+ * not on the size of the whole level. The grid remembers which graphics were
+ * visible at the last culling, and reports the ones entering and leaving the
+ * area since then.
+ * </p>
+ * <p>
+ * It is kept apart from the broad phase of collisions, since it indexes
+ * graphics by their bounds in the view rather than objects in the model, and
+ * is not thread safe: it belongs to the view thread.
+ * </p>
+ */
+public final class CullingGrid {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final double cellSize;
+    private final Map<Long, Cell> cells;
+    private final IntIndexTable index;
+    private int[] ids;
+    private AABB[] bounds;
+    private int[] seen;
+    private int[] shown;
+    private boolean[] visible;
+    private int size;
+    private int[] visibleIds;
+    private int[] nextVisibleIds;
+    private int visibleCount;
+    private int stamp;
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param cellSize the side of a cell, in view units
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public CullingGrid(final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive, got " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.cells = new HashMap<>();
+        this.index = new IntIndexTable(MIN_CAPACITY);
+        this.ids = new int[MIN_CAPACITY];
+        this.bounds = new AABB[MIN_CAPACITY];
+        this.seen = new int[MIN_CAPACITY];
+        this.shown = new int[MIN_CAPACITY];
+        this.visible = new boolean[MIN_CAPACITY];
+        this.visibleIds = new int[MIN_CAPACITY];
+        this.nextVisibleIds = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds a graphic, or moves it if it is already in the grid. A moved graphic
+     * keeps its visibility until the next culling.
+     *
+     * @param id  the ID of the graphic
+     * @param box the bounds of the graphic
+     */
+    public void put(final int id, final AABB box) {
+        int slot = this.index.get(id);
+        if (slot == IntIndexTable.ABSENT) {
+            slot = this.size++;
+            this.ensureCapacity(this.size);
+            this.ids[slot] = id;
+            this.seen[slot] = this.stamp;
+            this.shown[slot] = this.stamp - 1;
+            this.visible[slot] = false;
+            this.index.put(id, slot);
+        } else {
+            final AABB old = this.bounds[slot];
+            if (this.sameCells(old, box)) {
+                this.bounds[slot] = box;
+                return;
+            }
+            this.unbucket(id, old);
+        }
+        this.bounds[slot] = box;
+        this.forEachCell(box, cell -> this.cells.computeIfAbsent(cell, c -> new Cell()).add(id));
+    }
+
+    /**
+     * Removes a graphic, if it is in the grid.
+     *
+     * @param id the ID of the graphic
+     */
+    public void remove(final int id) {
+        final int slot = this.index.remove(id);
+        if (slot == IntIndexTable.ABSENT) {
+            return;
+        }
+        this.unbucket(id, this.bounds[slot]);
+        if (this.visible[slot]) {
+            this.forgetVisible(id);
+        }
+        final int last = --this.size;
+        if (slot != last) {
+            this.ids[slot] = this.ids[last];
+            this.bounds[slot] = this.bounds[last];
+            this.seen[slot] = this.seen[last];
+            this.shown[slot] = this.shown[last];
+            this.visible[slot] = this.visible[last];
+            this.index.put(this.ids[slot], slot);
+        }
+        this.bounds[last] = null;
+    }
+
+    /**
+     * Finds the graphics overlapping the given area, reporting the ones which
+     * were not visible at the last culling and the ones which no longer are.
+     * The callbacks must not change the grid.
+     *
+     * @param area    the visible area
+     * @param entered called with the ID of every graphic becoming visible
+     * @param left    called with the ID of every graphic no longer visible
+     */
+    public void cull(final AABB area, final IntConsumer entered, final IntConsumer left) {
+        this.stamp++;
+        int next = 0;
+        final long minX = this.cellOf(area.minX());
+        final long maxX = this.cellOf(area.maxX());
+        final long minY = this.cellOf(area.minY());
+        final long maxY = this.cellOf(area.maxY());
+        for (long cx = minX; cx <= maxX; cx++) {
+            for (long cy = minY; cy <= maxY; cy++) {
+                final Cell cell = this.cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    final int id = cell.ids[i];
+                    final int slot = this.index.get(id);
+                    if (this.seen[slot] == this.stamp) {
+                        continue;
+                    }
+                    this.seen[slot] = this.stamp;
+                    if (this.bounds[slot].overlaps(area)) {
+                        this.shown[slot] = this.stamp;
+                        this.nextVisibleIds = ensure(this.nextVisibleIds, next + 1);
+                        this.nextVisibleIds[next++] = id;
+                        if (!this.visible[slot]) {
+                            this.visible[slot] = true;
+                            entered.accept(id);
+                        }
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < this.visibleCount; i++) {
+            final int slot = this.index.get(this.visibleIds[i]);
+            if (this.shown[slot] != this.stamp) {
+                this.visible[slot] = false;
+                left.accept(this.visibleIds[i]);
+            }
+        }
+        final int[] swap = this.visibleIds;
+        this.visibleIds = this.nextVisibleIds;
+        this.nextVisibleIds = swap;
+        this.visibleCount = next;
+    }
+
+    /**
+     * Tells whether a graphic was visible at the last culling.
+     *
+     * @param id the ID of the graphic
+     * @return {@code true} if the graphic is in the grid and was visible
+     */
+    public boolean isVisible(final int id) {
+        final int slot = this.index.get(id);
+        return slot != IntIndexTable.ABSENT && this.visible[slot];
+    }
+
+    /**
+     * Visits the graphics visible at the last culling.
+     *
+     * @param action called with the ID of every visible graphic
+     */
+    public void forEachVisible(final IntConsumer action) {
+        for (int i = 0; i < this.visibleCount; i++) {
+            action.accept(this.visibleIds[i]);
+        }
+    }
+
+    /**
+     * Returns the bounds a graphic was last put with.
+     *
+     * @param id the ID of the graphic
+     * @return the bounds of the graphic, or an empty {@link Optional} if it is
+     *         not in the grid
+     */
+    public Optional<AABB> bounds(final int id) {
+        final int slot = this.index.get(id);
+        return slot == IntIndexTable.ABSENT ? Optional.empty() : Optional.of(this.bounds[slot]);
+    }
+
+    /**
+     * The number of graphics visible at the last culling.
+     *
+     * @return the number of visible graphics
+     */
+    public int visibleCount() {
+        return this.visibleCount;
+    }
+
+    /**
+     * The number of graphics in the grid.
+     *
+     * @return the size of the grid
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void unbucket(final int id, final AABB box) {
+        this.forEachCell(box, cell -> {
+            final Cell bucket = this.cells.get(cell);
+            bucket.remove(id);
+            if (bucket.size == 0) {
+                this.cells.remove(cell);
+            }
+        });
+    }
+
+    private void forgetVisible(final int id) {
+        for (int i = 0; i < this.visibleCount; i++) {
+            if (this.visibleIds[i] == id) {
+                this.visibleIds[i] = this.visibleIds[--this.visibleCount];
+                return;
+            }
+        }
+    }
+
+    private boolean sameCells(final AABB a, final AABB b) {
+        return this.cellOf(a.minX()) == this.cellOf(b.minX())
+                && this.cellOf(a.maxX()) == this.cellOf(b.maxX())
+                && this.cellOf(a.minY()) == this.cellOf(b.minY())
+                && this.cellOf(a.maxY()) == this.cellOf(b.maxY());
+    }
+
+    private void forEachCell(final AABB box, final CellAction action) {
+        final long maxX = this.cellOf(box.maxX());
+        final long maxY = this.cellOf(box.maxY());
+        for (long cx = this.cellOf(box.minX()); cx <= maxX; cx++) {
+            for (long cy = this.cellOf(box.minY()); cy <= maxY; cy++) {
+                action.accept(key(cx, cy));
+            }
+        }
+    }
+
+    private long cellOf(final double coordinate) {
+        return (long) Math.floor(coordinate / this.cellSize);
+    }
+
+    private static long key(final long cx, final long cy) {
+        return cx << Integer.SIZE | (cy & 0xFFFF_FFFFL);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.ids.length) {
+            final int length = Math.max(capacity, this.ids.length * 2);
+            this.ids = Arrays.copyOf(this.ids, length);
+            this.bounds = Arrays.copyOf(this.bounds, length);
+            this.seen = Arrays.copyOf(this.seen, length);
+            this.shown = Arrays.copyOf(this.shown, length);
+            this.visible = Arrays.copyOf(this.visible, length);
+        }
+    }
+
+    private static int[] ensure(final int[] array, final int capacity) {
+        return capacity > array.length ? Arrays.copyOf(array, Math.max(capacity, array.length * 2)) : array;
+    }
+
+    @FunctionalInterface
+    private interface CellAction {
+        void accept(long cell);
+    }
+
+    /**
+     * The IDs of the graphics overlapping a cell.
+     */
+    private static final class Cell {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(final int id) {
+            this.ids = ensure(this.ids, this.size + 1);
+            this.ids[this.size++] = id;
+        }
+
+        void remove(final int id) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.ids[i] == id) {
+                    this.ids[i] = this.ids[--this.size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.project.paradoxplatformer.view.graphics;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.utils.IntIndexTable;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A registry binding game objects to their graphics by ID.
+ * <p>
+ * Graphics are {@link #register(GraphicAdapter) registered} first, then each
+ * is {@link #bind(MutableObject) bound} to the game object sharing its ID.
+ * Entries are kept in dense arrays indexed through an {@link IntIndexTable},
+ * so that looking up, adding and removing a binding take constant time, and
+ * removals move the last entry in place of the removed one.
+ * </p>
+ * <p>
+ * The view keeps one to find its graphics by ID, the controller another
+ * pairing the objects it simulates with their graphics. A registry is not
+ * thread safe: it is meant to be used by the thread owning it.
+ * </p>
+ * <p>
+ * The registry also remembers the {@link MutableObject#revision() revision}
+ * and position each bound object had when last {@link #collectChanged()
+ * collected}, so that only the objects changed since then are presented,
+ * together with the position they moved from. Collected objects add up over
+ * the ticks of a frame until {@link #clearChanged() cleared} once presented.
+ * </p>
+ *
+ * @param <C> the type of the graphic component
+ */
+public final class GraphicBindings<C> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] ids;
+    private MutableObject[] objects;
+    private GraphicAdapter<C>[] graphics;
+    private ReadOnlyGraphicDecorator<C>[] decorators;
+    private int[] revisions;
+    private Coord2D[] previous;
+    private Coord2D[] current;
+    private boolean[] settling;
+    private boolean[] collected;
+    private int[] changed;
+    private int changedCount;
+    private int size;
+    private int bound;
+    private final IntIndexTable index;
+    private final Collection<MutableObject> objectsView;
+    private final List<GraphicAdapter<C>> graphicsView;
+
+    /**
+     * Creates an empty registry.
+     */
+    public GraphicBindings() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty registry sized for the given number of graphics.
+     *
+     * @param expected the number of graphics expected to be registered
+     */
+    @SuppressWarnings("unchecked")
+    public GraphicBindings(final int expected) {
+        final int capacity = Math.max(MIN_CAPACITY, expected);
+        this.ids = new int[capacity];
+        this.objects = new MutableObject[capacity];
+        this.graphics = (GraphicAdapter<C>[]) new GraphicAdapter<?>[capacity];
+        this.decorators = (ReadOnlyGraphicDecorator<C>[]) new ReadOnlyGraphicDecorator<?>[capacity];
+        this.revisions = new int[capacity];
+        this.previous = new Coord2D[capacity];
+        this.current = new Coord2D[capacity];
+        this.settling = new boolean[capacity];
+        this.collected = new boolean[capacity];
+        this.changed = new int[capacity];
+        this.index = new IntIndexTable(capacity);
+        this.objectsView = new ObjectsView();
+        this.graphicsView = new GraphicsView();
+    }
+
+    /**
+     * Registers a graphic, yet to be bound to a game object.
+     *
+     * @param graphic the graphic to register
+     * @throws IllegalArgumentException if a graphic with the same ID is already
+     *                                  registered
+     */
+    public void register(final GraphicAdapter<C> graphic) {
+        final int id = graphic.getID();
+        if (this.index.get(id) != IntIndexTable.ABSENT) {
+            throw new IllegalArgumentException("A graphic is already registered with id " + id);
+        }
+        if (this.size == this.ids.length) {
+            final int capacity = this.size * 2;
+            this.ids = Arrays.copyOf(this.ids, capacity);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+            this.graphics = Arrays.copyOf(this.graphics, capacity);
+            this.decorators = Arrays.copyOf(this.decorators, capacity);
+            this.revisions = Arrays.copyOf(this.revisions, capacity);
+            this.previous = Arrays.copyOf(this.previous, capacity);
+            this.current = Arrays.copyOf(this.current, capacity);
+            this.settling = Arrays.copyOf(this.settling, capacity);
+            this.collected = Arrays.copyOf(this.collected, capacity);
+            this.changed = Arrays.copyOf(this.changed, capacity);
+        }
+        this.ids[this.size] = id;
+        this.graphics[this.size] = graphic;
+        this.decorators[this.size] = graphic instanceof ReadOnlyGraphicDecorator<C> decorator
+                ? decorator
+                : new ReadOnlyGraphicDecorator<>(graphic);
+        this.index.put(id, this.size);
+        this.size++;
+    }
+
+    /**
+     * Binds a game object to the graphic registered with its ID.
+     *
+     * @param object the game object to bind
+     * @return {@code true} if a graphic with the ID of the object is
+     *         registered, {@code false} if the object has no graphic
+     */
+    public boolean bind(final MutableObject object) {
+        final int position = this.index.get(object.getID());
+        if (position == IntIndexTable.ABSENT) {
+            return false;
+        }
+        if (this.objects[position] == null) {
+            this.bound++;
+        }
+        this.objects[position] = object;
+        // a complement never matches, so the object is collected at least once
+        this.revisions[position] = ~object.revision();
+        this.previous[position] = object.getPosition();
+        this.current[position] = object.getPosition();
+        return true;
+    }
+
+    /**
+     * Checks that every registered graphic is bound to a game object.
+     *
+     * @throws IllegalArgumentException if a graphic is not bound
+     */
+    public void requireAllBound() {
+        if (this.bound != this.size) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.objects[i] == null) {
+                    throw new IllegalArgumentException(
+                            "Failed to pair object and graphic. Cause: Graphic: "
+                                    + this.graphics[i].dimension() + "\nGraphic: "
+                                    + this.graphics[i].relativePosition());
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the binding of the given ID, if any.
+     *
+     * @param id the ID of the game object and graphic
+     * @return {@code true} if a graphic was registered with the ID
+     */
+    public boolean remove(final int id) {
+        final int position = this.index.remove(id);
+        if (position == IntIndexTable.ABSENT) {
+            return false;
+        }
+        if (this.objects[position] != null) {
+            this.bound--;
+        }
+        final int last = this.size - 1;
+        this.forgetChanged(position, last);
+        if (position != last) {
+            this.ids[position] = this.ids[last];
+            this.objects[position] = this.objects[last];
+            this.graphics[position] = this.graphics[last];
+            this.decorators[position] = this.decorators[last];
+            this.revisions[position] = this.revisions[last];
+            this.previous[position] = this.previous[last];
+            this.current[position] = this.current[last];
+            this.settling[position] = this.settling[last];
+            this.collected[position] = this.collected[last];
+            this.index.put(this.ids[position], position);
+        }
+        this.objects[last] = null;
+        this.graphics[last] = null;
+        this.decorators[last] = null;
+        this.previous[last] = null;
+        this.current[last] = null;
+        this.settling[last] = false;
+        this.collected[last] = false;
+        this.size = last;
+        return true;
+    }
+
+    /**
+     * Looks up the graphic registered with the given ID.
+     *
+     * @param id the ID of the graphic
+     * @return the graphic, if registered
+     */
+    public Optional<GraphicAdapter<C>> graphic(final int id) {
+        final int position = this.index.get(id);
+        return position == IntIndexTable.ABSENT ? Optional.empty() : Optional.of(this.graphics[position]);
+    }
+
+    /**
+     * Looks up the read-only decorator of the graphic registered with the given
+     * ID.
+     *
+     * @param id the ID of the graphic
+     * @return the read-only graphic, if registered
+     */
+    public Optional<ReadOnlyGraphicDecorator<C>> decorator(final int id) {
+        final int position = this.index.get(id);
+        return position == IntIndexTable.ABSENT ? Optional.empty() : Optional.of(this.decorators[position]);
+    }
+
+    /**
+     * Looks up the game object bound with the given ID.
+     *
+     * @param id the ID of the game object
+     * @return the game object, if bound
+     */
+    public Optional<MutableObject> object(final int id) {
+        final int position = this.index.get(id);
+        return position == IntIndexTable.ABSENT ? Optional.empty() : Optional.ofNullable(this.objects[position]);
+    }
+
+    /**
+     * Performs the given action on every bound game object and its read-only
+     * graphic.
+     *
+     * @param action the action to perform
+     */
+    public void forEachBound(final BiConsumer<? super MutableObject, ? super ReadOnlyGraphicDecorator<C>> action) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.objects[i] != null) {
+                action.accept(this.objects[i], this.decorators[i]);
+            }
+        }
+    }
+
+    /**
+     * Collects the bound game objects whose revision changed since the last
+     * collection, remembering the position each one moved from.
+     * <p>
+     * Objects changed by the previous collection but not since are collected
+     * once more, having their previous position set to the current one, so
+     * that the last interpolated frame settles exactly where they stopped.
+     * Unchanged objects only cost the comparison of their revision.
+     * </p>
+     * <p>
+     * Objects stay collected until {@link #clearChanged() cleared}, so that
+     * collecting at every tick of a frame which runs several of them keeps
+     * every object changed or settled during the frame.
+     * </p>
+     *
+     * @return the number of game objects collected since last cleared
+     */
+    public int collectChanged() {
+        for (int i = 0; i < this.size; i++) {
+            final MutableObject object = this.objects[i];
+            if (object != null) {
+                final int revision = object.revision();
+                if (revision != this.revisions[i]) {
+                    this.revisions[i] = revision;
+                    this.previous[i] = this.current[i];
+                    this.current[i] = object.getPosition();
+                    this.settling[i] = true;
+                    this.collect(i);
+                } else if (this.settling[i]) {
+                    this.previous[i] = this.current[i];
+                    this.settling[i] = false;
+                    this.collect(i);
+                }
+            }
+        }
+        return this.changedCount;
+    }
+
+    /**
+     * Forgets the collected game objects, once they have been presented.
+     */
+    public void clearChanged() {
+        for (int i = 0; i < this.changedCount; i++) {
+            this.collected[this.changed[i]] = false;
+        }
+        this.changedCount = 0;
+    }
+
+    /**
+     * Performs the given action on every game object collected since the last
+     * {@link #clearChanged()}.
+     *
+     * @param action the action to perform
+     */
+    public void forEachChanged(final ChangeAction<C> action) {
+        for (int i = 0; i < this.changedCount; i++) {
+            final int position = this.changed[i];
+            action.accept(this.objects[position], this.previous[position], this.decorators[position]);
+        }
+    }
+
+    private void collect(final int position) {
+        if (!this.collected[position]) {
+            this.collected[position] = true;
+            this.changed[this.changedCount++] = position;
+        }
+    }
+
+    // Drops a removed position from the collected ones, following the last entry to its new place
+    private void forgetChanged(final int position, final int last) {
+        int kept = 0;
+        for (int i = 0; i < this.changedCount; i++) {
+            if (this.changed[i] != position) {
+                this.changed[kept++] = this.changed[i] == last ? position : this.changed[i];
+            }
+        }
+        this.changedCount = kept;
+    }
+
+    /**
+     * A read-only view of the bound game objects, backed by the registry.
+     *
+     * @return the bound game objects
+     */
+    public Collection<MutableObject> objects() {
+        return this.objectsView;
+    }
+
+    /**
+     * A read-only view of the registered graphics, backed by the registry.
+     *
+     * @return the registered graphics
+     */
+    public List<GraphicAdapter<C>> graphics() {
+        return this.graphicsView;
+    }
+
+    /**
+     * The number of registered graphics.
+     *
+     * @return the number of registered graphics
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * An action performed on a changed game object.
+     *
+     * @param <C> the type of the graphic component
+     */
+    @FunctionalInterface
+    public interface ChangeAction<C> {
+
+        /**
+         * Performs the action.
+         *
+         * @param object   the changed game object
+         * @param previous the position the object moved from
+         * @param graphic  the read-only graphic of the object
+         */
+        void accept(MutableObject object, Coord2D previous, ReadOnlyGraphicDecorator<C> graphic);
+    }
+
+    /**
+     * The read-only view of the bound game objects.
+     */
+    private final class ObjectsView extends AbstractCollection<MutableObject> {
+
+        @Override
+        public int size() {
+            return GraphicBindings.this.bound;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (o instanceof MutableObject object) {
+                final int position = GraphicBindings.this.index.get(object.getID());
+                return position != IntIndexTable.ABSENT && GraphicBindings.this.objects[position] == object;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<MutableObject> iterator() {
+            return new Iterator<>() {
+                private int next = this.skip(0);
+
+                private int skip(final int from) {
+                    int i = from;
+                    while (i < GraphicBindings.this.size && GraphicBindings.this.objects[i] == null) {
+                        i++;
+                    }
+                    return i;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < GraphicBindings.this.size;
+                }
+
+                @Override
+                public MutableObject next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final MutableObject object = GraphicBindings.this.objects[this.next];
+                    this.next = this.skip(this.next + 1);
+                    return object;
+                }
+            };
+        }
+    }
+
+    /**
+     * The read-only view of the registered graphics.
+     */
+    private final class GraphicsView extends AbstractList<GraphicAdapter<C>> {
+
+        @Override
+        public GraphicAdapter<C> get(final int i) {
+            if (i < 0 || i >= GraphicBindings.this.size) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            return GraphicBindings.this.graphics[i];
+        }
+
+        @Override
+        public int size() {
+            return GraphicBindings.this.size;
+        }
+    }
+}
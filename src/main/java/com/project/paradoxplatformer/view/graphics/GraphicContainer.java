@@ -39,6 +39,21 @@ public interface GraphicContainer<T, K> extends KeyInputer<K> {
      */
     boolean render(ViewComponent<T> component);
 
+    /**
+     * Renders the specified graphical component within the container, drawn
+     * above the components rendered with a lower order and below the ones with
+     * a higher order, whenever they were rendered. Containers ordering their
+     * components on their own may ignore the order.
+     * 
+     * @param component the graphical component to render
+     * @param order     the drawing order of the component
+     * @return {@code true} if the component was successfully rendered,
+     *         {@code false} otherwise
+     */
+    default boolean render(final ViewComponent<T> component, final int order) {
+        return this.render(component);
+    }
+
     /**
      * Deletes the specified graphical component from the container.
      * 
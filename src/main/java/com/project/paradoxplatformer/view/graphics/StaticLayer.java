@@ -0,0 +1,42 @@
+package com.project.paradoxplatformer.view.graphics;
+
+/**
+ * A single graphic covering the whole level, holding every
+ * {@link StaticShape} pre-rendered together.
+ * <p>
+ * The layer stays at the origin of the level and is only moved along with the
+ * camera; it is rendered again whenever its scale changes, and whenever one of
+ * its shapes is taken out of it.
+ * </p>
+ *
+ * @param <C> the type of the graphic component
+ */
+public interface StaticLayer<C> extends GraphicAdapter<C> {
+
+    /**
+     * The ID of a static layer, which no game object can have.
+     */
+    int LAYER_ID = -1;
+
+    /**
+     * The drawing order of a static layer, below every graphic of the level,
+     * whose orders start from zero.
+     */
+    int DRAW_ORDER = Integer.MIN_VALUE;
+
+    /**
+     * Tells whether the layer holds the shape of the given game object.
+     *
+     * @param id the ID of the game object
+     * @return {@code true} if its shape is baked into the layer
+     */
+    boolean contains(int id);
+
+    /**
+     * Takes the shape of the given game object out of the layer, if it holds it.
+     *
+     * @param id the ID of the game object
+     * @return {@code true} if the shape was in the layer
+     */
+    boolean remove(int id);
+}
@@ -0,0 +1,15 @@
+package com.project.paradoxplatformer.view.graphics;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.ColorDTO;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+
+/**
+ * A colored rectangle which never moves, baked into a {@link StaticLayer}
+ * instead of being drawn as a graphic of its own.
+ *
+ * @param id     the ID of the game object the shape stands for
+ * @param bounds the bounds of the shape within the level, in view coordinates
+ * @param color  the color of the shape
+ */
+public record StaticShape(int id, AABB bounds, ColorDTO color) {
+}
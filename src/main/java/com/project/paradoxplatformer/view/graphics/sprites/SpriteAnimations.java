@@ -0,0 +1,233 @@
+package com.project.paradoxplatformer.view.graphics.sprites;
+
+import java.util.Arrays;
+
+import com.project.paradoxplatformer.utils.IntIndexTable;
+
+/**
+ * Plays the animations of many sprites against a single clock.
+ * <p>
+ * The frame a sprite shows is a function of the time elapsed since its status
+ * last changed, so nothing is counted between two advancements: however often
+ * the view renders, sprites keep the pace given by their frame duration.
+ * Animations are held in parallel arrays indexed through the ID of their
+ * sprite, and {@link #advance(long) advanced} all together in one pass over
+ * them, inactive ones, such as the off-screen, being skipped entirely.
+ * </p>
+ * <p>
+ * Times are in milliseconds of game time, so that animations stop along with
+ * the game. The class is not thread safe: it belongs to the view thread.
+ * </p>
+ */
+public final class SpriteAnimations {
+
+    /**
+     * The value reported by {@link #frameOf(int)} for sprites without a frame.
+     */
+    public static final int NO_FRAME = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final SpriteStatus[] STATUSES = SpriteStatus.values();
+
+    private final IntIndexTable index;
+    private int[] ids;
+    private SpriteSheet<?>[] sheets;
+    private int[] durations;
+    private int[] statuses;
+    private long[] since;
+    private int[] frames;
+    private boolean[] active;
+    private int size;
+    private int[] changed;
+    private int changedCount;
+
+    /**
+     * Creates an engine without animations.
+     */
+    public SpriteAnimations() {
+        this.index = new IntIndexTable(MIN_CAPACITY);
+        this.ids = new int[MIN_CAPACITY];
+        this.sheets = new SpriteSheet<?>[MIN_CAPACITY];
+        this.durations = new int[MIN_CAPACITY];
+        this.statuses = new int[MIN_CAPACITY];
+        this.since = new long[MIN_CAPACITY];
+        this.frames = new int[MIN_CAPACITY];
+        this.active = new boolean[MIN_CAPACITY];
+        this.changed = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds the animation of a sprite, or replaces it. The animation starts
+     * inactive, playing the {@link SpriteStatus#IDLE idle} sequence.
+     *
+     * @param id            the ID of the sprite
+     * @param sheet         the sheet the sprite plays its frames from
+     * @param frameDuration how long each frame is shown, in milliseconds
+     * @param now           the current game time
+     * @throws IllegalArgumentException if the frame duration is not positive
+     */
+    public void add(final int id, final SpriteSheet<?> sheet, final int frameDuration, final long now) {
+        if (frameDuration <= 0) {
+            throw new IllegalArgumentException("Frame duration must be positive, got " + frameDuration);
+        }
+        int slot = this.index.get(id);
+        if (slot == IntIndexTable.ABSENT) {
+            slot = this.size++;
+            this.ensureCapacity(this.size);
+            this.ids[slot] = id;
+            this.index.put(id, slot);
+        }
+        this.sheets[slot] = sheet;
+        this.durations[slot] = frameDuration;
+        this.statuses[slot] = SpriteStatus.IDLE.ordinal();
+        this.since[slot] = now;
+        this.frames[slot] = NO_FRAME;
+        this.active[slot] = false;
+    }
+
+    /**
+     * Removes the animation of a sprite, if any.
+     *
+     * @param id the ID of the sprite
+     */
+    public void remove(final int id) {
+        final int slot = this.index.remove(id);
+        if (slot == IntIndexTable.ABSENT) {
+            return;
+        }
+        final int last = --this.size;
+        if (slot != last) {
+            this.ids[slot] = this.ids[last];
+            this.sheets[slot] = this.sheets[last];
+            this.durations[slot] = this.durations[last];
+            this.statuses[slot] = this.statuses[last];
+            this.since[slot] = this.since[last];
+            this.frames[slot] = this.frames[last];
+            this.active[slot] = this.active[last];
+            this.index.put(this.ids[slot], slot);
+        }
+        this.sheets[last] = null;
+    }
+
+    /**
+     * Plays the sequence of a status, from its first frame unless the sprite is
+     * already playing it.
+     *
+     * @param id     the ID of the sprite
+     * @param status the status to play
+     * @param now    the current game time
+     */
+    public void play(final int id, final SpriteStatus status, final long now) {
+        final int slot = this.index.get(id);
+        if (slot != IntIndexTable.ABSENT && this.statuses[slot] != status.ordinal()) {
+            this.statuses[slot] = status.ordinal();
+            this.since[slot] = now;
+        }
+    }
+
+    /**
+     * Sets whether the animation of a sprite is advanced, so that sprites out
+     * of view or paused cost nothing. Time keeps flowing for inactive
+     * animations, which resume at the frame they would have reached.
+     *
+     * @param id     the ID of the sprite
+     * @param active whether the animation is advanced
+     */
+    public void setActive(final int id, final boolean active) {
+        final int slot = this.index.get(id);
+        if (slot != IntIndexTable.ABSENT) {
+            this.active[slot] = active;
+        }
+    }
+
+    /**
+     * Computes the frame of every active animation at the given time, keeping
+     * track of the sprites whose frame changed, to be visited through
+     * {@link #forEachChanged(FrameAction)}.
+     *
+     * @param now the current game time
+     * @return the number of sprites whose frame changed
+     */
+    public int advance(final long now) {
+        this.changedCount = 0;
+        for (int slot = 0; slot < this.size; slot++) {
+            if (!this.active[slot]) {
+                continue;
+            }
+            final long step = Math.max(0, now - this.since[slot]) / this.durations[slot];
+            final int frame = this.sheets[slot].frameIndex(STATUSES[this.statuses[slot]], step);
+            if (frame != this.frames[slot]) {
+                this.frames[slot] = frame;
+                this.changed = ensure(this.changed, this.changedCount + 1);
+                this.changed[this.changedCount++] = slot;
+            }
+        }
+        return this.changedCount;
+    }
+
+    /**
+     * Visits the sprites whose frame changed at the last advancement. The
+     * action must not add nor remove animations.
+     *
+     * @param action called with the ID of every changed sprite and its new frame
+     */
+    public void forEachChanged(final FrameAction action) {
+        for (int i = 0; i < this.changedCount; i++) {
+            final int slot = this.changed[i];
+            action.accept(this.ids[slot], this.frames[slot]);
+        }
+    }
+
+    /**
+     * The frame a sprite showed at the last advancement it took part in.
+     *
+     * @param id the ID of the sprite
+     * @return the index of the frame, or {@link #NO_FRAME} if the sprite has no
+     *         animation or was never advanced
+     */
+    public int frameOf(final int id) {
+        final int slot = this.index.get(id);
+        return slot == IntIndexTable.ABSENT ? NO_FRAME : this.frames[slot];
+    }
+
+    /**
+     * The number of animations.
+     *
+     * @return the number of animated sprites
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.ids.length) {
+            final int length = Math.max(capacity, this.ids.length * 2);
+            this.ids = Arrays.copyOf(this.ids, length);
+            this.sheets = Arrays.copyOf(this.sheets, length);
+            this.durations = Arrays.copyOf(this.durations, length);
+            this.statuses = Arrays.copyOf(this.statuses, length);
+            this.since = Arrays.copyOf(this.since, length);
+            this.frames = Arrays.copyOf(this.frames, length);
+            this.active = Arrays.copyOf(this.active, length);
+        }
+    }
+
+    private static int[] ensure(final int[] array, final int capacity) {
+        return capacity > array.length ? Arrays.copyOf(array, Math.max(capacity, array.length * 2)) : array;
+    }
+
+    /**
+     * An action on the frame shown by a sprite.
+     */
+    @FunctionalInterface
+    public interface FrameAction {
+
+        /**
+         * Performs the action.
+         *
+         * @param id    the ID of the sprite
+         * @param frame the index of the frame within the sheet of the sprite
+         */
+        void accept(int id, int frame);
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.paradoxplatformer.view.graphics.sprites;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable set of animation frames, along with the sequence of frame
+ * indices played for each {@link SpriteStatus}.
+ * <p>
+ * Frames are referenced by index, so that a sheet can be shared by every
+ * sprite drawing the same image, none of them holding frames of its own.
+ * </p>
+ *
+ * @param <T> the type of a frame
+ */
+public final class SpriteSheet<T> {
+
+    private final List<T> frames;
+    private final EnumMap<SpriteStatus, int[]> sequences;
+
+    /**
+     * Creates a sheet.
+     *
+     * @param frames    the frames of the sheet
+     * @param sequences the indices of the frames played for each status
+     * @throws IllegalArgumentException if a status has no frames, or refers to a
+     *                                  frame not in the sheet
+     */
+    public SpriteSheet(final List<T> frames, final Map<SpriteStatus, int[]> sequences) {
+        this.frames = List.copyOf(frames);
+        this.sequences = new EnumMap<>(SpriteStatus.class);
+        for (final SpriteStatus status : SpriteStatus.values()) {
+            final int[] sequence = sequences.get(status);
+            if (sequence == null || sequence.length == 0) {
+                throw new IllegalArgumentException("No frames for status " + status);
+            }
+            if (Arrays.stream(sequence).anyMatch(i -> i < 0 || i >= this.frames.size())) {
+                throw new IllegalArgumentException("Frame out of sheet for status " + status);
+            }
+            this.sequences.put(status, sequence.clone());
+        }
+    }
+
+    /**
+     * Creates a sheet holding the images given by a {@link Spriter}, one after
+     * the other.
+     *
+     * @param <T>     the type of a frame
+     * @param spriter the spriter giving the images of each status
+     * @return the sheet of the images
+     */
+    public static <T> SpriteSheet<T> of(final Spriter<T> spriter) {
+        final Map<SpriteStatus, List<T>> images = new EnumMap<>(Map.of(
+                SpriteStatus.IDLE, spriter.getIdleImage(),
+                SpriteStatus.RUNNING, spriter.runningImages(),
+                SpriteStatus.JUMPING, spriter.jumpingImages(),
+                SpriteStatus.FALLING, spriter.fallingImages()));
+        final List<T> frames = new ArrayList<>();
+        final Map<SpriteStatus, int[]> sequences = new EnumMap<>(SpriteStatus.class);
+        images.forEach((status, list) -> {
+            sequences.put(status, range(frames.size(), frames.size() + list.size()));
+            frames.addAll(list);
+        });
+        return new SpriteSheet<>(frames, sequences);
+    }
+
+    /**
+     * The indices from {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @param from the first index
+     * @param to   the index after the last one
+     * @return the indices in between, empty if {@code to} is not after
+     *         {@code from}
+     */
+    public static int[] range(final int from, final int to) {
+        final int[] range = new int[Math.max(0, to - from)];
+        Arrays.setAll(range, i -> from + i);
+        return range;
+    }
+
+    /**
+     * Returns a frame of the sheet.
+     *
+     * @param index the index of the frame
+     * @return the frame
+     */
+    public T frame(final int index) {
+        return this.frames.get(index);
+    }
+
+    /**
+     * The number of frames of the sheet.
+     *
+     * @return the number of frames
+     */
+    public int frameCount() {
+        return this.frames.size();
+    }
+
+    /**
+     * The index of the frame played at a given step of the sequence of a status,
+     * the sequence being played in a loop.
+     *
+     * @param status the status
+     * @param step   the step of the sequence, not negative
+     * @return the index of the frame
+     */
+    public int frameIndex(final SpriteStatus status, final long step) {
+        final int[] sequence = this.sequences.get(status);
+        return sequence[(int) (step % sequence.length)];
+    }
+}
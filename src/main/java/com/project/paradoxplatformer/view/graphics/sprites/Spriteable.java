@@ -3,28 +3,33 @@ package com.project.paradoxplatformer.view.graphics.sprites;
 /**
  * Interface representing an entity that can have different animations based on
  * its status.
- * It allows for animating the entity and checking if it has special
- * characteristics.
- *
- * @param <S> The type of enumeration that represents different statuses or
- *            states for animation.
+ * <p>
+ * The entity does not advance its animations on its own: it only tells which
+ * frames it plays and for how long, and shows the frame it is told to, so that
+ * every sprite of a view can be advanced at once by a
+ * {@link SpriteAnimations} against the game clock.
+ * </p>
  */
-public interface Spriteable<S extends Enum<S>> {
+public interface Spriteable {
 
     /**
-     * Animates the entity based on the provided status.
+     * The sheet holding the frames played for each status.
      *
-     * @param status The status representing the current animation or state of the
-     *               entity.
+     * @return the sheet of the entity
      */
-    void animate(S status);
+    SpriteSheet<?> sheet();
 
     /**
-     * Checks if the entity is considered special (player usually).
-     * Special entities might have unique properties or behaviors that differentiate
-     * them from regular entities.
+     * How long each frame is shown.
      *
-     * @return {@code true} if the entity is special, {@code false} otherwise.
+     * @return the duration of a frame in milliseconds, positive
      */
-    boolean isSpecial();
+    int frameDuration();
+
+    /**
+     * Shows a frame of the sheet.
+     *
+     * @param frame the index of the frame within the sheet
+     */
+    void showFrame(int frame);
 }
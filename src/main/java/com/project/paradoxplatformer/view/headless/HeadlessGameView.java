@@ -0,0 +1,146 @@
+package com.project.paradoxplatformer.view.headless;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.geometries.orientations.GraphicOffsetCorrector;
+import com.project.paradoxplatformer.utils.geometries.orientations.OffsetCorrector;
+import com.project.paradoxplatformer.utils.geometries.orientations.factory.OffsetFactory;
+import com.project.paradoxplatformer.utils.geometries.orientations.factory.OffsetFactoryImpl;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+import com.project.paradoxplatformer.view.GameView;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+
+/**
+ * A view of a level which never touches a toolkit, for game sessions running
+ * on servers or in continuous integration.
+ * <p>
+ * It creates a {@link HeadlessGraphic} for every object the on-screen view
+ * would show, in the same order, and keeps them placed as the on-screen view
+ * would at its natural size, so that a {@link HeadlessRasterizer} can draw
+ * them when debugging. There is no camera, no culling and no animation: the
+ * view only holds what game controllers rely on, graphics by ID, their
+ * dimensions and their removal.
+ * </p>
+ */
+public final class HeadlessGameView implements GameView<HeadlessGraphic> {
+
+    private final LevelDTO packedData;
+    private final Map<Integer, HeadlessGraphic> graphics;
+    private final OffsetCorrector offsetCorrector;
+    private long gameTime;
+
+    /**
+     * Creates a view of a level, empty until initialized.
+     *
+     * @param packedData the level data
+     */
+    public HeadlessGameView(final LevelDTO packedData) {
+        this.packedData = Optional.of(packedData).get();
+        this.graphics = new LinkedHashMap<>();
+        final OffsetFactory factory = new OffsetFactoryImpl(this.dimension());
+        this.offsetCorrector = new GraphicOffsetCorrector(
+                factory.bottomLeft(),
+                factory.boxOffset(),
+                new Simple2DVector(1, -1));
+    }
+
+    /**
+     * Creates a graphic for every image and every colored object of the level,
+     * images first, as the on-screen view does.
+     */
+    @Override
+    public void init() {
+        this.graphics.clear();
+        final GameDTO[] objects = this.packedData.getGameDTOs();
+        Stream.concat(
+                Arrays.stream(objects).filter(g -> Objects.nonNull(g.getImage())),
+                Arrays.stream(objects).filter(g -> Objects.nonNull(g.getColor())))
+                .map(g -> new HeadlessGraphic(
+                        g.getID(),
+                        new Dimension(g.getWidth(), g.getHeight()),
+                        new Coord2D(g.getX(), g.getY()),
+                        Optional.ofNullable(g.getImage()).isPresent()
+                                ? Optional.empty()
+                                : Optional.of(g.getColor())))
+                .forEach(g -> this.graphics.put(g.getID(), g));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GraphicAdapter<HeadlessGraphic>> getUnmodifiableControls() {
+        return Collections.unmodifiableList(new ArrayList<>(this.graphics.values()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension dimension() {
+        return new Dimension(this.packedData.getWidth(), this.packedData.getHeight());
+    }
+
+    /**
+     * Places the graphics of the changed objects.
+     *
+     * @param changed  the changed entities containing updated game state
+     *                 information
+     * @param gameTime the game time elapsed since the start of the level, in
+     *                 milliseconds
+     */
+    @Override
+    public void updateControlStates(final List<ReadOnlyMutableObjectWrapper> changed, final long gameTime) {
+        this.gameTime = gameTime;
+        changed.forEach(m -> {
+            final HeadlessGraphic graphic = this.graphics.get(m.getID());
+            if (graphic != null) {
+                final Coord2D corner = this.offsetCorrector.correct(graphic.dimension(), m.getPosition());
+                graphic.setPosition(corner.x(), corner.y());
+                graphic.setDimension(m.getDimension().width(), m.getDimension().height());
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeGraphic(final ReadOnlyGraphicDecorator<HeadlessGraphic> node) {
+        this.graphics.remove(node.getID());
+    }
+
+    /**
+     * The graphic of an object.
+     *
+     * @param id the ID of the object
+     * @return the graphic of the object, or an empty {@link Optional} if it has
+     *         none or it was removed
+     */
+    public Optional<HeadlessGraphic> graphic(final int id) {
+        return Optional.ofNullable(this.graphics.get(id));
+    }
+
+    /**
+     * The game time of the last update.
+     *
+     * @return the game time the view was last updated at, in milliseconds
+     */
+    public long gameTime() {
+        return this.gameTime;
+    }
+}
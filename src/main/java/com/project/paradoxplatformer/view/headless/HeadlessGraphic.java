@@ -0,0 +1,162 @@
+package com.project.paradoxplatformer.view.headless;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.ColorDTO;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * A graphic without any toolkit behind it, only keeping the bookkeeping game
+ * controllers rely on: its ID, its dimension and its position.
+ * <p>
+ * Graphics are not scaled, so binding them to ratios does nothing. They are
+ * their own view component, since there is nothing else to unwrap.
+ * </p>
+ */
+public final class HeadlessGraphic implements GraphicAdapter<HeadlessGraphic> {
+
+    private final int id;
+    private final Dimension dimension;
+    private final Coord2D position;
+    private final Optional<ColorDTO> color;
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+    private boolean flipped;
+
+    /**
+     * Creates a graphic.
+     *
+     * @param id        the ID of the graphic
+     * @param dimension the initial dimension of the graphic
+     * @param position  the initial position of the graphic
+     * @param color     the color of the graphic, empty for images
+     */
+    public HeadlessGraphic(final int id, final Dimension dimension, final Coord2D position,
+            final Optional<ColorDTO> color) {
+        this.id = id;
+        this.dimension = dimension;
+        this.position = position;
+        this.color = color;
+        this.x = position.x();
+        this.y = position.y();
+        this.width = dimension.width();
+        this.height = dimension.height();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeadlessGraphic unwrap() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension dimension() {
+        return this.dimension;
+    }
+
+    /**
+     * The dimension the graphic was last given.
+     *
+     * @return the current dimension
+     */
+    public Dimension currentDimension() {
+        return new Dimension(this.width, this.height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D absolutePosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D relativePosition() {
+        return new Coord2D(this.x, this.y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDimension(final double width, final double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final double x, final double y) {
+        this.setPosition(this.position.x() + x, this.position.y() + y);
+    }
+
+    /**
+     * Does nothing, headless graphics are never scaled.
+     *
+     * @param wRatio the observable ratio for the width
+     * @param hRatio the observable ratio for the height
+     */
+    @Override
+    public void bindProperties(final ObservableDoubleValue wRatio, final ObservableDoubleValue hRatio) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flip() {
+        this.flipped = !this.flipped;
+    }
+
+    /**
+     * Tells whether the graphic is flipped.
+     *
+     * @return {@code true} if the graphic is flipped
+     */
+    public boolean isFlipped() {
+        return this.flipped;
+    }
+
+    /**
+     * The color the graphic is filled with.
+     *
+     * @return the color of the graphic, or an empty {@link Optional} for images
+     */
+    public Optional<ColorDTO> color() {
+        return this.color;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getID() {
+        return this.id;
+    }
+}
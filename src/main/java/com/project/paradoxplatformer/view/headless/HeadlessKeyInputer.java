@@ -0,0 +1,75 @@
+package com.project.paradoxplatformer.view.headless;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.controller.input.KeyAssetterImpl;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+
+/**
+ * A key inputer without any component behind it, whose keys are pressed and
+ * released by code, such as bots, tests or replays, instead of a keyboard.
+ * <p>
+ * Keys are {@link InputType input types} themselves, so no translation is
+ * needed. Keys can be pressed and released from any thread, the game reading
+ * those held at each tick.
+ * </p>
+ */
+public final class HeadlessKeyInputer implements KeyInputer<InputType> {
+
+    private final KeyAssetterImpl<InputType> keyAssetter;
+
+    /**
+     * Creates a key inputer with no key pressed.
+     */
+    public HeadlessKeyInputer() {
+        this.keyAssetter = new KeyAssetterImpl<>(Optional::of);
+    }
+
+    /**
+     * Presses a key, until it is released.
+     *
+     * @param key the key to press
+     */
+    public void press(final InputType key) {
+        this.keyAssetter.add(key);
+    }
+
+    /**
+     * Releases a key.
+     *
+     * @param key the key to release
+     */
+    public void release(final InputType key) {
+        this.keyAssetter.remove(key);
+    }
+
+    /**
+     * Replaces the keys held at once.
+     *
+     * @param mask the mask of the keys now held
+     * @see KeyAssetter#getMask()
+     */
+    public void hold(final long mask) {
+        this.keyAssetter.setMask(mask);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyAssetter<InputType> getKeyAssetter() {
+        return this.keyAssetter.readOnlyView();
+    }
+
+    /**
+     * Runs the activation at once, there being no component to wait for.
+     *
+     * @param activateInput the activation of the input
+     */
+    @Override
+    public void activateKeyInput(final Runnable activateInput) {
+        activateInput.run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.paradoxplatformer.view.headless;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Draws a {@link HeadlessGameView} into an offscreen image with AWT, for
+ * debugging games run without a screen.
+ * <p>
+ * Colored objects are filled with their color, while objects showing images
+ * are outlined, images being never loaded headless. The image is reused from a
+ * frame to the next, so a copy is needed to keep a frame.
+ * </p>
+ */
+public final class HeadlessRasterizer {
+
+    private static final String FORMAT = "png";
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color OUTLINE = Color.BLACK;
+
+    private final HeadlessGameView view;
+    private final BufferedImage image;
+
+    /**
+     * Creates a rasterizer drawing a view at the size of its level.
+     *
+     * @param view the view to draw
+     */
+    public HeadlessRasterizer(final HeadlessGameView view) {
+        this.view = Optional.of(view).get();
+        final Dimension size = view.dimension();
+        this.image = new BufferedImage(
+                Math.max(1, (int) Math.ceil(size.width())),
+                Math.max(1, (int) Math.ceil(size.height())),
+                BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Draws the current state of the view.
+     *
+     * @return the image drawn, overwritten by the next call
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The image is reused to spare allocating a frame per call.")
+    public BufferedImage render() {
+        final Graphics2D g = this.image.createGraphics();
+        try {
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+            this.view.getUnmodifiableControls().forEach(c -> {
+                final HeadlessGraphic graphic = c.unwrap();
+                final Coord2D corner = graphic.relativePosition();
+                final Dimension size = graphic.currentDimension();
+                final int x = (int) Math.round(corner.x());
+                final int y = (int) Math.round(corner.y());
+                final int width = (int) Math.round(size.width());
+                final int height = (int) Math.round(size.height());
+                if (graphic.color().isPresent()) {
+                    g.setColor(graphic.color().get().toAwtColor());
+                    g.fillRect(x, y, width, height);
+                } else {
+                    g.setColor(OUTLINE);
+                    g.drawRect(x, y, width, height);
+                }
+            });
+        } finally {
+            g.dispose();
+        }
+        return this.image;
+    }
+
+    /**
+     * Draws the current state of the view into a PNG file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file could not be written
+     */
+    public void write(final Path file) throws IOException {
+        if (!ImageIO.write(this.render(), FORMAT, file.toFile())) {
+            throw new IOException("No writer for " + FORMAT + " images");
+        }
+    }
+}
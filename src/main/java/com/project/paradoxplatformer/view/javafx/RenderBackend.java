@@ -0,0 +1,41 @@
+package com.project.paradoxplatformer.view.javafx;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Defines how the graphics of a level are presented.
+ */
+public enum RenderBackend {
+
+    /**
+     * Every graphic is a JavaFX node of its own, bound to the size of the
+     * container.
+     */
+    NODES,
+
+    /**
+     * Every graphic is drawn onto a single canvas, sorted by layer and batched
+     * by image or color.
+     */
+    CANVAS;
+
+    /**
+     * Name of the system property used to select the backend.
+     */
+    public static final String PROPERTY = "paradox.renderer";
+
+    /**
+     * Reads the backend from the {@value #PROPERTY} system property, falling
+     * back to {@link #NODES} when it is missing or unknown.
+     *
+     * @return the selected backend
+     */
+    public static RenderBackend fromSystemProperty() {
+        final String value = System.getProperty(PROPERTY, NODES.name()).toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(b -> b.name().equals(value))
+                .findFirst()
+                .orElse(NODES);
+    }
+}
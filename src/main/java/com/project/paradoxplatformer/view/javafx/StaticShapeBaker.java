@@ -0,0 +1,147 @@
+package com.project.paradoxplatformer.view.javafx;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.ImageLoader;
+import com.project.paradoxplatformer.utils.WeightedLruCache;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Rasterizes static shapes into a single image covering the whole level, once
+ * per scale factor.
+ * <p>
+ * Images are cached by scale, so that going back to a previous window size
+ * costs nothing, and the cache is bounded by their decoded size like the one of
+ * {@link ImageLoader}. Taking a shape out drops every cached image. Baking
+ * takes a snapshot, and must thus happen on the JavaFX application thread.
+ * </p>
+ */
+public final class StaticShapeBaker {
+
+    private static final long CACHE_BUDGET = 32L * 1024 * 1024;
+
+    private final Dimension bounds;
+    private final Map<Integer, StaticShape> shapes;
+    private final WeightedLruCache<Scale, Image> images;
+
+    /**
+     * Creates a baker for the given shapes.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes to bake, drawn in order
+     */
+    public StaticShapeBaker(final Dimension bounds, final List<StaticShape> shapes) {
+        this.bounds = bounds;
+        this.shapes = new LinkedHashMap<>();
+        shapes.forEach(s -> this.shapes.put(s.id(), s));
+        this.images = new WeightedLruCache<>(CACHE_BUDGET,
+                i -> (long) i.getWidth() * (long) i.getHeight() * ImageLoader.BYTES_PER_PIXEL);
+    }
+
+    /**
+     * Returns the shapes baked at the given scale, baking them if needed.
+     *
+     * @param widthRatio  the horizontal scale, from level to screen units
+     * @param heightRatio the vertical scale, from level to screen units
+     * @return the baked image, or an empty {@link Optional} if the scale is not
+     *         positive, as happens before the container is laid out
+     */
+    public Optional<Image> image(final double widthRatio, final double heightRatio) {
+        if (widthRatio <= 0 || heightRatio <= 0) {
+            return Optional.empty();
+        }
+        final Scale scale = new Scale(widthRatio, heightRatio);
+        final Optional<Image> cached = this.images.get(scale);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        final Image baked = this.bake(scale);
+        this.images.put(scale, baked);
+        return Optional.of(baked);
+    }
+
+    /**
+     * Tells whether a shape is baked.
+     *
+     * @param id the ID of the shape
+     * @return {@code true} if the shape is baked
+     */
+    public boolean contains(final int id) {
+        return this.shapes.containsKey(id);
+    }
+
+    /**
+     * Takes a shape out, dropping the images it was baked into.
+     *
+     * @param id the ID of the shape
+     * @return {@code true} if the shape was baked
+     */
+    public boolean remove(final int id) {
+        if (this.shapes.remove(id) == null) {
+            return false;
+        }
+        this.images.clear();
+        return true;
+    }
+
+    /**
+     * The dimension of the level the shapes are baked over.
+     *
+     * @return the dimension of the level
+     */
+    public Dimension bounds() {
+        return this.bounds;
+    }
+
+    /**
+     * The size of the images the shapes are baked into at the given scale,
+     * covering the whole level.
+     *
+     * @param widthRatio  the horizontal scale, from level to screen units
+     * @param heightRatio the vertical scale, from level to screen units
+     * @return the size of the baked images, in pixels
+     */
+    public Dimension imageSize(final double widthRatio, final double heightRatio) {
+        return new Dimension(
+                Math.ceil(this.bounds.width() * widthRatio),
+                Math.ceil(this.bounds.height() * heightRatio));
+    }
+
+    private Image bake(final Scale scale) {
+        final Dimension size = this.imageSize(scale.width(), scale.height());
+        final Canvas canvas = new Canvas(size.width(), size.height());
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        this.shapes.values().forEach(shape -> {
+            final AABB box = shape.bounds();
+            gc.setFill(shape.color().toFXColor());
+            gc.fillRect(
+                    box.minX() * scale.width(),
+                    box.minY() * scale.height(),
+                    (box.maxX() - box.minX()) * scale.width(),
+                    (box.maxY() - box.minY()) * scale.height());
+        });
+        final SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    /**
+     * A scale factor the shapes are baked at.
+     *
+     * @param width  the horizontal scale
+     * @param height the vertical scale
+     */
+    private record Scale(double width, double height) {
+    }
+}
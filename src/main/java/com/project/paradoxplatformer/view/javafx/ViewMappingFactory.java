@@ -1,11 +1,15 @@
 package com.project.paradoxplatformer.view.javafx;
 
+import java.util.List;
 import java.util.function.Function;
 
 import com.project.paradoxplatformer.controller.games.GameController;
 import com.project.paradoxplatformer.model.innersetting.MenuItem;
 import com.project.paradoxplatformer.model.mappings.EntityDataMapper;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
 
 /**
  * Factory interface for mapping different types of game elements to their
@@ -35,6 +39,16 @@ public interface ViewMappingFactory<C> {
      */
     EntityDataMapper<GraphicAdapter<C>> blockToView();
 
+    /**
+     * Creates a single graphic covering the whole level, with the given shapes
+     * baked into it.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes which never move
+     * @return a {@link StaticLayer} holding the shapes
+     */
+    StaticLayer<C> staticLayer(Dimension bounds, List<StaticShape> shapes);
+
     /**
      * Provides a function that maps {@link MenuItem} instances to their
      * corresponding {@link GraphicAdapter}, using the provided
@@ -0,0 +1,251 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * An abstract graphic adapter drawn onto the canvas of a
+ * {@link FXCanvasContainerAdapter} instead of being a node of its own.
+ * <p>
+ * Position and dimension are plain fields, scaled by the ratios given through
+ * {@link #bindProperties(ObservableDoubleValue, ObservableDoubleValue)} only
+ * when drawing, so that no binding is created per graphic. Every change asks
+ * the container to draw again at the next pulse.
+ * </p>
+ */
+public abstract class AbstractCanvasGraphicAdapter implements GraphicAdapter<Node> {
+
+    private static final ObservableDoubleValue UNSCALED = new ReadOnlyDoubleWrapper(1.0).getReadOnlyProperty();
+
+    private final int key;
+    private final Dimension dimension;
+    private final Coord2D bindedPosition;
+    private final int layer;
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+    private boolean flipped;
+    private ObservableDoubleValue widthRatio;
+    private ObservableDoubleValue heightRatio;
+    private Optional<FXCanvasContainerAdapter> container;
+
+    /**
+     * Constructs a canvas graphic adapter.
+     *
+     * @param id          the unique id of the graphic
+     * @param dimension   the initial dimension of the graphic
+     * @param relativePos the initial position of the graphic
+     * @param layer       the layer of the graphic, lower layers being drawn
+     *                    first
+     */
+    protected AbstractCanvasGraphicAdapter(final int id, final Dimension dimension, final Coord2D relativePos,
+            final int layer) {
+        this.key = id;
+        this.dimension = dimension;
+        this.bindedPosition = relativePos;
+        this.layer = layer;
+        this.x = relativePos.x();
+        this.y = relativePos.y();
+        this.width = dimension.width();
+        this.height = dimension.height();
+        this.widthRatio = UNSCALED;
+        this.heightRatio = UNSCALED;
+        this.container = Optional.empty();
+    }
+
+    /**
+     * Draws the graphic.
+     *
+     * @param gc the graphics context of the canvas
+     */
+    protected abstract void draw(GraphicsContext gc);
+
+    /**
+     * The key grouping the graphics drawn with the same state, such as the same
+     * image or color, so that the container draws them one after the other.
+     *
+     * @return the batch key
+     */
+    protected abstract Object batchKey();
+
+    /**
+     * The layer of the graphic, lower layers being drawn first.
+     *
+     * @return the layer of the graphic
+     */
+    protected int layer() {
+        return this.layer;
+    }
+
+    /**
+     * Attaches the graphic to the container drawing it.
+     *
+     * @param canvasContainer the container drawing the graphic, if any
+     */
+    void attach(final Optional<FXCanvasContainerAdapter> canvasContainer) {
+        this.container = canvasContainer;
+    }
+
+    /**
+     * Asks the container to draw again at the next pulse.
+     */
+    protected void invalidate() {
+        this.container.ifPresent(FXCanvasContainerAdapter::invalidate);
+    }
+
+    /**
+     * The x coordinate where the graphic is drawn, scaled to the canvas.
+     *
+     * @return the scaled x coordinate
+     */
+    protected double scaledX() {
+        return this.x * this.widthRatio.get();
+    }
+
+    /**
+     * The y coordinate where the graphic is drawn, scaled to the canvas.
+     *
+     * @return the scaled y coordinate
+     */
+    protected double scaledY() {
+        return this.y * this.heightRatio.get();
+    }
+
+    /**
+     * The width the graphic is drawn with, scaled to the canvas.
+     *
+     * @return the scaled width
+     */
+    protected double scaledWidth() {
+        return this.width * this.widthRatio.get();
+    }
+
+    /**
+     * The height the graphic is drawn with, scaled to the canvas.
+     *
+     * @return the scaled height
+     */
+    protected double scaledHeight() {
+        return this.height * this.heightRatio.get();
+    }
+
+    /**
+     * Checks whether the graphic is drawn mirrored horizontally.
+     *
+     * @return {@code true} if the graphic is flipped
+     */
+    protected boolean isFlipped() {
+        return this.flipped;
+    }
+
+    /**
+     * Returns the canvas the graphic is drawn onto, shared with every other
+     * graphic of its container.
+     *
+     * @return the canvas of the container
+     * @throws IllegalStateException if the graphic is not rendered by a canvas
+     *                               container
+     */
+    @Override
+    public Node unwrap() {
+        return this.container
+                .map(FXCanvasContainerAdapter::canvas)
+                .orElseThrow(() -> new IllegalStateException("Graphic " + this.key + " is not rendered"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension dimension() {
+        return this.dimension;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D absolutePosition() {
+        return new Coord2D(this.bindedPosition.x(), this.bindedPosition.y());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D relativePosition() {
+        return new Coord2D(this.x, this.y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDimension(final double width, final double height) {
+        if (width != this.width || height != this.height) {
+            this.width = width;
+            this.height = height;
+            this.invalidate();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double x, final double y) {
+        if (x != this.x || y != this.y) {
+            this.x = x;
+            this.y = y;
+            this.invalidate();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final double x, final double y) {
+        this.setPosition(this.absolutePosition().x() + x, this.absolutePosition().y() + y);
+    }
+
+    /**
+     * Records the ratios scaling the graphic, read at every draw instead of
+     * being bound to any property.
+     *
+     * @param wRatio the ratio scaling horizontal coordinates and widths
+     * @param hRatio the ratio scaling vertical coordinates and heights
+     */
+    @Override
+    public void bindProperties(final ObservableDoubleValue wRatio, final ObservableDoubleValue hRatio) {
+        this.widthRatio = wRatio;
+        this.heightRatio = hRatio;
+        this.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flip() {
+        this.flipped = !this.flipped;
+        this.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getID() {
+        return this.key;
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import com.project.paradoxplatformer.utils.ImageLoader;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * An image drawn onto a canvas, the counterpart of the {@code FXImageAdapter}
+ * node.
+ * <p>
+ * The image is drawn through a viewport, the whole image by default, which
+ * lets subclasses draw a part of a larger sheet.
+ * </p>
+ */
+public class CanvasImageAdapter extends AbstractCanvasGraphicAdapter {
+
+    private final Image image;
+    private Rectangle2D viewport;
+
+    /**
+     * Constructs a new canvas image.
+     *
+     * @param id        the unique id of the image
+     * @param dimension the dimension of the image
+     * @param position  the position of the image
+     * @param imageURL  the URL of the image
+     * @param layer     the layer of the image
+     * @throws InvalidResourceException if the image can not be loaded
+     */
+    protected CanvasImageAdapter(final int id, final Dimension dimension, final Coord2D position,
+            final String imageURL, final int layer) throws InvalidResourceException {
+        this(id, dimension, position, ImageLoader.createFXImage(imageURL), layer);
+    }
+
+    /**
+     * Constructs a new canvas image over an already loaded image, which may be
+     * shared with other graphics.
+     *
+     * @param id        the unique id of the image
+     * @param dimension the dimension of the image
+     * @param position  the position of the image
+     * @param image     the image to draw
+     * @param layer     the layer of the image
+     */
+    protected CanvasImageAdapter(final int id, final Dimension dimension, final Coord2D position,
+            final Image image, final int layer) {
+        super(id, dimension, position, layer);
+        this.image = image;
+        this.viewport = new Rectangle2D(0, 0, this.image.getWidth(), this.image.getHeight());
+    }
+
+    /**
+     * Draws the viewport of the image, mirrored horizontally when flipped.
+     *
+     * @param gc the graphics context of the canvas
+     */
+    @Override
+    protected void draw(final GraphicsContext gc) {
+        final double width = scaledWidth();
+        final double x = isFlipped() ? scaledX() + width : scaledX();
+        gc.drawImage(this.image,
+                this.viewport.getMinX(), this.viewport.getMinY(), this.viewport.getWidth(), this.viewport.getHeight(),
+                x, scaledY(), isFlipped() ? -width : width, scaledHeight());
+    }
+
+    /**
+     * Images are batched by image, so that sprites cut from the same sheet are
+     * drawn one after the other.
+     *
+     * @return the drawn image
+     */
+    @Override
+    protected Object batchKey() {
+        return this.image;
+    }
+
+    /**
+     * Returns the drawn image.
+     *
+     * @return the image
+     */
+    protected Image getImage() {
+        return this.image;
+    }
+
+    /**
+     * Sets the part of the image to draw.
+     *
+     * @param viewport the part of the image to draw
+     */
+    protected void setViewport(final Rectangle2D viewport) {
+        if (!viewport.equals(this.viewport)) {
+            this.viewport = viewport;
+            this.invalidate();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * A colored block drawn onto a canvas, the counterpart of the
+ * {@code FXRectangleAdapter} node.
+ */
+public class CanvasRectangleAdapter extends AbstractCanvasGraphicAdapter {
+
+    private final Color fill;
+
+    /**
+     * Constructs a new canvas block.
+     *
+     * @param id        the unique id of the block
+     * @param dimension the dimension of the block
+     * @param position  the position of the block
+     * @param fill      the color of the block
+     * @param layer     the layer of the block
+     */
+    protected CanvasRectangleAdapter(final int id, final Dimension dimension, final Coord2D position,
+            final Color fill, final int layer) {
+        super(id, dimension, position, layer);
+        this.fill = fill;
+    }
+
+    /**
+     * Fills the block, setting the fill color only when it differs from the one
+     * of the previous draw.
+     *
+     * @param gc the graphics context of the canvas
+     */
+    @Override
+    protected void draw(final GraphicsContext gc) {
+        if (!this.fill.equals(gc.getFill())) {
+            gc.setFill(this.fill);
+        }
+        gc.fillRect(scaledX(), scaledY(), scaledWidth(), scaledHeight());
+    }
+
+    /**
+     * Blocks are batched by color.
+     *
+     * @return the color of the block
+     */
+    @Override
+    protected Object batchKey() {
+        return this.fill;
+    }
+}
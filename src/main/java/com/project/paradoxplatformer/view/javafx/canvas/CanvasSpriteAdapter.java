@@ -0,0 +1,67 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.SpriteDTO;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.sprites.SpriteSheet;
+import com.project.paradoxplatformer.view.graphics.sprites.Spriteable;
+import com.project.paradoxplatformer.view.javafx.fxcomponents.FXSpriteAtlas;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * An animated sprite drawn onto a canvas, the counterpart of the
+ * {@code FXSpriteAdapter} node: frames are viewports over the sprite sheet,
+ * both shared through the {@link FXSpriteAtlas}.
+ */
+public final class CanvasSpriteAdapter extends CanvasImageAdapter implements Spriteable {
+
+    private final SpriteSheet<Rectangle2D> sheet;
+    private final int frameDuration;
+
+    /**
+     * Constructs a new canvas sprite.
+     *
+     * @param id         the unique id of the sprite
+     * @param dimension  the dimension of the sprite
+     * @param position   the position of the sprite
+     * @param imageURL   the URL of the sprite sheet
+     * @param spriteMeta the {@code SpriteDTO} containing metadata for sprite
+     *                   animation
+     * @param layer      the layer of the sprite
+     * @throws InvalidResourceException if the sprite sheet can not be loaded
+     */
+    protected CanvasSpriteAdapter(final int id, final Dimension dimension, final Coord2D position,
+            final String imageURL, final SpriteDTO spriteMeta, final int layer) throws InvalidResourceException {
+        super(id, dimension, position, FXSpriteAtlas.image(imageURL), layer);
+        this.sheet = FXSpriteAtlas.sheet(imageURL, dimension, spriteMeta);
+        this.frameDuration = spriteMeta.getFrameDuration();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpriteSheet<Rectangle2D> sheet() {
+        return this.sheet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int frameDuration() {
+        return this.frameDuration;
+    }
+
+    /**
+     * Shows a frame of the sheet, moving the viewport over it.
+     *
+     * @param frame the index of the frame within the sheet
+     */
+    @Override
+    public void showFrame(final int frame) {
+        this.setViewport(this.sheet.frame(frame));
+    }
+}
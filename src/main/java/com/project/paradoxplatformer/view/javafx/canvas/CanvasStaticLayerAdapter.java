@@ -0,0 +1,88 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import java.util.List;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+import com.project.paradoxplatformer.view.javafx.StaticShapeBaker;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * A static layer drawn onto a canvas as a single image, the counterpart of the
+ * {@code FXStaticLayerAdapter} node. The image is baked at the scale the
+ * canvas is drawn at, so it is baked again when the container is resized.
+ */
+public final class CanvasStaticLayerAdapter extends AbstractCanvasGraphicAdapter implements StaticLayer<Node> {
+
+    private final StaticShapeBaker baker;
+
+    /**
+     * Constructs a static layer over the whole level.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes to bake into the layer
+     * @param layer  the layer of the graphic
+     */
+    protected CanvasStaticLayerAdapter(final Dimension bounds, final List<StaticShape> shapes, final int layer) {
+        super(LAYER_ID, bounds, new Coord2D(0, 0), layer);
+        this.baker = new StaticShapeBaker(bounds, shapes);
+    }
+
+    /**
+     * Draws the image baked at the current scale.
+     *
+     * @param gc the graphics context of the canvas
+     */
+    @Override
+    protected void draw(final GraphicsContext gc) {
+        this.baker.image(
+                scaledWidth() / this.baker.bounds().width(),
+                scaledHeight() / this.baker.bounds().height())
+                .ifPresent(image -> gc.drawImage(image, scaledX(), scaledY()));
+    }
+
+    /**
+     * The layer is the only graphic drawn with its image.
+     *
+     * @return this layer
+     */
+    @Override
+    protected Object batchKey() {
+        return this;
+    }
+
+    /**
+     * The layer keeps the dimension of the level.
+     *
+     * @param width  ignored
+     * @param height ignored
+     */
+    @Override
+    public void setDimension(final double width, final double height) {
+        // the layer always covers the whole level
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final int id) {
+        return this.baker.contains(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final int id) {
+        final boolean removed = this.baker.remove(id);
+        if (removed) {
+            this.invalidate();
+        }
+        return removed;
+    }
+}
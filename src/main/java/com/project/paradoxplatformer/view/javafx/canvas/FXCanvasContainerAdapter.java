@@ -0,0 +1,149 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.GraphicContainer;
+import com.project.paradoxplatformer.view.javafx.fxcomponents.FXContainerAdapter;
+import com.project.paradoxplatformer.view.renders.ViewComponent;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Pane;
+
+/**
+ * A container drawing every {@link AbstractCanvasGraphicAdapter} it renders
+ * onto a single {@link Canvas}, instead of adding a node per graphic.
+ * <p>
+ * Canvas graphics are kept in a {@link RenderList}, drawn by layer and batched
+ * by image or color. The whole canvas is drawn again at most once per pulse,
+ * and only after a graphic or the size of the container changed. Any other
+ * component, such as a button, is added as a node like
+ * {@link FXContainerAdapter} does, and so is key input handled.
+ * </p>
+ */
+public final class FXCanvasContainerAdapter extends FXContainerAdapter {
+
+    private final Pane uiContainer;
+    private final RenderList<AbstractCanvasGraphicAdapter> renderList;
+    private Optional<Canvas> canvas;
+    private boolean pending;
+
+    /**
+     * Constructs a canvas container drawing onto the given JavaFX {@link Pane}.
+     * The canvas is only added to the pane along with the first canvas graphic.
+     *
+     * @param container the JavaFX pane holding the canvas
+     */
+    public FXCanvasContainerAdapter(final Pane container) {
+        super(container);
+        this.uiContainer = container;
+        this.renderList = new RenderList<>();
+        this.canvas = Optional.empty();
+    }
+
+    /**
+     * Renders the specified component, adding canvas graphics to the render list
+     * and any other component as a node.
+     *
+     * @param component the {@link ViewComponent} to render
+     * @return true if the component was successfully added, false otherwise
+     */
+    @Override
+    public boolean render(final ViewComponent<Node> component) {
+        if (component instanceof AbstractCanvasGraphicAdapter graphic) {
+            graphic.attach(Optional.of(this));
+            this.renderList.add(graphic, graphic.layer(), graphic.batchKey());
+            this.invalidate();
+            return true;
+        }
+        return super.render(component);
+    }
+
+    /**
+     * Renders the specified component, ignoring the order of canvas graphics,
+     * which are drawn by layer.
+     *
+     * @param component the {@link ViewComponent} to render
+     * @param order     the drawing order of the component
+     * @return true if the component was successfully added, false otherwise
+     */
+    @Override
+    public boolean render(final ViewComponent<Node> component, final int order) {
+        return component instanceof AbstractCanvasGraphicAdapter
+                ? this.render(component)
+                : super.render(component, order);
+    }
+
+    /**
+     * Deletes the specified component, looking canvas graphics up by ID since
+     * they may come wrapped in a decorator.
+     *
+     * @param component the {@link ViewComponent} to delete
+     * @return true if the component was successfully removed, false otherwise
+     */
+    @Override
+    public boolean delete(final ViewComponent<Node> component) {
+        if (component instanceof GraphicAdapter<Node> graphic) {
+            final Optional<AbstractCanvasGraphicAdapter> drawn = this.renderList
+                    .find(g -> g.getID() == graphic.getID());
+            if (drawn.isPresent()) {
+                drawn.get().attach(Optional.empty());
+                this.renderList.remove(drawn.get());
+                this.invalidate();
+                return true;
+            }
+        }
+        return super.delete(component);
+    }
+
+    /**
+     * Returns a new container drawing onto the same pane.
+     *
+     * @return a canvas container over the same pane
+     */
+    @Override
+    public GraphicContainer<Node, KeyCode> defensiveCopy() {
+        return new FXCanvasContainerAdapter(this.uiContainer);
+    }
+
+    /**
+     * Asks the canvas to be drawn again, at most once per pulse.
+     */
+    void invalidate() {
+        if (!this.pending) {
+            this.pending = true;
+            Platform.runLater(this::redraw);
+        }
+    }
+
+    /**
+     * Returns the canvas, adding it to the pane on first use.
+     *
+     * @return the canvas every graphic is drawn onto
+     */
+    Canvas canvas() {
+        if (this.canvas.isEmpty()) {
+            final Canvas created = new Canvas();
+            created.setMouseTransparent(true);
+            created.widthProperty().bind(this.uiContainer.widthProperty());
+            created.heightProperty().bind(this.uiContainer.heightProperty());
+            created.widthProperty().addListener((obs, o, n) -> this.invalidate());
+            created.heightProperty().addListener((obs, o, n) -> this.invalidate());
+            this.uiContainer.getChildren().add(created);
+            this.canvas = Optional.of(created);
+        }
+        return this.canvas.get();
+    }
+
+    private void redraw() {
+        this.pending = false;
+        final Canvas target = this.canvas();
+        final GraphicsContext gc = target.getGraphicsContext2D();
+        gc.clearRect(0, 0, target.getWidth(), target.getHeight());
+        this.renderList.forEach(g -> g.draw(gc));
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
+import com.project.paradoxplatformer.controller.games.GameController;
+import com.project.paradoxplatformer.model.innersetting.MenuItem;
+import com.project.paradoxplatformer.model.mappings.EntityDataMapper;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
+import com.project.paradoxplatformer.view.javafx.fxcomponents.FXViewMappingFactoryImpl;
+
+import javafx.scene.Node;
+
+/**
+ * A {@link ViewMappingFactory} mapping game objects to graphics drawn onto the
+ * single canvas of a {@link FXCanvasContainerAdapter}.
+ * <p>
+ * Shapes baked into the static layer are drawn first, then blocks, plain
+ * images and sprites last. Menu items are
+ * still mapped to nodes, as done by {@link FXViewMappingFactoryImpl}.
+ * </p>
+ */
+public class FXCanvasMappingFactoryImpl implements ViewMappingFactory<Node> {
+
+    private static final int STATIC_LAYER = -1;
+    private static final int BLOCK_LAYER = 0;
+    private static final int IMAGE_LAYER = 1;
+    private static final int SPRITE_LAYER = 2;
+
+    private final ViewMappingFactory<Node> nodeFactory = new FXViewMappingFactoryImpl();
+
+    /**
+     * Maps game objects with an image to canvas images, or to canvas sprites when
+     * they have sprite metadata.
+     *
+     * @return the mapper from game data to canvas images
+     */
+    @Override
+    public EntityDataMapper<GraphicAdapter<Node>> imageToView() {
+        return this::reckonImageFromSprite;
+    }
+
+    /**
+     * Maps game objects with a color to canvas blocks.
+     *
+     * @return the mapper from game data to canvas blocks
+     */
+    @Override
+    public EntityDataMapper<GraphicAdapter<Node>> blockToView() {
+        return g -> new CanvasRectangleAdapter(
+                g.getID(),
+                new Dimension(g.getWidth(), g.getHeight()),
+                new Coord2D(g.getX(), g.getY()),
+                g.getColor().toFXColor(),
+                BLOCK_LAYER);
+    }
+
+    /**
+     * Maps the shapes which never move to a single canvas image, below every
+     * other graphic.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes which never move
+     * @return the static layer
+     */
+    @Override
+    public StaticLayer<Node> staticLayer(final Dimension bounds, final List<StaticShape> shapes) {
+        return new CanvasStaticLayerAdapter(bounds, shapes, STATIC_LAYER);
+    }
+
+    private GraphicAdapter<Node> reckonImageFromSprite(final GameDTO g) {
+        try {
+            return Objects.nonNull(g.getSpriteMeta()) ? new CanvasSpriteAdapter(
+                    g.getID(),
+                    new Dimension(g.getWidth(), g.getHeight()),
+                    new Coord2D(g.getX(), g.getY()),
+                    g.getImage(),
+                    g.getSpriteMeta(),
+                    SPRITE_LAYER)
+                    : new CanvasImageAdapter(
+                            g.getID(),
+                            new Dimension(g.getWidth(), g.getHeight()),
+                            new Coord2D(g.getX(), g.getY()),
+                            g.getImage(),
+                            IMAGE_LAYER);
+        } catch (InvalidResourceException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Maps menu items to button nodes.
+     *
+     * @param gameController the controller the buttons act on
+     * @return the mapper from menu items to buttons
+     */
+    @Override
+    public Function<MenuItem, GraphicAdapter<Node>> menuItemToView(final GameController<Node> gameController) {
+        return this.nodeFactory.menuItemToView(gameController);
+    }
+}
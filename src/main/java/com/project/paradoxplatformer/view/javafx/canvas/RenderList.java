@@ -0,0 +1,114 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The ordered list of what a canvas draws at every pulse.
+ * <p>
+ * Items are drawn by ascending layer and, within a layer, grouped by their
+ * batch key, such as the image or the color they are drawn with, so that
+ * consecutive draws share the same state. Keys are numbered in the order they
+ * are first met and items with the same layer and key keep their insertion
+ * order, which makes the drawing order deterministic. The list is only sorted
+ * again after items are added.
+ * </p>
+ *
+ * @param <T> the type of the drawn items
+ */
+final class RenderList<T> {
+
+    private static final Comparator<Entry<?>> ORDER = Comparator.<Entry<?>>comparingInt(e -> e.layer())
+            .thenComparingInt(e -> e.batch())
+            .thenComparingLong(e -> e.sequence());
+
+    private final List<Entry<T>> entries;
+    private final Map<Object, Integer> batches;
+    private long sequence;
+    private boolean sorted;
+
+    /**
+     * Creates an empty render list.
+     */
+    RenderList() {
+        this.entries = new ArrayList<>();
+        this.batches = new HashMap<>();
+        this.sorted = true;
+    }
+
+    /**
+     * Adds an item to the list.
+     *
+     * @param item     the item to draw
+     * @param layer    the layer of the item, lower layers being drawn first
+     * @param batchKey the key grouping the items drawn with the same state
+     */
+    void add(final T item, final int layer, final Object batchKey) {
+        final int batch = this.batches.computeIfAbsent(batchKey, k -> this.batches.size());
+        this.entries.add(new Entry<>(item, layer, batch, this.sequence++));
+        this.sorted = false;
+    }
+
+    /**
+     * Removes an item from the list.
+     *
+     * @param item the item to remove, compared by identity
+     * @return {@code true} if the item was in the list
+     */
+    boolean remove(final Object item) {
+        return this.entries.removeIf(e -> e.item() == item);
+    }
+
+    /**
+     * Looks up the first item matching the given predicate. Items are searched
+     * in the order they are kept: the drawing order as of the last sort,
+     * followed by the items added since, in insertion order.
+     *
+     * @param predicate the predicate to match
+     * @return the first matching item, if any
+     */
+    Optional<T> find(final Predicate<? super T> predicate) {
+        return this.entries.stream()
+                .map(Entry::item)
+                .filter(predicate)
+                .findFirst();
+    }
+
+    /**
+     * Performs the given action on every item, in drawing order.
+     *
+     * @param action the action to perform
+     */
+    void forEach(final Consumer<? super T> action) {
+        if (!this.sorted) {
+            this.entries.sort(ORDER);
+            this.sorted = true;
+        }
+        for (final Entry<T> entry : this.entries) {
+            action.accept(entry.item());
+        }
+    }
+
+    /**
+     * The number of items in the list.
+     *
+     * @return the number of items
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * An item along with its sorting keys.
+     *
+     * @param <T> the type of the item
+     */
+    private record Entry<T>(T item, int layer, int batch, long sequence) {
+    }
+}
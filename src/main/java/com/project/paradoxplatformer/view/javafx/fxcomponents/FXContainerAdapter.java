@@ -15,6 +15,7 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -26,8 +27,10 @@ import java.util.function.Consumer;
  */
 public class FXContainerAdapter implements GraphicContainer<Node, KeyCode>, InputTranslator<KeyCode> {
 
+    private static final String ORDER_KEY = "paradox.order";
+
     private final Pane uiContainer;
-    private final KeyAssetter<KeyCode> keyAssetter;
+    private final KeyAssetterImpl<KeyCode> keyAssetter;
 
     /**
      * Constructs an FXContainerAdapter with the specified JavaFX {@link Pane}.
@@ -53,6 +56,34 @@ public class FXContainerAdapter implements GraphicContainer<Node, KeyCode>, Inpu
         return uiContainer.getChildren().add(component.unwrap());
     }
 
+    /**
+     * Renders the specified component by inserting its Node representation
+     * among the children of the container according to its order. Nodes
+     * rendered without an order count as lower than any order, so that ordered
+     * nodes always go above them, as they would if rendered last.
+     * 
+     * @param component the {@link ViewComponent} to render
+     * @param order     the drawing order of the component
+     * @return true if the component was successfully added, false otherwise
+     */
+    @Override
+    public boolean render(final ViewComponent<Node> component, final int order) {
+        final Node node = component.unwrap();
+        final List<Node> children = this.uiContainer.getChildren();
+        int at = children.size();
+        // components usually come back near the top, so the scan starts from there
+        while (at > 0 && orderOf(children.get(at - 1)) > order) {
+            at--;
+        }
+        node.getProperties().put(ORDER_KEY, order);
+        children.add(at, node);
+        return true;
+    }
+
+    private static int orderOf(final Node node) {
+        return node.getProperties().get(ORDER_KEY) instanceof Integer order ? order : Integer.MIN_VALUE;
+    }
+
     /**
      * Returns the current dimension of the container.
      * 
@@ -75,13 +106,15 @@ public class FXContainerAdapter implements GraphicContainer<Node, KeyCode>, Inpu
     }
 
     /**
-     * Returns the {@link KeyAssetter} associated with this container.
+     * Returns the {@link KeyAssetter} associated with this container, as a
+     * live read-only view, so that the game loop reads the keys pressed by key
+     * events without copying them at every tick.
      * 
      * @return the {@link KeyAssetter} for this container
      */
     @Override
     public KeyAssetter<KeyCode> getKeyAssetter() {
-        return new KeyAssetterImpl<>(this.keyAssetter);
+        return this.keyAssetter.readOnlyView();
     }
 
     /**
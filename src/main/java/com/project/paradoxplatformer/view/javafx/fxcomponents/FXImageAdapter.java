@@ -13,6 +13,7 @@ import com.project.paradoxplatformer.view.javafx.fxcomponents.abstracts.Abstract
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.value.ObservableDoubleValue;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -44,13 +45,30 @@ public class FXImageAdapter extends AbstractFXGraphicAdapter {
             final Dimension dimension,
             final Coord2D position,
             final String imageURL) throws InvalidResourceException {
+        this(id, dimension, position, ImageLoader.createFXImage(imageURL));
+    }
+
+    /**
+     * Constructs an {@code FXImageAdapter} with specified dimensions, position, and
+     * an already loaded image, which may be shared with other adapters.
+     *
+     * @param id        the unique id of the button
+     * @param dimension the dimension of the image
+     * @param position  the position of the image
+     * @param image     the image to be shown
+     */
+    protected FXImageAdapter(
+            final int id,
+            final Dimension dimension,
+            final Coord2D position,
+            final Image image) {
         super(id, new ImageView(), dimension, position);
         this.imgComponent = (ImageView) super.getUiComponent();
         // this.imgComponent.setPreserveRatio(true);
         this.imgComponent.setSmooth(true);
         widthProperty = new SimpleDoubleProperty(dimension.width());
         heightProperty = new SimpleDoubleProperty(dimension.height());
-        imgComponent.setImage(ImageLoader.createFXImage(imageURL));
+        imgComponent.setImage(image);
         this.widthProperty.set(dimension.width());
         this.heightProperty.set(dimension.height());
     }
@@ -63,7 +81,7 @@ public class FXImageAdapter extends AbstractFXGraphicAdapter {
      */
     protected Optional<String> image() {
         return Optional.ofNullable(this.imgComponent.getImage())
-                .map(javafx.scene.image.Image::getUrl)
+                .map(Image::getUrl)
                 .map(url -> url.split(File.pathSeparator))
                 .map(Arrays::stream)
                 .flatMap(s -> s.reduce((a, b) -> b));
@@ -4,21 +4,21 @@ import com.project.paradoxplatformer.controller.deserialization.dtos.SpriteDTO;
 import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
-import com.project.paradoxplatformer.view.graphics.sprites.SpriteAnimator;
-import com.project.paradoxplatformer.view.graphics.sprites.SpriteStatus;
+import com.project.paradoxplatformer.view.graphics.sprites.SpriteSheet;
 import com.project.paradoxplatformer.view.graphics.sprites.Spriteable;
 
-import javafx.scene.image.Image;
+import javafx.geometry.Rectangle2D;
 
 /**
  * An adapter that integrates a sprite image with animation capabilities.
- * Extends {@code FXImageAdapter} to include sprite animation and special status
- * handling.
+ * Extends {@code FXImageAdapter} to include sprite animation
+ * handling. Frames are viewports over the sprite sheet, shared with every other
+ * sprite of the same sheet through the {@link FXSpriteAtlas}.
  */
-public final class FXSpriteAdapter extends FXImageAdapter implements Spriteable<SpriteStatus> {
+public final class FXSpriteAdapter extends FXImageAdapter implements Spriteable {
 
-    private final SpriteAnimator<Image> spriteAnimator;
-    private final boolean isSpecial;
+    private final SpriteSheet<Rectangle2D> sheet;
+    private final int frameDuration;
 
     /**
      * Constructs a new {@code FXSpriteAdapter} with the given parameters.
@@ -28,7 +28,7 @@ public final class FXSpriteAdapter extends FXImageAdapter implements Spriteable<
      * @param position   The {@code Coord2D} position of the sprite.
      * @param imageURL   The URL of the image to use for the sprite.
      * @param spriteMeta The {@code SpriteDTO} containing metadata for sprite
-     *                   animation and special status.
+     *                   animation.
      * @throws InvalidResourceException If the provided image URL is invalid or if
      *                                  there are issues with loading the image.
      */
@@ -37,38 +37,34 @@ public final class FXSpriteAdapter extends FXImageAdapter implements Spriteable<
                               final Coord2D position,
                               final String imageURL,
                               final SpriteDTO spriteMeta) throws InvalidResourceException {
-        super(id, dimension, position, imageURL);
-        this.spriteAnimator = new SpriteAnimator<>(
-                new FXSpriterSetter(
-                        imageURL,
-                        new Dimension(
-                                getImageView().getImage().getWidth(),
-                                getImageView().getImage().getHeight()),
-                        dimension,
-                        spriteMeta),
-                spriteMeta.getMinFrames());
-        this.isSpecial = spriteMeta.isSpecial();
+        super(id, dimension, position, FXSpriteAtlas.image(imageURL));
+        this.sheet = FXSpriteAtlas.sheet(imageURL, dimension, spriteMeta);
+        this.frameDuration = spriteMeta.getFrameDuration();
     }
 
     /**
-     * Animates the sprite based on the given {@code SpriteStatus}.
-     * Updates the sprite's image according to the current animation frame.
-     *
-     * @param status The {@code SpriteStatus} indicating the current animation state
-     *               (e.g., running, jumping).
+     * {@inheritDoc}
+     */
+    @Override
+    public SpriteSheet<Rectangle2D> sheet() {
+        return this.sheet;
+    }
+
+    /**
+     * {@inheritDoc}
      */
     @Override
-    public void animate(final SpriteStatus status) {
-        this.spriteAnimator.selectFrame(status, getImageView()::setImage);
+    public int frameDuration() {
+        return this.frameDuration;
     }
 
     /**
-     * Checks if this sprite is considered special.
+     * Shows a frame of the sheet, moving the viewport over it.
      *
-     * @return {@code true} if the sprite is special, {@code false} otherwise.
+     * @param frame the index of the frame within the sheet
      */
     @Override
-    public boolean isSpecial() {
-        return this.isSpecial;
+    public void showFrame(final int frame) {
+        getImageView().setViewport(this.sheet.frame(frame));
     }
 }
@@ -0,0 +1,137 @@
+package com.project.paradoxplatformer.view.javafx.fxcomponents;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.SpriteDTO;
+import com.project.paradoxplatformer.utils.ImageLoader;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.view.graphics.sprites.SpriteSheet;
+import com.project.paradoxplatformer.view.graphics.sprites.SpriteStatus;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+/**
+ * A process-wide atlas of sprite sheets, sharing the frames of a sheet among
+ * every sprite drawing it.
+ * <p>
+ * A sheet is loaded through the image cache of {@link ImageLoader} and sliced
+ * once per tile size into a page: frames are viewports over the sheet, not
+ * copies of its pixels, and the last frame of a page is the whole sheet.
+ * Sprites then play the frames by index through a {@link SpriteSheet}, itself
+ * shared by the sprites with the same animation metadata. Frames are cut the
+ * way they have always been: idle frames first, then running ones up to the
+ * running frame count, while jumping and falling show the whole sheet.
+ * </p>
+ */
+public final class FXSpriteAtlas {
+
+    private static final Map<PageKey, List<Rectangle2D>> PAGES = new HashMap<>();
+    private static final Map<SheetKey, SpriteSheet<Rectangle2D>> SHEETS = new HashMap<>();
+
+    // Private constructor to prevent instantiation
+    private FXSpriteAtlas() {
+        throw new UnsupportedOperationException("Sprite atlas cannot be initialized");
+    }
+
+    /**
+     * Returns the image of a sprite sheet, cached by the {@link ImageLoader}.
+     *
+     * @param sheetPath the path of the sprite sheet
+     * @return the shared image of the sheet
+     * @throws InvalidResourceException if the sheet can not be loaded
+     */
+    public static Image image(final String sheetPath) throws InvalidResourceException {
+        return ImageLoader.createFXImage(sheetPath);
+    }
+
+    /**
+     * Returns the frames of a sprite sheet cut in tiles of the given size,
+     * slicing them on first use.
+     *
+     * @param sheetPath  the path of the sprite sheet
+     * @param tileSize   the size of a tile
+     * @param spriteMeta the animation metadata of the sprite
+     * @return the shared frames of the sheet
+     * @throws InvalidResourceException if the sheet can not be loaded
+     */
+    public static synchronized SpriteSheet<Rectangle2D> sheet(
+            final String sheetPath,
+            final Dimension tileSize,
+            final SpriteDTO spriteMeta) throws InvalidResourceException {
+        final SheetKey key = new SheetKey(new PageKey(sheetPath, tileSize),
+                spriteMeta.getIdleFrames(), spriteMeta.getRunningFrames());
+        SpriteSheet<Rectangle2D> sheet = SHEETS.get(key);
+        if (sheet == null) {
+            sheet = slice(key, page(key.page()));
+            SHEETS.put(key, sheet);
+        }
+        return sheet;
+    }
+
+    /**
+     * The number of distinct pages sliced so far, one per sheet and tile size.
+     *
+     * @return the number of pages
+     */
+    public static synchronized int pageCount() {
+        return PAGES.size();
+    }
+
+    private static List<Rectangle2D> page(final PageKey key) throws InvalidResourceException {
+        List<Rectangle2D> frames = PAGES.get(key);
+        if (frames == null) {
+            final Image image = image(key.sheetPath());
+            final double tileWidth = key.tileSize().width();
+            frames = new ArrayList<>();
+            if (tileWidth < image.getWidth()) {
+                for (double x = 0; x + tileWidth <= image.getWidth(); x += tileWidth) {
+                    frames.add(new Rectangle2D((int) x, 0, (int) tileWidth, (int) key.tileSize().height()));
+                }
+            }
+            frames.add(new Rectangle2D(0, 0, image.getWidth(), image.getHeight()));
+            frames = List.copyOf(frames);
+            PAGES.put(key, frames);
+        }
+        return frames;
+    }
+
+    private static SpriteSheet<Rectangle2D> slice(final SheetKey key, final List<Rectangle2D> frames) {
+        final int whole = frames.size() - 1;
+        final Map<SpriteStatus, int[]> sequences = new EnumMap<>(SpriteStatus.class);
+        sequences.put(SpriteStatus.IDLE, orWhole(SpriteSheet.range(0, Math.min(key.idleFrames(), whole)), whole));
+        sequences.put(SpriteStatus.RUNNING,
+                orWhole(SpriteSheet.range(key.idleFrames(), Math.min(key.runningFrames(), whole)), whole));
+        sequences.put(SpriteStatus.JUMPING, new int[] {whole});
+        sequences.put(SpriteStatus.FALLING, new int[] {whole});
+        return new SpriteSheet<>(frames, sequences);
+    }
+
+    private static int[] orWhole(final int[] sequence, final int whole) {
+        return sequence.length == 0 ? new int[] {whole} : sequence;
+    }
+
+    /**
+     * Identifies a page.
+     *
+     * @param sheetPath the path of the sprite sheet
+     * @param tileSize  the size of a tile
+     */
+    private record PageKey(String sheetPath, Dimension tileSize) {
+    }
+
+    /**
+     * Identifies the frame sequences of a page.
+     *
+     * @param page          the page
+     * @param idleFrames    the idle frame count
+     * @param runningFrames the running frame count
+     */
+    private record SheetKey(PageKey page, int idleFrames, int runningFrames) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.paradoxplatformer.view.javafx.fxcomponents;
+
+import java.util.List;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+import com.project.paradoxplatformer.view.javafx.StaticShapeBaker;
+import com.project.paradoxplatformer.view.javafx.fxcomponents.abstracts.AbstractFXGraphicAdapter;
+
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * A static layer shown as a single {@link ImageView}, instead of a node per
+ * shape.
+ * <p>
+ * The image is baked at the size the layer takes on screen, so that it is
+ * shown unscaled, and baked again whenever the container is resized.
+ * </p>
+ */
+public final class FXStaticLayerAdapter extends AbstractFXGraphicAdapter implements StaticLayer<Node> {
+
+    private final ImageView imgComponent;
+    private final StaticShapeBaker baker;
+    private ObservableDoubleValue widthRatio;
+    private ObservableDoubleValue heightRatio;
+
+    /**
+     * Constructs a static layer over the whole level.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes to bake into the layer
+     */
+    protected FXStaticLayerAdapter(final Dimension bounds, final List<StaticShape> shapes) {
+        super(LAYER_ID, new ImageView(), bounds, new Coord2D(0, 0));
+        this.imgComponent = (ImageView) super.getUiComponent();
+        this.imgComponent.setMouseTransparent(true);
+        this.baker = new StaticShapeBaker(bounds, shapes);
+    }
+
+    /**
+     * The layer keeps the dimension of the level.
+     *
+     * @param width  ignored
+     * @param height ignored
+     */
+    @Override
+    public void setDimension(final double width, final double height) {
+        // the layer always covers the whole level
+    }
+
+    /**
+     * Binds the position of the layer to the given ratios, baking the layer
+     * again whenever they change.
+     *
+     * @param wratio the width ratio to bind
+     * @param hratio the height ratio to bind
+     */
+    @Override
+    public void bindProperties(final ObservableDoubleValue wratio, final ObservableDoubleValue hratio) {
+        super.bindProperties(wratio, hratio);
+        this.widthRatio = wratio;
+        this.heightRatio = hratio;
+        wratio.addListener(obs -> this.refresh());
+        hratio.addListener(obs -> this.refresh());
+        this.refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final int id) {
+        return this.baker.contains(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final int id) {
+        final boolean removed = this.baker.remove(id);
+        if (removed) {
+            this.refresh();
+        }
+        return removed;
+    }
+
+    private void refresh() {
+        if (this.widthRatio != null && this.heightRatio != null) {
+            this.imgComponent.setImage(this.baker.image(this.widthRatio.get(), this.heightRatio.get()).orElse(null));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.paradoxplatformer.view.javafx.fxcomponents;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -11,6 +12,8 @@ import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
 import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
 
 import javafx.scene.Node;
@@ -63,6 +66,18 @@ public class FXViewMappingFactoryImpl implements ViewMappingFactory<Node> {
      * @throws IllegalStateException if the resource specified by {@link GameDTO} is
      *                               invalid
      */
+    /**
+     * Maps the shapes which never move to a single image node.
+     *
+     * @param bounds the dimension of the level
+     * @param shapes the shapes which never move
+     * @return the static layer node
+     */
+    @Override
+    public StaticLayer<Node> staticLayer(final Dimension bounds, final List<StaticShape> shapes) {
+        return new FXStaticLayerAdapter(bounds, shapes);
+    }
+
     private GraphicAdapter<Node> reckonImageFromSprite(final GameDTO g) {
         try {
             return Objects.nonNull(g.getSpriteMeta()) ? new FXSpriteAdapter(
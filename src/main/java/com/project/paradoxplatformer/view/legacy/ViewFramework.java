@@ -5,7 +5,10 @@ import java.util.function.Supplier;
 
 import com.project.paradoxplatformer.view.graphics.GraphicContainer;
 import com.project.paradoxplatformer.view.javafx.JavaFxApp;
+import com.project.paradoxplatformer.view.javafx.RenderBackend;
 import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
+import com.project.paradoxplatformer.view.javafx.canvas.FXCanvasContainerAdapter;
+import com.project.paradoxplatformer.view.javafx.canvas.FXCanvasMappingFactoryImpl;
 import com.project.paradoxplatformer.view.javafx.fxcomponents.FXContainerAdapter;
 import com.project.paradoxplatformer.view.javafx.fxcomponents.FXViewMappingFactoryImpl;
 import com.project.paradoxplatformer.view.manager.ViewManager;
@@ -71,6 +74,59 @@ public final class ViewFramework {
         };
     }
 
+    /**
+     * Creates a factory for adapting JavaFX views drawing the graphics of a level
+     * onto a single canvas.
+     * <p>
+     * Pages and the application manager are the ones of
+     * {@link #javaFxFactory()}, while components are drawn by a canvas
+     * container rather than being added as nodes.
+     * </p>
+     * 
+     * @return a {@link ViewAdapterFactory} for JavaFX drawing onto a canvas
+     */
+    public static ViewAdapterFactory<Node, Pane, KeyCode> javaFxCanvasFactory() {
+        final ViewAdapterFactory<Node, Pane, KeyCode> nodes = javaFxFactory();
+        return new ViewAdapterFactory<>() {
+
+            @Override
+            public Pane blankPage() {
+                return nodes.blankPage();
+            }
+
+            @Override
+            public Supplier<ViewMappingFactory<Node>> getComponentsFactory() {
+                return FXCanvasMappingFactoryImpl::new;
+            }
+
+            @Override
+            public Function<Pane, GraphicContainer<Node, KeyCode>> containerMapper() {
+                return FXCanvasContainerAdapter::new;
+            }
+
+            @Override
+            public Supplier<ViewManager> mainAppManager() {
+                return nodes.mainAppManager();
+            }
+
+            @Override
+            public Pane loadingPage() {
+                return nodes.loadingPage();
+            }
+
+        };
+    }
+
+    /**
+     * Creates a factory for adapting JavaFX views with the given backend.
+     * 
+     * @param backend how the graphics of a level are presented
+     * @return the {@link ViewAdapterFactory} for JavaFX using the backend
+     */
+    public static ViewAdapterFactory<Node, Pane, KeyCode> javaFxFactory(final RenderBackend backend) {
+        return backend == RenderBackend.CANVAS ? javaFxCanvasFactory() : javaFxFactory();
+    }
+
     /**
      * Placeholder for a factory that adapts console-based views.
      * <p>
@@ -5,6 +5,8 @@ import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * ViewNavigator handles the navigation between different views in the
  * application.
@@ -12,8 +14,22 @@ import com.project.paradoxplatformer.controller.games.Level;
  */
 public final class ViewNavigator {
 
+    private final EventManager<GameEventType, PageIdentifier> events;
+
     // Private constructor to prevent direct instantiation
     private ViewNavigator() {
+        this(EventManager.getInstance());
+    }
+
+    /**
+     * Creates a navigator publishing its view changes on the given event bus,
+     * rather than on the application-wide one.
+     *
+     * @param events The EventManager to publish view changes on.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The navigator publishes on the very bus it is given.")
+    public ViewNavigator(final EventManager<GameEventType, PageIdentifier> events) {
+        this.events = events;
     }
 
     /**
@@ -32,7 +48,7 @@ public final class ViewNavigator {
      * @param param The level parameter to pass to the view.
      */
     public void openView(final PageIdentifier id, final Level param) {
-        EventManager.getInstance().publish(GameEventType.SWITCH_VIEW, id, param);
+        this.events.publish(GameEventType.SWITCH_VIEW, id, param);
     }
 
     /**
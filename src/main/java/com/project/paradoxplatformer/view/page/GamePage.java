@@ -9,6 +9,7 @@ import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
 import com.project.paradoxplatformer.controller.games.GameControllerImpl;
 import com.project.paradoxplatformer.controller.games.Level;
 import com.project.paradoxplatformer.controller.games.GameController;
+import com.project.paradoxplatformer.controller.games.SimulationMode;
 import com.project.paradoxplatformer.controller.input.InputController;
 import com.project.paradoxplatformer.model.GameModel;
 import com.project.paradoxplatformer.model.GameModelImpl;
@@ -20,6 +21,7 @@ import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.view.GameViewImpl;
 import com.project.paradoxplatformer.view.GameView;
 import com.project.paradoxplatformer.view.graphics.GraphicContainer;
+import com.project.paradoxplatformer.view.javafx.RenderBackend;
 import com.project.paradoxplatformer.view.legacy.ViewFramework;
 import com.project.paradoxplatformer.view.settings.GameSettings;
 import com.project.paradoxplatformer.view.settings.SimpleGameSettings;
@@ -73,17 +75,19 @@ public final class GamePage extends AbstractThreadedPage {
                 final LevelDTO level = this.getLevel(param);
 
                 this.setgameCointainerBackground(level.getBackgroundFile());
-                final var mappingFactory = ViewFramework.javaFxFactory()
+                final var framework = ViewFramework.javaFxFactory(RenderBackend.fromSystemProperty());
+                final var mappingFactory = framework
                                 .getComponentsFactory()
                                 .get();
 
                 final GameModel gameModel = new GameModelImpl(level);
-                final GraphicContainer<Node, KeyCode> gameGraphContainer = ViewFramework.javaFxFactory()
+                final GraphicContainer<Node, KeyCode> gameGraphContainer = framework
                                 .containerMapper()
                                 .apply(this.gamePane);
                 final GameView<Node> gameView = new GameViewImpl<>(level, gameGraphContainer, mappingFactory);
 
-                final GameController<Node> gameController = new GameControllerImpl<>(gameModel, gameView, param);
+                final GameController<Node> gameController = new GameControllerImpl<>(gameModel, gameView, param,
+                                SimulationMode.fromSystemProperty());
                 final InputController<ControllableObject> inputController = new InputController<>(
                                 new InputMovesFactoryImpl().advancedModel());
 
@@ -106,7 +110,7 @@ public final class GamePage extends AbstractThreadedPage {
 
         private void setgameCointainerBackground(final String backgroundFile) throws InvalidResourceException {
                 gamePane.setBackground(new Background(new BackgroundImage(
-                                ImageLoader.createFXImage(backgroundFile),
+                                ImageLoader.createFXImage(backgroundFile, ImageLoader.NATURAL_SIZE, true),
                                 BackgroundRepeat.NO_REPEAT,
                                 BackgroundRepeat.NO_REPEAT,
                                 BackgroundPosition.CENTER,
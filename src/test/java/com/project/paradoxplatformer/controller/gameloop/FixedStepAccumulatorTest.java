@@ -0,0 +1,71 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link FixedStepAccumulator} class, verifying tick counting,
+ * the catch-up cap and the interpolation factor.
+ */
+class FixedStepAccumulatorTest {
+
+    private static final int TICK_RATE = 50;
+    private static final int MAX_STEPS = 3;
+    private static final long STEP_MILLIS = 20;
+    private static final double DELTA = 1e-9;
+
+    private static long millis(final long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    /**
+     * Tests that frames shorter than a tick are accumulated until a tick is due.
+     */
+    @Test
+    void testAccumulatesPartialFrames() {
+        final FixedStepAccumulator acc = new FixedStepAccumulator(TICK_RATE, MAX_STEPS);
+        assertEquals(STEP_MILLIS, acc.stepMillis());
+        assertEquals(0, acc.advance(millis(15)));
+        assertEquals(0.75, acc.alpha(), DELTA);
+        assertEquals(1, acc.advance(millis(15)));
+        assertEquals(0.5, acc.alpha(), DELTA);
+    }
+
+    /**
+     * Tests that a long frame runs at most the configured ticks and drops the
+     * backlog.
+     */
+    @Test
+    void testCatchUpIsCapped() {
+        final FixedStepAccumulator acc = new FixedStepAccumulator(TICK_RATE, MAX_STEPS);
+        assertEquals(MAX_STEPS, acc.advance(millis(1_010)));
+        assertTrue(acc.alpha() < 1);
+        assertEquals(0.5, acc.alpha(), DELTA);
+        assertEquals(0, acc.advance(0));
+    }
+
+    /**
+     * Tests that reset discards the accumulated time.
+     */
+    @Test
+    void testReset() {
+        final FixedStepAccumulator acc = new FixedStepAccumulator(TICK_RATE, MAX_STEPS);
+        acc.advance(millis(10));
+        acc.reset();
+        assertEquals(0, acc.alpha(), DELTA);
+    }
+
+    /**
+     * Tests that invalid settings are rejected.
+     */
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepAccumulator(0, MAX_STEPS));
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepAccumulator(TICK_RATE, 0));
+    }
+}
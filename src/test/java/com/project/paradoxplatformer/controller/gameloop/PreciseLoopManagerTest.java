@@ -0,0 +1,78 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link PreciseLoopManager} class, verifying ticking, stopping,
+ * joining and failure handling.
+ */
+class PreciseLoopManagerTest {
+
+    private static final int TICK_RATE = 200;
+    private static final int TICKS = 10;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Tests that the loop ticks with a fixed delta until stopped, notifying
+     * observers and terminating its thread.
+     */
+    @Test
+    void testTicksUntilStopped() throws InterruptedException {
+        final CountDownLatch ticked = new CountDownLatch(TICKS);
+        final AtomicReference<Long> delta = new AtomicReference<>();
+        final AtomicBoolean notified = new AtomicBoolean();
+        final HeadlessLoopManager manager = new PreciseLoopManager(dt -> {
+            delta.set(dt);
+            ticked.countDown();
+        }, TICK_RATE, LoopThreads.platform("test-loop"), e -> { });
+        manager.addObserver(() -> notified.set(true));
+
+        manager.start();
+        assertTrue(ticked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        manager.stop();
+
+        assertTrue(manager.join(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(manager.isRunning());
+        assertTrue(notified.get());
+        assertEquals(TimeUnit.SECONDS.toMillis(1) / TICK_RATE, delta.get());
+        assertTrue(manager.statistics().ticks() >= TICKS);
+    }
+
+    /**
+     * Tests that a failing tick stops the loop and reaches the failure handler.
+     */
+    @Test
+    void testFailureStopsLoop() throws InterruptedException {
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final HeadlessLoopManager manager = new PreciseLoopManager(dt -> {
+            throw new IllegalStateException("boom");
+        }, TICK_RATE, LoopThreads.virtual("test-loop"), failure::set);
+
+        manager.start();
+        assertTrue(manager.join(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(manager.isRunning());
+        assertTrue(failure.get() instanceof IllegalStateException);
+    }
+
+    /**
+     * Tests that a loop cannot be started twice.
+     */
+    @Test
+    void testStartOnce() {
+        final HeadlessLoopManager manager = new PreciseLoopManager(dt -> { }, TICK_RATE,
+                LoopThreads.platform("test-loop"), e -> { });
+        manager.start();
+        assertThrows(IllegalStateException.class, manager::start);
+        manager.stop();
+    }
+}
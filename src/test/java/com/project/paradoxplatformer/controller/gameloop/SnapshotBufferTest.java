@@ -0,0 +1,38 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SnapshotBuffer} class, verifying that the consumer only
+ * sees the latest published frame, once.
+ */
+class SnapshotBufferTest {
+
+    /**
+     * Tests that a newer frame supersedes one not yet consumed.
+     */
+    @Test
+    void testLatestFrameWins() {
+        final SnapshotBuffer<String> buffer = new SnapshotBuffer<>();
+        buffer.publish("first");
+        buffer.publish("second");
+        assertEquals(Optional.of("second"), buffer.takeLatest());
+    }
+
+    /**
+     * Tests that a frame is handed over only once.
+     */
+    @Test
+    void testFrameTakenOnce() {
+        final SnapshotBuffer<String> buffer = new SnapshotBuffer<>();
+        assertTrue(buffer.takeLatest().isEmpty());
+        buffer.publish("frame");
+        buffer.takeLatest();
+        assertTrue(buffer.takeLatest().isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.paradoxplatformer.controller.games;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.endgame.condition.TimeLimitDeathCondition;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.headless.HeadlessGameView;
+import com.project.paradoxplatformer.view.headless.HeadlessGraphic;
+import com.project.paradoxplatformer.view.headless.HeadlessKeyInputer;
+
+/**
+ * Tests for the {@link SimulationMode#LOCKSTEP lockstep} mode, checking that
+ * runs fed the same input play out identically.
+ */
+class LockstepTest {
+
+    private static final int TICKS = 120;
+    private static final int PRESS_TICK = 10;
+    private static final int JUMP_TICK = 50;
+    private static final long SEED = 42;
+
+    /**
+     * Plays the first level headless in lockstep, walking right from a given
+     * tick and jumping at another.
+     *
+     * @param pressTick the tick the right key is pressed at
+     * @return the fingerprints of the world at every tick
+     */
+    private static long[] play(final int pressTick) throws IOException, InvalidResourceException {
+        final LevelDTO level = new DeserializerFactoryImpl()
+                .levelDeserialzer()
+                .deserialize(Level.LEVEL_ONE.getResourceFile());
+        final HeadlessKeyInputer inputer = new HeadlessKeyInputer();
+        final AtomicReference<GameControllerImpl<HeadlessGraphic>> controller = new AtomicReference<>();
+        GameSession.create(SEED).run(() -> {
+            controller.set(new GameControllerImpl<>(new GameModelImpl(level), new HeadlessGameView(level),
+                    Level.LEVEL_ONE, SimulationMode.LOCKSTEP));
+            controller.get().loadModel();
+            controller.get().syncView();
+            controller.get().startGame(new InputController<ControllableObject>(
+                    new InputMovesFactoryImpl().advancedModel()), inputer, level.getType());
+        });
+        final long[] hashes = new long[TICKS];
+        for (int i = 0; i < TICKS; i++) {
+            if (i == pressTick) {
+                inputer.press(InputType.RIGHT);
+            } else if (i == JUMP_TICK) {
+                inputer.press(InputType.UP);
+            }
+            controller.get().tick(GameLoopFactoryImpl.STEP_MILLIS);
+            hashes[i] = controller.get().stateHash();
+        }
+        return hashes;
+    }
+
+    /**
+     * Tests that the same input yields the same fingerprints, and that
+     * different input makes them diverge from the tick it differs at.
+     */
+    @Test
+    void testIdenticalRuns() throws IOException, InvalidResourceException {
+        final long[] first = play(PRESS_TICK);
+        assertArrayEquals(first, play(PRESS_TICK));
+
+        final long[] later = play(PRESS_TICK + 1);
+        assertArrayEquals(Arrays.copyOf(first, PRESS_TICK), Arrays.copyOf(later, PRESS_TICK));
+        assertFalse(Arrays.equals(first, later));
+    }
+
+    /**
+     * Tests that lockstep ticks only accept the fixed step.
+     */
+    @Test
+    void testFixedStep() {
+        final LevelDTO level = new LevelDTO(1, 1, new GameDTO[0]);
+        final GameControllerImpl<HeadlessGraphic> controller = new GameControllerImpl<>(
+                new GameModelImpl(level), new HeadlessGameView(level), Level.EMPTY_LEVEL, SimulationMode.LOCKSTEP);
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.tick(GameLoopFactoryImpl.STEP_MILLIS + 1));
+    }
+
+    /**
+     * Tests that sessions with the same seed draw the same coordinates, and
+     * that time limits follow the clock of the session.
+     */
+    @Test
+    void testSessionRandomAndClock() {
+        final AtomicReference<Coord2D> drawn = new AtomicReference<>();
+        GameSession.create(SEED).run(() -> drawn.set(Coord2D.randomX(0)));
+        GameSession.create(SEED).run(() -> assertEquals(drawn.get(), Coord2D.randomX(0)));
+
+        final GameSession session = GameSession.create(SEED);
+        final AtomicReference<TimeLimitDeathCondition> limit = new AtomicReference<>();
+        session.run(() -> limit.set(new TimeLimitDeathCondition(1)));
+        session.advance(1000);
+        assertFalse(limit.get().death());
+        session.advance(GameLoopFactoryImpl.STEP_MILLIS);
+        assertTrue(limit.get().death());
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.paradoxplatformer.controller.games;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.GameModel;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.headless.HeadlessGameView;
+import com.project.paradoxplatformer.view.headless.HeadlessGraphic;
+import com.project.paradoxplatformer.view.headless.HeadlessKeyInputer;
+
+/**
+ * Tests for the presentation of the game state by
+ * {@link GameControllerImpl#render(double)}.
+ */
+class RenderTest {
+
+    private static final int CATCH_UP_TICKS = 3;
+    private static final double CEILING_WIDTH = 640;
+    private static final double SHIFT = 10;
+
+    /**
+     * Tests that an object which moves and stops within the ticks run between
+     * two renderings is presented where it stopped.
+     */
+    @Test
+    void testSettledAcrossTicks() throws IOException, InvalidResourceException {
+        final LevelDTO level = new DeserializerFactoryImpl()
+                .levelDeserialzer()
+                .deserialize(Level.LEVEL_ONE.getResourceFile());
+        final GameModel model = new GameModelImpl(level);
+        final HeadlessGameView view = new HeadlessGameView(level);
+        final AtomicReference<GameControllerImpl<HeadlessGraphic>> controller = new AtomicReference<>();
+        final GameSession session = GameSession.create(0);
+        session.run(() -> {
+            controller.set(new GameControllerImpl<>(model, view, Level.LEVEL_ONE, SimulationMode.HOSTED));
+            controller.get().loadModel();
+            controller.get().syncView();
+            controller.get().startGame(new InputController<ControllableObject>(
+                    new InputMovesFactoryImpl().advancedModel()), new HeadlessKeyInputer(), level.getType());
+        });
+        final MutableObject ceiling = model.getWorld().gameObjects().stream()
+                .filter(m -> m.getDimension().width() == CEILING_WIDTH)
+                .findFirst()
+                .orElseThrow();
+        controller.get().render(1);
+        final HeadlessGraphic graphic = view.graphic(ceiling.getID()).orElseThrow();
+        final Coord2D before = graphic.relativePosition();
+
+        ceiling.setPosition(new Coord2D(ceiling.getPosition().x() + SHIFT, ceiling.getPosition().y()));
+        // a frame catching up on several ticks: the ceiling moves in the first and settles in the second
+        for (int i = 0; i < CATCH_UP_TICKS; i++) {
+            controller.get().tick(GameLoopFactoryImpl.STEP_MILLIS);
+        }
+        controller.get().render(1);
+
+        assertEquals(before.x() + SHIFT, graphic.relativePosition().x());
+        assertEquals(before.y(), graphic.relativePosition().y());
+    }
+}
@@ -11,9 +11,14 @@ import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -69,6 +74,43 @@ class InputControllerTest {
         assertTrue(Objects.equal(prevPos.x(), stoppingPos.x()), "Player should stop horizontal movement.");
     }
 
+    /**
+     * Tests that held keys are tracked as a mask, read live through the
+     * read-only view, and that keys without an input type still count as
+     * held, keeping the idle command from running.
+     */
+    @Test
+    void testKeyMask() {
+        final KeyAssetterImpl<String> keys = new KeyAssetterImpl<>(InputType::getString);
+        final KeyAssetter<String> view = keys.readOnlyView();
+        assertTrue(keys.add("D"));
+        assertFalse(keys.add("D"));
+        assertEquals(InputType.D.bit(), view.getMask());
+        assertTrue(keys.add("SHIFT"));
+        assertEquals(InputType.D.bit() | InputType.UNTRANSLATED_BIT, view.getMask());
+        assertEquals(Set.of(Optional.of(InputType.D), Optional.empty()), view.getUnmodifiablePool());
+        assertThrows(UnsupportedOperationException.class, () -> view.add("W"));
+
+        final var inputController = new InputController<>(new InputMovesFactoryImpl().wasdModel());
+        final PlayerModel player = new PlayerModel(0, new Coord2D(0, 0),
+                new Dimension(PLAYER_DIMENSION, PLAYER_DIMENSION));
+        final AtomicInteger idles = new AtomicInteger();
+        assertTrue(keys.remove("D"));
+        inputController.checkPool(view, player, p -> idles.incrementAndGet());
+        assertEquals(0, idles.get());
+        assertTrue(keys.remove("SHIFT"));
+        assertEquals(0L, keys.getMask());
+        inputController.checkPool(view, player, p -> idles.incrementAndGet());
+        assertEquals(1, idles.get());
+
+        // a mask read beforehand is acted upon whatever the keys held meanwhile
+        inputController.checkPool(InputType.UNTRANSLATED_BIT, player, p -> idles.incrementAndGet());
+        assertEquals(1, idles.get());
+        assertTrue(keys.add("D"));
+        inputController.checkPool(0L, player, p -> idles.incrementAndGet());
+        assertEquals(2, idles.get());
+    }
+
     /**
      * Helper method to register the player's current position.
      * 
@@ -0,0 +1,116 @@
+package com.project.paradoxplatformer.controller.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.input.KeyAssetterImpl;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+
+/**
+ * Tests for the {@link InputRecording} and {@link InputRecorder} classes,
+ * verifying the encoding of the recorded keys.
+ */
+class InputRecordingTest {
+
+    private static final long SEED = 0x1234_5678_9ABC_DEF0L;
+    private static final int IDLE_TICKS = 200;
+    private static final int RUN_TICKS = 1000;
+    private static final int JUMP_TICKS = 3;
+    private static final int MAX_BYTES = 64;
+    private static final byte[] MAX_RUNS = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+    /**
+     * Records idle ticks, then running right, then running right while
+     * jumping, then idle again.
+     *
+     * @return the recorder
+     */
+    private static InputRecorder record() {
+        final InputRecorder recorder = new InputRecorder(Level.LEVEL_TWO, SEED);
+        final KeyAssetter<InputType> keys = new KeyAssetterImpl<>(Optional::of);
+        for (int i = 0; i < IDLE_TICKS; i++) {
+            recorder.capture(keys.getMask());
+        }
+        keys.add(InputType.RIGHT);
+        for (int i = 0; i < RUN_TICKS; i++) {
+            recorder.capture(keys.getMask());
+        }
+        keys.add(InputType.UP);
+        for (int i = 0; i < JUMP_TICKS; i++) {
+            recorder.capture(keys.getMask());
+        }
+        keys.remove(InputType.UP);
+        keys.remove(InputType.RIGHT);
+        recorder.capture(keys.getMask());
+        return recorder;
+    }
+
+    /**
+     * Tests that masks are looked up at the right ticks and that runs are
+     * merged.
+     */
+    @Test
+    void testRuns() {
+        final InputRecording recording = record().recording();
+        final long right = InputType.RIGHT.bit();
+        final long jump = right | InputType.UP.bit();
+        assertEquals(IDLE_TICKS + RUN_TICKS + JUMP_TICKS + 1, recording.ticks());
+        assertEquals(4, recording.runs());
+        assertEquals(0L, recording.mask(0));
+        assertEquals(0L, recording.mask(IDLE_TICKS - 1));
+        assertEquals(right, recording.mask(IDLE_TICKS));
+        assertEquals(jump, recording.mask(IDLE_TICKS + RUN_TICKS));
+        assertEquals(0L, recording.mask(recording.ticks() - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> recording.mask(recording.ticks()));
+    }
+
+    /**
+     * Tests that a recording reads back as written, in a few bytes.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        final InputRecording recording = record().recording();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.writeTo(out);
+        assertTrue(out.size() < MAX_BYTES);
+
+        final InputRecording read = InputRecording.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(Level.LEVEL_TWO, read.level());
+        assertEquals(SEED, read.seed());
+        assertEquals(recording.buildHash(), read.buildHash());
+        assertTrue(read.isCurrentBuild());
+        assertEquals(recording.ticks(), read.ticks());
+        for (int i = 0; i < recording.ticks(); i++) {
+            assertEquals(recording.mask(i), read.mask(i));
+        }
+    }
+
+    /**
+     * Tests that streams which do not hold a recording are rejected.
+     */
+    @Test
+    void testInvalidStream() throws IOException {
+        assertThrows(IOException.class,
+                () -> InputRecording.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+
+        // an empty recording ends with its number of runs, here replaced by the largest one
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new InputRecorder(Level.LEVEL_TWO, SEED).recording().writeTo(out);
+        final ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+        truncated.write(Arrays.copyOf(out.toByteArray(), out.size() - 1));
+        truncated.write(MAX_RUNS);
+        assertThrows(IOException.class,
+                () -> InputRecording.readFrom(new ByteArrayInputStream(truncated.toByteArray())));
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.paradoxplatformer.controller.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
+import com.project.paradoxplatformer.controller.games.GameControllerImpl;
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.games.SimulationMode;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.controller.session.SessionHandle;
+import com.project.paradoxplatformer.controller.session.SessionHost;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.view.headless.HeadlessGameView;
+import com.project.paradoxplatformer.view.headless.HeadlessGraphic;
+import com.project.paradoxplatformer.view.headless.HeadlessKeyInputer;
+
+/**
+ * Tests for the {@link Replay} class, checking that a recorded game plays out
+ * again identically.
+ */
+class ReplayTest {
+
+    private static final int TICKS = 100;
+    private static final int PRESS_TICK = 5;
+    private static final int JUMP_TICK = 40;
+    private static final int RELEASE_TICK = 70;
+    private static final long SEED = 7;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Tests that replaying a recorded game gives the same fingerprints, both
+     * on the calling thread and on a host.
+     */
+    @Test
+    void testReplay() throws IOException, InvalidResourceException, InterruptedException, ExecutionException,
+            TimeoutException {
+        final LevelDTO level = new DeserializerFactoryImpl()
+                .levelDeserialzer()
+                .deserialize(Level.LEVEL_ONE.getResourceFile());
+        final HeadlessKeyInputer inputer = new HeadlessKeyInputer();
+        final InputRecorder recorder = new InputRecorder(Level.LEVEL_ONE, SEED);
+        final AtomicReference<GameControllerImpl<HeadlessGraphic>> controller = new AtomicReference<>();
+        GameSession.create(SEED).run(() -> {
+            controller.set(new GameControllerImpl<>(new GameModelImpl(level), new HeadlessGameView(level),
+                    Level.LEVEL_ONE, SimulationMode.LOCKSTEP));
+            controller.get().recordInput(recorder);
+            controller.get().loadModel();
+            controller.get().syncView();
+            controller.get().startGame(new InputController<ControllableObject>(
+                    new InputMovesFactoryImpl().advancedModel()), inputer, level.getType());
+        });
+        final long[] played = new long[TICKS];
+        for (int i = 0; i < TICKS; i++) {
+            if (i == PRESS_TICK) {
+                inputer.press(InputType.RIGHT);
+            } else if (i == JUMP_TICK) {
+                inputer.press(InputType.UP);
+            } else if (i == RELEASE_TICK) {
+                inputer.release(InputType.RIGHT);
+                inputer.release(InputType.UP);
+            }
+            controller.get().tick(GameLoopFactoryImpl.STEP_MILLIS);
+            played[i] = controller.get().stateHash();
+        }
+
+        final Replay replay = new Replay(recorder.recording());
+        assertArrayEquals(played, replay.play());
+
+        try (SessionHost host = SessionHost.workerPool(1)) {
+            final SessionHandle handle = replay.start(host, SessionHost.Pacing.UNLIMITED);
+            assertEquals(TICKS, handle.completion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.paradoxplatformer.controller.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.gameloop.GameLoop;
+import com.project.paradoxplatformer.model.endgame.DeathCondition;
+import com.project.paradoxplatformer.model.endgame.condition.DeathObstacleCollisionCondition;
+
+/**
+ * Tests for the {@link SessionHost} class, verifying that hosted sessions run
+ * to their end isolated from each other.
+ */
+class SessionHostTest {
+
+    private static final int SESSIONS = 8;
+    private static final int WORKERS = 2;
+    private static final long STEP = 25;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Sets up a session whose player dies at the given tick, ending it through
+     * its own event bus.
+     *
+     * @param session   the session being set up
+     * @param deathTick the tick the player dies at
+     * @param stops     counts the stop events received by the session
+     * @return the loop of the session
+     */
+    private static GameLoop dyingAt(final GameSession session, final int deathTick, final AtomicInteger stops) {
+        assertSame(session, GameSession.current());
+        final DeathCondition death = new DeathObstacleCollisionCondition();
+        session.events().subscribe(GameEventType.STOP_VIEW, (id, level) -> {
+            stops.incrementAndGet();
+            GameSession.current().finish();
+        });
+        final AtomicInteger ticks = new AtomicInteger();
+        return dt -> {
+            assertSame(session, GameSession.current());
+            if (ticks.incrementAndGet() == deathTick) {
+                DeathObstacleCollisionCondition.setDeath(true);
+            }
+            if (death.death()) {
+                GameSession.current().events().publish(GameEventType.STOP_VIEW, null, null);
+            }
+        };
+    }
+
+    /**
+     * Runs sessions whose players die at different ticks, checking that each
+     * one ends at its own tick, having received only its own events.
+     *
+     * @param host the host running the sessions
+     */
+    private static void runIsolated(final SessionHost host)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final List<SessionHandle> handles = new ArrayList<>();
+        final List<AtomicInteger> stops = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            final int deathTick = i + 1;
+            final AtomicInteger stop = new AtomicInteger();
+            stops.add(stop);
+            handles.add(host.start(session -> dyingAt(session, deathTick, stop), STEP, SessionHost.Pacing.UNLIMITED));
+        }
+        for (int i = 0; i < SESSIONS; i++) {
+            final SessionHandle handle = handles.get(i);
+            assertEquals(i + 1, handle.completion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(1, stops.get(i).get());
+            assertTrue(handle.session().isPlayerDead());
+            assertEquals(i + 1, handle.ticks());
+        }
+        assertFalse(GameSession.application().isFinished());
+        assertFalse(GameSession.application().isPlayerDead());
+        assertEquals(0, host.runningCount());
+    }
+
+    /**
+     * Tests that sessions ticked on a pool of workers each end on their own.
+     */
+    @Test
+    void testWorkerPool() throws InterruptedException, ExecutionException, TimeoutException {
+        try (SessionHost host = SessionHost.workerPool(WORKERS)) {
+            runIsolated(host);
+        }
+    }
+
+    /**
+     * Tests that sessions running on threads of their own each end on their
+     * own.
+     */
+    @Test
+    void testThreadPerSession() throws InterruptedException, ExecutionException, TimeoutException {
+        try (SessionHost host = SessionHost.threadPerSession()) {
+            runIsolated(host);
+        }
+    }
+
+    /**
+     * Tests that closing the host cancels sessions paced on the wall clock,
+     * and that failures complete sessions exceptionally.
+     */
+    @Test
+    void testCancelAndFailure() throws InterruptedException, ExecutionException, TimeoutException {
+        final SessionHost host = SessionHost.workerPool(WORKERS);
+        final SessionHandle endless = host.start(session -> dt -> { }, STEP, SessionHost.Pacing.REAL_TIME);
+        final SessionHandle failing = host.start(session -> dt -> {
+            throw new IllegalStateException("boom");
+        }, STEP, SessionHost.Pacing.UNLIMITED);
+
+        final ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> failing.completion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+
+        host.close();
+        endless.completion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThrows(IllegalStateException.class,
+                () -> host.start(session -> dt -> { }, STEP, SessionHost.Pacing.UNLIMITED));
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.paradoxplatformer.model.effect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.effect.managers.EffectCommandBuffer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the EffectCommandBuffer class, verifying that commands
+ * submitted while recording are deferred and drained in order.
+ */
+class EffectCommandBufferTest {
+
+    private EffectCommandBuffer buffer;
+    private List<Integer> performed;
+
+    /**
+     * Creates an empty buffer and log of performed commands.
+     */
+    @BeforeEach
+    void setUp() {
+        buffer = new EffectCommandBuffer();
+        performed = new ArrayList<>();
+    }
+
+    /**
+     * Tests that commands submitted while recording wait for the drain, and run
+     * in submission order.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testDeferredUntilDrain() {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        buffer.record(() -> {
+            futures.add(EffectCommandBuffer.submit(() -> performed.add(1)));
+            futures.add(EffectCommandBuffer.submit(() -> performed.add(2)));
+        });
+
+        assertTrue(performed.isEmpty());
+        assertEquals(2, buffer.size());
+        assertFalse(futures.get(0).isDone());
+
+        assertEquals(2, buffer.drain());
+        assertEquals(List.of(1, 2), performed);
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone));
+    }
+
+    /**
+     * Tests that commands submitted outside of a recorded phase run immediately.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testImmediateOutsideRecording() {
+        final CompletableFuture<Void> future = EffectCommandBuffer.submit(() -> performed.add(1));
+        assertTrue(future.isDone());
+        assertEquals(List.of(1), performed);
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * Tests that work chained on a deferred command runs within the drain.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testChainedCommandsRunDuringDrain() {
+        buffer.record(() -> EffectCommandBuffer.submit(() -> performed.add(1))
+                .thenCompose(v -> EffectCommandBuffer.submit(() -> performed.add(2))));
+
+        assertEquals(1, buffer.drain());
+        assertEquals(List.of(1, 2), performed);
+    }
+
+    /**
+     * Tests that a failing command does not stop the drain.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testFailureCompletesExceptionally() {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        buffer.record(() -> {
+            futures.add(EffectCommandBuffer.submit(() -> {
+                throw new IllegalStateException("Failing command");
+            }));
+            futures.add(EffectCommandBuffer.submit(() -> performed.add(1)));
+        });
+
+        buffer.drain();
+        assertTrue(futures.get(0).isCompletedExceptionally());
+        assertEquals(List.of(1), performed);
+    }
+}
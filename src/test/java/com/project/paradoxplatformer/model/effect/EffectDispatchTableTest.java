@@ -0,0 +1,105 @@
+package com.project.paradoxplatformer.model.effect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.effect.impl.EffectHandlerImpl;
+import com.project.paradoxplatformer.model.effect.impl.NoOpEffect;
+import com.project.paradoxplatformer.model.effect.impl.SpringEffect;
+import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
+import com.project.paradoxplatformer.model.effect.managers.EffectDispatchTable;
+import com.project.paradoxplatformer.model.effect.managers.ObjectEffectsManager;
+import com.project.paradoxplatformer.model.effect.managers.TypeEffectsManager;
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the EffectDispatchTable class, verifying that compiled lookups
+ * match the registered effects.
+ */
+class EffectDispatchTableTest {
+
+    private static final int MANY = 100;
+
+    private TypeEffectsManager typeEffects;
+    private ObjectEffectsManager objectEffects;
+
+    /**
+     * Creates empty effect managers.
+     */
+    @BeforeEach
+    void setUp() {
+        typeEffects = new TypeEffectsManager();
+        objectEffects = new ObjectEffectsManager();
+    }
+
+    /**
+     * Tests that type and object chains are found, and that missing ones are the
+     * shared empty chain.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testLookups() {
+        final Button button = new Button(0, Coord2D.origin(), Dimension.dot());
+        typeEffects.addEffects(CollisionType.SPRINGS, SpringEffect::new);
+        objectEffects.addEffects(CollisionType.BUTTON, button, NoOpEffect::new);
+
+        final EffectDispatchTable table = EffectDispatchTable.compile(typeEffects, objectEffects);
+
+        assertSame(typeEffects.getEffects(CollisionType.SPRINGS), table.getTypeEffects(CollisionType.SPRINGS));
+        assertSame(objectEffects.getEffects(CollisionType.BUTTON, button),
+                table.getObjectEffects(CollisionType.BUTTON, button));
+        assertSame(ChainOfEffects.empty(), table.getTypeEffects(CollisionType.WALLS));
+        assertSame(ChainOfEffects.empty(), table.getObjectEffects(CollisionType.WALLS, button));
+    }
+
+    /**
+     * Tests that many objects, some sharing ids, keep their own chains.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testObjectsSharingIds() {
+        final List<Button> buttons = new ArrayList<>();
+        for (int i = 0; i < MANY; i++) {
+            final Button button = new Button(i / 2, Coord2D.origin(), Dimension.dot());
+            buttons.add(button);
+            objectEffects.addEffects(CollisionType.BUTTON, button, NoOpEffect::new);
+        }
+
+        final EffectDispatchTable table = EffectDispatchTable.compile(typeEffects, objectEffects);
+
+        buttons.forEach(b -> assertSame(objectEffects.getEffects(CollisionType.BUTTON, b),
+                table.getObjectEffects(CollisionType.BUTTON, b)));
+        assertSame(ChainOfEffects.empty(),
+                table.getObjectEffects(CollisionType.BUTTON, new Button(0, Coord2D.origin(), Dimension.dot())));
+    }
+
+    /**
+     * Tests that registering effects on a compiled handler compiles it again.
+     */
+    @Test
+    void testRegistrationAfterCompile() {
+        final EffectHandler handler = new EffectHandlerImpl();
+        final Button button = new Button(0, Coord2D.origin(), Dimension.dot());
+        handler.compile();
+        assertTrue(handler.getAllEffects(button).getEffects().isEmpty());
+
+        handler.addCollisionEffectsForObject(CollisionType.BUTTON, button, NoOpEffect::new);
+        assertEquals(1, handler.getAllEffects(button).getEffects().size());
+
+        handler.reset(button, CollisionType.BUTTON);
+        assertTrue(handler.getAllEffects(button).getEffects().isEmpty());
+    }
+}
@@ -73,6 +73,7 @@ class SimpleInventoryTest {
                         player.moveRight();
                         player.updateState(dt);
                         collisionManager.handleCollisions(collidables, player);
+                        collisionManager.flushEffects();
                 };
 
                 // Simulates a gameloop manager
@@ -8,6 +8,7 @@ import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.Optional;
@@ -21,6 +22,7 @@ import java.util.Optional;
 class TriggerTest {
 
     private static final int TEST_ID = 123;
+    private static final long DT = 16;
     private Button trigger;
 
     /**
@@ -80,4 +82,18 @@ class TriggerTest {
         assertEquals(Optional.empty(), trigger.getTriggerableID(),
                 "Triggerable ID should be empty when not set");
     }
+
+    /**
+     * Tests that updating an idle trigger leaves it unchanged, while moving it
+     * changes its revision.
+     */
+    @Test
+    void testRevision() {
+        final int revision = trigger.revision();
+        trigger.updateState(DT);
+        trigger.setPosition(new Coord2D(0, 0));
+        assertEquals(revision, trigger.revision(), "Idle trigger should keep its revision");
+        trigger.setPosition(new Coord2D(1, 0));
+        assertNotEquals(revision, trigger.revision(), "Moved trigger should change its revision");
+    }
 }
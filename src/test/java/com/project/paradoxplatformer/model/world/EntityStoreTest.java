@@ -0,0 +1,108 @@
+package com.project.paradoxplatformer.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.model.trigger.Trigger;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for the EntityStore class, verifying lookups, swap removals and
+ * the read-only view.
+ */
+class EntityStoreTest {
+
+    private static final Dimension SIZE = new Dimension(1, 1);
+    private static final int ENTITIES = 200;
+    private static final int OPERATIONS = 2000;
+    private static final long SEED = 42L;
+
+    private static Trigger trigger(final int id) {
+        return new Button(id, Coord2D.origin(), SIZE);
+    }
+
+    /**
+     * Tests that removals move the last object into the freed position.
+     */
+    @Test
+    void testSwapRemove() {
+        final Trigger first = trigger(1);
+        final Trigger second = trigger(2);
+        final Trigger third = trigger(3);
+        final EntityStore<Trigger> store = new EntityStore<>(List.of(first, second, third));
+
+        assertTrue(store.remove(first));
+        assertEquals(List.of(third, second), new ArrayList<>(store.view()));
+        assertFalse(store.get(1).isPresent());
+        assertSame(third, store.get(3).orElseThrow());
+        assertFalse(store.remove(first));
+    }
+
+    /**
+     * Tests that objects are only matched by identity, and that IDs are unique.
+     */
+    @Test
+    void testIdentityAndDuplicates() {
+        final Trigger stored = trigger(1);
+        final EntityStore<Trigger> store = new EntityStore<>(List.of(stored));
+
+        assertFalse(store.add(stored));
+        assertFalse(store.contains(trigger(1)));
+        assertFalse(store.remove(trigger(1)));
+        assertThrows(IllegalArgumentException.class, () -> store.add(trigger(1)));
+        assertEquals(1, store.size());
+    }
+
+    /**
+     * Tests that the view can not be changed and detects concurrent changes.
+     */
+    @Test
+    void testView() {
+        final Trigger stored = trigger(1);
+        final EntityStore<Trigger> store = new EntityStore<>(List.of(stored, trigger(2)));
+
+        assertThrows(UnsupportedOperationException.class, () -> store.view().add(trigger(3)));
+        assertThrows(UnsupportedOperationException.class, () -> store.view().remove(stored));
+        assertThrows(ConcurrentModificationException.class,
+                () -> store.view().forEach(t -> store.remove(stored)));
+    }
+
+    /**
+     * Tests a random sequence of insertions and removals against a plain set.
+     */
+    @Test
+    void testRandomOperations() {
+        final Random random = new Random(SEED);
+        final List<Trigger> all = new ArrayList<>();
+        for (int i = 0; i < ENTITIES; i++) {
+            all.add(trigger(random.nextInt()));
+        }
+        final EntityStore<Trigger> store = new EntityStore<>(List.of());
+        final HashSet<Trigger> expected = new HashSet<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            final Trigger t = all.get(random.nextInt(ENTITIES));
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(t), store.add(t));
+            } else {
+                assertEquals(expected.remove(t), store.remove(t));
+            }
+            assertEquals(expected.size(), store.size());
+        }
+        assertEquals(expected, new HashSet<>(store.view()));
+        all.forEach(t -> assertEquals(expected.contains(t), store.get(t.getID()).isPresent()));
+    }
+}
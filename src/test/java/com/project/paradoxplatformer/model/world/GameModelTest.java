@@ -16,6 +16,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.function.Consumer;
 import java.util.List;
@@ -175,4 +177,27 @@ class GameModelTest {
         platformModelData.actionOnWorld(checkPlayerExists);
     }
 
+    /**
+     * Tests that the world is exposed as a read-only view.
+     * <p>
+     * This test verifies that the returned world can not be changed, yet
+     * reflects the changes made through actions on the world without copying it.
+     * </p>
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testGetWorldIsReadOnlyView() {
+        platformModelData.init();
+
+        final World world = platformModelData.getWorld();
+        final Obstacle obstacle = world.obstacles().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> world.removeGameObjects(obstacle),
+                "The world should not be changed through its view.");
+        assertSame(world.obstacles(), platformModelData.getWorld().obstacles(),
+                "Views should not be copied.");
+
+        platformModelData.actionOnWorld(w -> w.removeGameObjects(obstacle));
+        assertEquals(1, world.version(), "The view should reflect the new version.");
+        assertEquals(0, world.obstacles().size(), "The view should reflect removals.");
+    }
 }
@@ -117,4 +117,22 @@ class WorldImplTest {
         assertTrue(gameObjects.contains(floorTrigger), "Game objects should include the trigger.");
         assertTrue(gameObjects.contains(playerTest), "Game objects should include the player.");
     }
+
+    @Test
+    void testVersionAndSnapshot() {
+        // Views are live, snapshots are stable, and only actual removals bump the version
+        final var obstacles = world.obstacles();
+        final var snapshot = world.snapshot();
+        final long version = world.version();
+
+        assertTrue(world.removeGameObjects(sawTest), "Removing an obstacle should return true.");
+        assertFalse(obstacles.contains(sawTest), "Views should reflect removals.");
+        assertFalse(world.gameObjects().contains(sawTest), "Game objects should reflect removals.");
+        assertTrue(snapshot.obstacles().contains(sawTest), "Snapshots should not reflect removals.");
+        assertEquals(version + 1, world.version(), "Removals should increase the version.");
+        assertEquals(version, snapshot.version(), "Snapshots should keep the version they were taken at.");
+
+        assertFalse(world.removeGameObjects(sawTest), "Removing a missing object should return false.");
+        assertEquals(version + 1, world.version(), "Failed removals should not increase the version.");
+    }
 }
@@ -0,0 +1,76 @@
+package com.project.paradoxplatformer.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the WeightedLruCache class, verifying eviction by weight and
+ * its counters.
+ */
+class WeightedLruCacheTest {
+
+    private static final long BUDGET = 10;
+
+    /**
+     * Tests that the least recently used values are evicted first once the
+     * budget is exceeded.
+     */
+    @Test
+    void testEviction() {
+        final WeightedLruCache<String, String> cache = new WeightedLruCache<>(BUDGET, String::length);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertTrue(cache.get("a").isPresent());
+        cache.put("c", "cccc");
+
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("c").isPresent());
+
+        final WeightedLruCache.Stats stats = cache.stats();
+        assertEquals(3, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.evictions());
+        assertEquals(2, stats.size());
+        assertEquals(8, stats.weight());
+    }
+
+    /**
+     * Tests that values are weighed again on hits, and that lowering the budget
+     * evicts values.
+     */
+    @Test
+    void testReweigh() {
+        final AtomicLong late = new AtomicLong();
+        final WeightedLruCache<String, AtomicLong> cache = new WeightedLruCache<>(BUDGET, AtomicLong::get);
+        cache.put("late", late);
+        assertEquals(0, cache.stats().weight());
+
+        late.set(6);
+        cache.get("late");
+        assertEquals(6, cache.stats().weight());
+
+        cache.setBudget(5);
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    /**
+     * Tests that replacing a value accounts for its new weight only.
+     */
+    @Test
+    void testReplace() {
+        final WeightedLruCache<String, String> cache = new WeightedLruCache<>(BUDGET, String::length);
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+        assertEquals(1, cache.stats().size());
+        assertEquals(2, cache.stats().weight());
+        assertEquals("aa", cache.get("a").get());
+    }
+}
@@ -1,10 +1,15 @@
 package com.project.paradoxplatformer.utils.collision;
 
+import com.project.paradoxplatformer.model.effect.abstracts.AbstractRecreatableEffect;
 import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.api.RecreateableEffect;
+import com.project.paradoxplatformer.model.effect.impl.FloorEffect;
 import com.project.paradoxplatformer.model.effect.impl.NoOpEffect;
+import com.project.paradoxplatformer.model.effect.impl.SpringEffect;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffectsBuilder;
 import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
@@ -14,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -93,4 +100,53 @@ class ChainOfEffectsTest {
         assertEquals(1, effects.size(), "Chain did not contain the correct number of effects.");
         assertEquals(noOpEffect, effects.get(0), "The NoOpEffect was not correctly added to the chain.");
     }
+
+    /**
+     * Tests that recycling a chain of recreatable effects returns the same chain,
+     * with the state of its effects reset.
+     */
+    @Test
+    void testRecycledKeepsRecreatableChain() {
+        final AtomicInteger resets = new AtomicInteger();
+        final AbstractRecreatableEffect resettable = new AbstractRecreatableEffect() {
+            @Override
+            public RecreateableEffect recreate() {
+                return new FloorEffect();
+            }
+
+            @Override
+            public void resetState() {
+                resets.incrementAndGet();
+            }
+
+            @Override
+            protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
+                return Effect.empty();
+            }
+        };
+        final ChainOfEffects chain = ChainOfEffectsBuilder.builder()
+                .addEffect(resettable)
+                .addEffect(new SpringEffect())
+                .build();
+
+        assertSame(chain, chain.recycled(), "Recreatable effects should be recycled in place.");
+        assertEquals(1, resets.get(), "Recycled effects should have their state reset.");
+    }
+
+    /**
+     * Tests that recycling a chain drops its one-time effects, keeping the others
+     * in order.
+     */
+    @Test
+    void testRecycledDropsOneTimeEffects() {
+        final FloorEffect floor = new FloorEffect();
+        final SpringEffect spring = new SpringEffect();
+        final ChainOfEffects chain = ChainOfEffectsBuilder.builder()
+                .addEffect(floor)
+                .addEffect(noOpEffect)
+                .addEffect(spring)
+                .build();
+
+        assertEquals(List.of(floor, spring), chain.recycled().getEffects(), "One-time effects should be dropped.");
+    }
 }
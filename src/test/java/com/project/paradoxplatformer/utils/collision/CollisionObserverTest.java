@@ -0,0 +1,117 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.effect.impl.EffectHandlerImpl;
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the CollisionObserver class, verifying that sustained contacts
+ * go through a single enter and exit.
+ */
+class CollisionObserverTest {
+
+    private static final int FRAMES = 400;
+
+    private Map<ContactPhase, Integer> applied;
+    private CollisionObserver observer;
+    private PlayerModel player;
+    private Platform platform;
+
+    /**
+     * Registers on platforms an effect counting the phases it is applied in.
+     */
+    @BeforeEach
+    void setUp() {
+        applied = new EnumMap<>(ContactPhase.class);
+        final EffectHandler handler = new EffectHandlerImpl();
+        for (final ContactPhase phase : ContactPhase.values()) {
+            handler.addCollisionEffectsForType(CollisionType.PLATFORM, () -> new CountingEffect(phase));
+        }
+        observer = new CollisionObserver(handler);
+        player = new PlayerModel();
+        platform = new Platform(0, new Coord2D(0, 0), new Dimension(1, 1), new LinkedList<>());
+    }
+
+    /**
+     * Tests that standing on a platform applies enter effects once, stay effects
+     * every following frame and exit effects once.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testSustainedContact() {
+        for (int i = 0; i < FRAMES; i++) {
+            observer.observeCollisions(Set.of(platform), player);
+        }
+        assertEquals(1, observer.contactCount());
+        observer.observeCollisions(Set.of(), player);
+
+        assertEquals(1, applied.get(ContactPhase.ENTER));
+        assertEquals(FRAMES - 1, applied.get(ContactPhase.STAY));
+        assertEquals(1, applied.get(ContactPhase.EXIT));
+        assertEquals(0, observer.contactCount());
+    }
+
+    /**
+     * Tests that a contact ended and started again enters twice.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testContactEnteredAgain() {
+        observer.observeCollisions(Set.of(platform), player);
+        observer.observeCollisions(Set.of(), player);
+        observer.observeCollisions(Set.of(platform), player);
+
+        assertEquals(2, applied.get(ContactPhase.ENTER));
+        assertEquals(1, applied.get(ContactPhase.EXIT));
+    }
+
+    /**
+     * An effect subscribed to a single phase, counting its applications.
+     */
+    private final class CountingEffect implements Effect {
+
+        private final ContactPhase phase;
+
+        CountingEffect(final ContactPhase phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        public CompletableFuture<Void> apply(final Optional<? extends CollidableGameObject> target,
+                final Optional<? extends CollidableGameObject> self) {
+            applied.merge(this.phase, 1, Integer::sum);
+            return Effect.empty();
+        }
+
+        @Override
+        public boolean isOneTimeEffect() {
+            return false;
+        }
+
+        @Override
+        public boolean appliesOn(final ContactPhase phase) {
+            return this.phase == phase;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the DynamicAABBTree class, verifying queries, margins of
+ * moving objects, removals and balancing.
+ */
+class DynamicAABBTreeTest {
+
+    private static final double MARGIN = 2;
+    private static final double SIZE = 5;
+    private static final double FAR = 1000;
+    private static final int MANY = 256;
+    private static final int MAX_HEIGHT = 16;
+
+    private DynamicAABBTree tree;
+    private Button near;
+    private Button far;
+
+    /**
+     * Fills the tree with a near and a far static object.
+     */
+    @BeforeEach
+    void setUp() {
+        tree = new DynamicAABBTree(MARGIN);
+        near = new Button(0, new Coord2D(0, 0), new Dimension(SIZE, SIZE));
+        far = new Button(1, new Coord2D(FAR, FAR), new Dimension(SIZE, SIZE));
+        tree.insert(near);
+        tree.insert(far);
+    }
+
+    /**
+     * Tests that a query only returns objects whose fattened bounds overlap the
+     * area.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testQueryReturnsOverlappingOnly() {
+        assertEquals(Set.of(near), tree.query(new AABB(1, 1, 2, 2)));
+        assertEquals(Set.of(near), tree.query(new AABB(SIZE, SIZE, SIZE + 1, SIZE + 1)));
+        assertTrue(tree.query(new AABB(SIZE + MARGIN, SIZE + MARGIN, FAR / 2, FAR / 2)).isEmpty());
+    }
+
+    /**
+     * Tests that the batch query visits each overlapping object once.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testQueryOverlapsVisitsOnce() {
+        final List<CollidableGameObject> visited = new ArrayList<>();
+        tree.queryOverlaps(new AABB(-FAR, -FAR, 2 * FAR, 2 * FAR), visited::add);
+        assertEquals(2, visited.size());
+        assertTrue(visited.containsAll(List.of(near, far)));
+    }
+
+    /**
+     * Tests that moving objects are found at their new position once they leave
+     * their margin.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testDynamicObjectReinserted() {
+        final PlayerModel player = new PlayerModel();
+        player.setPosition(new Coord2D(0, 0));
+        tree.insert(player);
+
+        player.setPosition(new Coord2D(FAR, FAR));
+        tree.update();
+
+        final Set<?> found = tree.query(AABB.of(far));
+        assertTrue(found.contains(player));
+        assertTrue(found.contains(far));
+        assertTrue(tree.query(new AABB(1, 1, 2, 2)).stream().noneMatch(player::equals));
+    }
+
+    /**
+     * Tests that removed objects are no longer returned.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testRemove() {
+        tree.remove(near);
+        assertEquals(1, tree.size());
+        assertTrue(tree.query(AABB.of(near)).isEmpty());
+        tree.remove(far);
+        assertEquals(-1, tree.height());
+    }
+
+    /**
+     * Tests that inserting objects in order keeps the tree balanced.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testStaysBalanced() {
+        tree.clear();
+        for (int i = 0; i < MANY; i++) {
+            tree.insert(new Button(i, new Coord2D(i * SIZE * 2, 0), new Dimension(SIZE, SIZE)));
+        }
+        assertEquals(MANY, tree.size());
+        assertTrue(tree.height() <= MAX_HEIGHT, "height " + tree.height());
+        assertEquals(1, tree.query(new AABB(SIZE * 2 * 10, 1, SIZE * 2 * 10 + 1, 2)).size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.collision.api.BroadPhase;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the SpatialHashGrid class, verifying queries, refresh of
+ * moving objects and removals.
+ */
+class SpatialHashGridTest {
+
+    private static final double CELL = 10;
+    private static final double SIZE = 5;
+    private static final double FAR = 1000;
+
+    private BroadPhase grid;
+    private Button near;
+    private Button far;
+
+    /**
+     * Fills the grid with a near and a far static object.
+     */
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(CELL);
+        near = new Button(0, new Coord2D(0, 0), new Dimension(SIZE, SIZE));
+        far = new Button(1, new Coord2D(FAR, FAR), new Dimension(SIZE, SIZE));
+        grid.insert(near);
+        grid.insert(far);
+    }
+
+    /**
+     * Tests that a query only returns objects overlapping the area.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testQueryReturnsOverlappingOnly() {
+        assertEquals(Set.of(near), grid.query(new AABB(1, 1, 2, 2)));
+        assertTrue(grid.query(new AABB(SIZE, SIZE, CELL, CELL)).isEmpty());
+    }
+
+    /**
+     * Tests that dynamic objects are found at their new position after an update.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testDynamicObjectRefreshed() {
+        final PlayerModel player = new PlayerModel();
+        player.setPosition(new Coord2D(0, 0));
+        grid.insert(player);
+
+        player.setPosition(new Coord2D(FAR, FAR));
+        grid.update();
+
+        final Set<?> found = grid.query(AABB.of(far));
+        assertTrue(found.contains(player));
+        assertTrue(found.contains(far));
+    }
+
+    /**
+     * Tests that removed objects are no longer returned.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testRemove() {
+        grid.remove(near);
+        assertEquals(1, grid.size());
+        assertTrue(grid.query(AABB.of(near)).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.paradoxplatformer.utils.geometries.physic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.geometries.interpolations.InterpolatorFactory;
+import com.project.paradoxplatformer.utils.geometries.interpolations.InterpolatorFactoryImpl;
+import com.project.paradoxplatformer.utils.geometries.vector.api.MutableVector2D;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
+
+/**
+ * Unit tests for the PhysicsEngine class, verifying that in-place movements
+ * match the ones computed on immutable vectors.
+ */
+class PhysicsEngineTest {
+
+    private static final long DT = 16;
+    private static final int STEPS = 90;
+    private static final double START_X = 12.3;
+    private static final double START_Y = 45.6;
+    private static final Vector2D SPEED = new Simple2DVector(150.0, -7.25);
+
+    private final InterpolatorFactory interpolators = new InterpolatorFactoryImpl();
+
+    /**
+     * Tests that stepping in place gives exactly the positions of the immutable
+     * path.
+     */
+    @Test
+    void testStepByMatchesStep() {
+        final PhysicsEngine immutable = new PhysicsEngine();
+        final PhysicsEngine inPlace = new PhysicsEngine();
+        Vector2D expected = new Simple2DVector(START_X, START_Y);
+        final MutableVector2D actual = new MutableVector2D(START_X, START_Y);
+
+        for (int i = 0; i < STEPS; i++) {
+            expected = immutable.step(expected, expected.add(SPEED), interpolators.linear(), DT);
+            inPlace.stepBy(actual, SPEED, interpolators.linear(), DT);
+            assertEquals(expected.xComponent(), actual.x());
+            assertEquals(expected.yComponent(), actual.y());
+        }
+    }
+
+    /**
+     * Tests that moving in place gives exactly the positions and completion of
+     * the immutable path.
+     */
+    @Test
+    void testMoveByMatchesMoveTo() {
+        final PhysicsEngine immutable = new PhysicsEngine();
+        final PhysicsEngine inPlace = new PhysicsEngine();
+        Vector2D expected = new Simple2DVector(START_X, START_Y);
+        final MutableVector2D actual = new MutableVector2D(START_X, START_Y);
+
+        for (int i = 0; i < STEPS; i++) {
+            final var next = immutable.moveTo(expected, expected.add(SPEED), 1, interpolators.easeIn(), DT);
+            expected = next.getKey();
+            final double completion = inPlace.moveBy(actual, SPEED, 1, interpolators.easeIn(), DT);
+            assertEquals(next.getValue(), completion);
+            assertEquals(expected.xComponent(), actual.x());
+            assertEquals(expected.yComponent(), actual.y());
+        }
+        assertEquals(1.0, inPlace.moveBy(actual, SPEED, 1, interpolators.easeIn(), DT));
+    }
+
+    /**
+     * Tests that in-place movements reject invalid times like the immutable
+     * ones.
+     */
+    @Test
+    void testInvalidTimes() {
+        final PhysicsEngine engine = new PhysicsEngine();
+        final MutableVector2D position = new MutableVector2D();
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.moveBy(position, SPEED, 0, interpolators.easeIn(), DT));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.stepBy(position, SPEED, interpolators.linear(), -1));
+    }
+}
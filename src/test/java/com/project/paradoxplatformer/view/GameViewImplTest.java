@@ -0,0 +1,324 @@
+package com.project.paradoxplatformer.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.ColorDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.TrajMacro;
+import com.project.paradoxplatformer.controller.games.GameController;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
+import com.project.paradoxplatformer.model.innersetting.MenuItem;
+import com.project.paradoxplatformer.model.mappings.EntityDataMapper;
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.GraphicContainer;
+import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+import com.project.paradoxplatformer.view.headless.HeadlessGraphic;
+import com.project.paradoxplatformer.view.headless.HeadlessKeyInputer;
+import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
+import com.project.paradoxplatformer.view.renders.ViewComponent;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * Unit tests for the static layer of the GameViewImpl class, verifying which
+ * objects are baked into it and when they are taken out of it.
+ */
+class GameViewImplTest {
+
+    private static final int LEVEL_WIDTH = 200;
+    private static final int LEVEL_HEIGHT = 100;
+    private static final int IMAGE_ID = 0;
+    private static final int STATIC_ID = 1;
+    private static final int MOVING_ID = 2;
+    private static final double STATIC_X = 10;
+    private static final double STATIC_Y = 20;
+    private static final double STATIC_WIDTH = 30;
+    private static final double STATIC_HEIGHT = 5;
+    private static final double SHIFT = 4;
+
+    private GameViewImpl<HeadlessGraphic, InputType> view;
+    private StubContainer container;
+    private StubFactory factory;
+
+    /**
+     * Creates a view of a level holding an image, a colored object which never
+     * moves and a colored object with a trajectory.
+     */
+    @BeforeEach
+    void setUp() {
+        final ColorDTO color = new ColorDTO();
+        final LevelDTO level = new LevelDTO(LEVEL_WIDTH, LEVEL_HEIGHT, new GameDTO[] {
+            new GameDTO("player", IMAGE_ID, 0, 0, 1, 1, "", "player.png", null, null, -1),
+            new GameDTO("obstacle", STATIC_ID, STATIC_X, STATIC_Y, STATIC_WIDTH, STATIC_HEIGHT,
+                    "Platform", null, color, null, -1),
+            new GameDTO("obstacle", MOVING_ID, 0, 0, 1, 1,
+                    "Platform", null, color, new TrajMacro[] {new TrajMacro()}, -1),
+        });
+        container = new StubContainer();
+        factory = new StubFactory();
+        view = new GameViewImpl<>(level, container, factory);
+        view.init();
+    }
+
+    /**
+     * Tests that only colored objects without a trajectory are baked, that the
+     * layer covers the level below every graphic, and that baked objects are
+     * not rendered on their own.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testBakedObjects() {
+        final StubLayer layer = factory.layer.orElseThrow();
+        assertEquals(List.of(STATIC_ID), layer.shapes.stream().map(StaticShape::id).toList());
+        assertEquals(new Dimension(LEVEL_WIDTH, LEVEL_HEIGHT), layer.bounds);
+        // the level is drawn upside down: the shape hangs from the top of the view by its own height
+        assertEquals(new AABB(STATIC_X, LEVEL_HEIGHT - STATIC_Y - STATIC_HEIGHT,
+                STATIC_X + STATIC_WIDTH, LEVEL_HEIGHT - STATIC_Y), layer.shapes.get(0).bounds());
+
+        assertEquals(StaticLayer.DRAW_ORDER, container.rendered.get(StaticLayer.LAYER_ID));
+        assertTrue(container.rendered.containsKey(IMAGE_ID));
+        assertTrue(container.rendered.containsKey(MOVING_ID));
+        assertFalse(container.rendered.containsKey(STATIC_ID));
+        assertEquals(3, view.getUnmodifiableControls().size());
+    }
+
+    /**
+     * Tests that a baked object reported where it was baked stays in the
+     * layer, and is taken out of it and rendered once it moves.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testUnbakeWhenMoved() {
+        final StubLayer layer = factory.layer.orElseThrow();
+        final MutableObject platform = new Button(STATIC_ID, new Coord2D(STATIC_X, STATIC_Y),
+                new Dimension(STATIC_WIDTH, STATIC_HEIGHT));
+
+        view.updateControlStates(List.of(new ReadOnlyMutableObjectWrapper(platform)), 0);
+        assertTrue(layer.contains(STATIC_ID));
+        assertFalse(container.rendered.containsKey(STATIC_ID));
+
+        platform.setPosition(new Coord2D(STATIC_X + SHIFT, STATIC_Y));
+        view.updateControlStates(List.of(new ReadOnlyMutableObjectWrapper(platform)), 0);
+        assertFalse(layer.contains(STATIC_ID));
+        assertEquals(List.of(STATIC_ID), layer.removed);
+        assertTrue(container.rendered.containsKey(STATIC_ID));
+        final HeadlessGraphic graphic = factory.graphics.get(STATIC_ID);
+        assertEquals(STATIC_X + SHIFT, graphic.relativePosition().x());
+    }
+
+    /**
+     * Tests that removing a baked object takes it out of the layer, while
+     * removing a live one leaves the layer alone.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testUnbakeWhenRemoved() {
+        final StubLayer layer = factory.layer.orElseThrow();
+        view.removeGraphic(new ReadOnlyGraphicDecorator<>(factory.graphics.get(MOVING_ID)));
+        assertTrue(layer.removed.isEmpty());
+
+        view.removeGraphic(new ReadOnlyGraphicDecorator<>(factory.graphics.get(STATIC_ID)));
+        assertFalse(layer.contains(STATIC_ID));
+        assertEquals(List.of(STATIC_ID), layer.removed);
+        assertEquals(1, view.getUnmodifiableControls().size());
+    }
+
+    /**
+     * A container remembering the order each graphic was rendered with.
+     */
+    private static final class StubContainer implements GraphicContainer<HeadlessGraphic, InputType> {
+
+        private final Map<Integer, Integer> rendered = new LinkedHashMap<>();
+        private final HeadlessKeyInputer inputer = new HeadlessKeyInputer();
+
+        @Override
+        public Dimension dimension() {
+            return new Dimension(LEVEL_WIDTH, LEVEL_HEIGHT);
+        }
+
+        @Override
+        public void setDimension(final double width, final double height) {
+        }
+
+        @Override
+        public boolean render(final ViewComponent<HeadlessGraphic> c) {
+            return this.render(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean render(final ViewComponent<HeadlessGraphic> c,
+                final int order) {
+            this.rendered.put(c.unwrap().getID(), order);
+            return true;
+        }
+
+        @Override
+        public boolean delete(final ViewComponent<HeadlessGraphic> c) {
+            return this.rendered.remove(c.unwrap().getID()) != null;
+        }
+
+        @Override
+        public ObservableDoubleValue widthProperty() {
+            return new SimpleDoubleProperty(LEVEL_WIDTH);
+        }
+
+        @Override
+        public ObservableDoubleValue heightProperty() {
+            return new SimpleDoubleProperty(LEVEL_HEIGHT);
+        }
+
+        @Override
+        public GraphicContainer<HeadlessGraphic, InputType> defensiveCopy() {
+            return this;
+        }
+
+        @Override
+        public KeyAssetter<InputType> getKeyAssetter() {
+            return this.inputer.getKeyAssetter();
+        }
+
+        @Override
+        public void activateKeyInput(final Runnable activateInput) {
+            this.inputer.activateKeyInput(activateInput);
+        }
+    }
+
+    /**
+     * A factory creating headless graphics placed as the level data says, and
+     * remembering them along with the static layer.
+     */
+    private static final class StubFactory implements ViewMappingFactory<HeadlessGraphic> {
+
+        private final Map<Integer, HeadlessGraphic> graphics = new LinkedHashMap<>();
+        private Optional<StubLayer> layer = Optional.empty();
+
+        @Override
+        public EntityDataMapper<GraphicAdapter<HeadlessGraphic>> imageToView() {
+            return this::create;
+        }
+
+        @Override
+        public EntityDataMapper<GraphicAdapter<HeadlessGraphic>> blockToView() {
+            return this::create;
+        }
+
+        @Override
+        public StaticLayer<HeadlessGraphic> staticLayer(final Dimension bounds, final List<StaticShape> shapes) {
+            final StubLayer created = new StubLayer(bounds, shapes);
+            this.layer = Optional.of(created);
+            return created;
+        }
+
+        @Override
+        public Function<MenuItem, GraphicAdapter<HeadlessGraphic>> menuItemToView(
+                final GameController<HeadlessGraphic> gameController) {
+            throw new UnsupportedOperationException();
+        }
+
+        private GraphicAdapter<HeadlessGraphic> create(final GameDTO g) {
+            final HeadlessGraphic graphic = new HeadlessGraphic(g.getID(), new Dimension(g.getWidth(), g.getHeight()),
+                    new Coord2D(g.getX(), g.getY()), Optional.ofNullable(g.getColor()));
+            this.graphics.put(g.getID(), graphic);
+            return graphic;
+        }
+    }
+
+    /**
+     * A static layer remembering its shapes and the ones taken out of it.
+     */
+    private static final class StubLayer implements StaticLayer<HeadlessGraphic> {
+
+        private final HeadlessGraphic graphic;
+        private final Dimension bounds;
+        private final List<StaticShape> shapes;
+        private final List<Integer> removed = new ArrayList<>();
+
+        StubLayer(final Dimension bounds, final List<StaticShape> shapes) {
+            this.graphic = new HeadlessGraphic(LAYER_ID, bounds, Coord2D.origin(), Optional.empty());
+            this.bounds = bounds;
+            this.shapes = new ArrayList<>(shapes);
+        }
+
+        @Override
+        public boolean contains(final int id) {
+            return this.shapes.stream().anyMatch(s -> s.id() == id);
+        }
+
+        @Override
+        public boolean remove(final int id) {
+            this.removed.add(id);
+            return this.shapes.removeIf(s -> s.id() == id);
+        }
+
+        @Override
+        public HeadlessGraphic unwrap() {
+            return this.graphic;
+        }
+
+        @Override
+        public Dimension dimension() {
+            return this.bounds;
+        }
+
+        @Override
+        public Coord2D absolutePosition() {
+            return Coord2D.origin();
+        }
+
+        @Override
+        public Coord2D relativePosition() {
+            return this.graphic.relativePosition();
+        }
+
+        @Override
+        public void setDimension(final double width, final double height) {
+        }
+
+        @Override
+        public void setPosition(final double x, final double y) {
+            this.graphic.setPosition(x, y);
+        }
+
+        @Override
+        public void translate(final double x, final double y) {
+            this.graphic.translate(x, y);
+        }
+
+        @Override
+        public void bindProperties(final ObservableDoubleValue wRatio, final ObservableDoubleValue hRatio) {
+        }
+
+        @Override
+        public void flip() {
+        }
+
+        @Override
+        public int getID() {
+            return LAYER_ID;
+        }
+    }
+}
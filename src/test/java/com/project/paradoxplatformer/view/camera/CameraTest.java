@@ -0,0 +1,51 @@
+package com.project.paradoxplatformer.view.camera;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for the Camera class, verifying that it follows its target
+ * without leaving the level.
+ */
+class CameraTest {
+
+    private static final Dimension WORLD = new Dimension(2000, 400);
+    private static final Dimension VIEWPORT = new Dimension(640, 360);
+    private static final double MARGIN = 10;
+
+    /**
+     * Tests that the camera centers its target, within the level.
+     */
+    @Test
+    void testFollow() {
+        final Camera camera = new Camera(WORLD, VIEWPORT, MARGIN);
+        assertTrue(camera.follow(1000, 200));
+        assertEquals(new Coord2D(680, 20), camera.origin());
+        assertFalse(camera.follow(1000, 200));
+
+        camera.follow(0, 0);
+        assertEquals(new Coord2D(0, 0), camera.origin());
+        camera.follow(WORLD.width(), WORLD.height());
+        assertEquals(new Coord2D(1360, 40), camera.origin());
+        assertEquals(new AABB(1350, 30, 2010, 410), camera.visibleArea());
+    }
+
+    /**
+     * Tests that a viewport larger than the level shows the whole level and
+     * never moves.
+     */
+    @Test
+    void testViewportLargerThanWorld() {
+        final Camera camera = new Camera(VIEWPORT, WORLD, 0);
+        assertEquals(VIEWPORT, camera.viewport());
+        assertFalse(camera.follow(500, 300));
+        assertEquals(new Coord2D(0, 0), camera.origin());
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.paradoxplatformer.view.camera;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Unit tests for the CullingGrid class, verifying the graphics reported as
+ * entering and leaving the visible area.
+ */
+@SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+class CullingGridTest {
+
+    private static final double CELL_SIZE = 100;
+    private static final AABB LEFT_AREA = new AABB(0, 0, 300, 300);
+    private static final AABB RIGHT_AREA = new AABB(1000, 0, 1300, 300);
+
+    private CullingGrid grid;
+    private List<Integer> entered;
+    private List<Integer> left;
+
+    /**
+     * Fills a grid with a graphic on the left, one on the right and a wide one
+     * spanning both.
+     */
+    @BeforeEach
+    void setUp() {
+        this.grid = new CullingGrid(CELL_SIZE);
+        this.entered = new ArrayList<>();
+        this.left = new ArrayList<>();
+        this.grid.put(1, new AABB(10, 10, 50, 50));
+        this.grid.put(2, new AABB(1100, 10, 1150, 50));
+        this.grid.put(3, new AABB(0, 250, 1300, 280));
+    }
+
+    private void cull(final AABB area) {
+        this.entered.clear();
+        this.left.clear();
+        this.grid.cull(area, this.entered::add, this.left::add);
+    }
+
+    /**
+     * Tests that only the graphics within the area are reported once, and that
+     * moving the area reports the changes only.
+     */
+    @Test
+    void testCull() {
+        this.cull(LEFT_AREA);
+        assertEquals(List.of(1, 3), this.entered.stream().sorted().toList());
+        assertTrue(this.left.isEmpty());
+        assertEquals(2, this.grid.visibleCount());
+
+        this.cull(LEFT_AREA);
+        assertTrue(this.entered.isEmpty());
+        assertTrue(this.left.isEmpty());
+
+        this.cull(RIGHT_AREA);
+        assertEquals(List.of(2), this.entered);
+        assertEquals(List.of(1), this.left);
+        assertTrue(this.grid.isVisible(3));
+        assertFalse(this.grid.isVisible(1));
+    }
+
+    /**
+     * Tests that moved and removed graphics are accounted for at the next
+     * culling.
+     */
+    @Test
+    void testMoveAndRemove() {
+        this.cull(LEFT_AREA);
+        this.grid.put(2, new AABB(100, 100, 150, 150));
+        this.grid.put(1, new AABB(2000, 10, 2050, 50));
+        this.grid.remove(3);
+        this.cull(LEFT_AREA);
+        assertEquals(List.of(2), this.entered);
+        assertEquals(List.of(1), this.left);
+        assertEquals(2, this.grid.size());
+        assertEquals(1, this.grid.visibleCount());
+        assertFalse(this.grid.isVisible(3));
+        assertTrue(this.grid.bounds(3).isEmpty());
+    }
+}
@@ -0,0 +1,215 @@
+package com.project.paradoxplatformer.view.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * Unit tests for the GraphicBindings class, verifying binding by ID, lookups,
+ * removals and the collection of changed objects.
+ */
+class GraphicBindingsTest {
+
+    private static final Dimension SIZE = new Dimension(1, 1);
+    private static final int GRAPHICS = 3;
+    private static final Coord2D MOVED = new Coord2D(5, 5);
+
+    private GraphicBindings<Object> bindings;
+    private List<MutableObject> objects;
+
+    /**
+     * Registers a graphic for every ID and creates the matching objects.
+     */
+    @BeforeEach
+    void setUp() {
+        bindings = new GraphicBindings<>();
+        objects = new ArrayList<>();
+        for (int id = 0; id < GRAPHICS; id++) {
+            bindings.register(new StubGraphic(id));
+            objects.add(new Button(id, Coord2D.origin(), SIZE));
+        }
+    }
+
+    /**
+     * Tests that objects are bound to the graphic sharing their ID.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testBind() {
+        assertThrows(IllegalArgumentException.class, bindings::requireAllBound);
+        objects.forEach(bindings::bind);
+        bindings.requireAllBound();
+
+        assertFalse(bindings.bind(new Button(GRAPHICS, Coord2D.origin(), SIZE)));
+        assertEquals(objects, new ArrayList<>(bindings.objects()));
+        bindings.forEachBound((m, g) -> assertEquals(m.getID(), g.getID()));
+        assertSame(objects.get(1), bindings.object(1).orElseThrow());
+        assertEquals(1, bindings.graphic(1).orElseThrow().getID());
+    }
+
+    /**
+     * Tests that removals unbind the object and move the last entry in place.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testRemove() {
+        objects.forEach(bindings::bind);
+
+        assertTrue(bindings.remove(0));
+        assertFalse(bindings.remove(0));
+        assertFalse(bindings.graphic(0).isPresent());
+        assertFalse(bindings.objects().contains(objects.get(0)));
+        assertTrue(bindings.objects().contains(objects.get(2)));
+        assertEquals(List.of(objects.get(2), objects.get(1)), new ArrayList<>(bindings.objects()));
+        assertEquals(2, bindings.graphics().get(0).getID());
+        assertEquals(GRAPHICS - 1, bindings.size());
+    }
+
+    /**
+     * Tests that only changed objects are collected, once more to settle, and
+     * that removals drop them.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testCollectChanged() {
+        objects.forEach(bindings::bind);
+        assertEquals(GRAPHICS, this.collectAndClear());
+        assertEquals(GRAPHICS, this.collectAndClear());
+        assertEquals(0, this.collectAndClear());
+
+        objects.get(1).setPosition(Coord2D.origin());
+        assertEquals(0, this.collectAndClear());
+
+        objects.get(1).setPosition(MOVED);
+        assertEquals(1, bindings.collectChanged());
+        bindings.forEachChanged((m, previous, g) -> {
+            assertSame(objects.get(1), m);
+            assertEquals(Coord2D.origin(), previous);
+            assertEquals(1, g.getID());
+        });
+        bindings.clearChanged();
+        assertEquals(1, bindings.collectChanged());
+        bindings.forEachChanged((m, previous, g) -> assertEquals(MOVED, previous));
+        bindings.clearChanged();
+        assertEquals(0, this.collectAndClear());
+
+        objects.get(2).setPosition(MOVED);
+        assertEquals(1, bindings.collectChanged());
+        bindings.remove(0);
+        bindings.forEachChanged((m, previous, g) -> assertSame(objects.get(2), m));
+        bindings.remove(2);
+        bindings.forEachChanged((m, previous, g) -> fail("Removed objects should not be collected"));
+        assertEquals(0, bindings.collectChanged());
+    }
+
+    /**
+     * Tests that objects collected over several ticks stay collected until
+     * cleared, so that an object which stopped during a frame is presented
+     * where it settled.
+     */
+    @Test
+    @SuppressFBWarnings(value = "UwF", justification = "Fields are initialized in @BeforeEach method before usage.")
+    void testChangesAddUpUntilCleared() {
+        objects.forEach(bindings::bind);
+        bindings.collectChanged();
+        bindings.collectChanged();
+        bindings.clearChanged();
+
+        objects.get(1).setPosition(MOVED);
+        assertEquals(1, bindings.collectChanged());
+        assertEquals(1, bindings.collectChanged());
+        objects.get(2).setPosition(MOVED);
+        assertEquals(2, bindings.collectChanged());
+        assertEquals(2, bindings.collectChanged());
+
+        final List<Integer> presented = new ArrayList<>();
+        bindings.forEachChanged((m, previous, g) -> {
+            presented.add(m.getID());
+            assertEquals(MOVED, previous);
+        });
+        assertEquals(List.of(1, 2), presented);
+        bindings.clearChanged();
+        bindings.forEachChanged((m, previous, g) -> fail("Cleared objects should not be presented"));
+        assertEquals(0, bindings.collectChanged());
+    }
+
+    private int collectAndClear() {
+        final int collected = bindings.collectChanged();
+        bindings.clearChanged();
+        return collected;
+    }
+
+    /**
+     * A graphic with nothing but an ID.
+     */
+    private static final class StubGraphic implements GraphicAdapter<Object> {
+
+        private final int id;
+
+        StubGraphic(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public Object unwrap() {
+            return this;
+        }
+
+        @Override
+        public Dimension dimension() {
+            return SIZE;
+        }
+
+        @Override
+        public Coord2D absolutePosition() {
+            return Coord2D.origin();
+        }
+
+        @Override
+        public Coord2D relativePosition() {
+            return Coord2D.origin();
+        }
+
+        @Override
+        public void setDimension(final double width, final double height) {
+        }
+
+        @Override
+        public void setPosition(final double x, final double y) {
+        }
+
+        @Override
+        public void translate(final double x, final double y) {
+        }
+
+        @Override
+        public void bindProperties(final ObservableDoubleValue wRatio, final ObservableDoubleValue hRatio) {
+        }
+
+        @Override
+        public void flip() {
+        }
+
+        @Override
+        public int getID() {
+            return this.id;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.paradoxplatformer.view.graphics.sprites;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SpriteAnimations class, verifying that frames follow the
+ * game time and that only active animations are advanced.
+ */
+class SpriteAnimationsTest {
+
+    private static final int FIRST = 1;
+    private static final int SECOND = 2;
+    private static final int DURATION = 100;
+
+    /**
+     * Tests that sprites sharing a sheet advance independently, one frame
+     * every frame duration however often they are advanced, and restart when
+     * their status changes.
+     */
+    @Test
+    void testTimeBasedFrames() {
+        final SpriteSheet<String> sheet = SpriteSheetTest.sheet();
+        final SpriteAnimations animations = new SpriteAnimations();
+        animations.add(FIRST, sheet, DURATION, 0);
+        animations.add(SECOND, sheet, DURATION, 50);
+        animations.setActive(FIRST, true);
+        animations.setActive(SECOND, true);
+
+        assertEquals(2, animations.advance(0));
+        assertEquals("i0", sheet.frame(animations.frameOf(FIRST)));
+        assertEquals(0, animations.advance(99));
+        assertEquals(1, animations.advance(120));
+        assertEquals("i1", sheet.frame(animations.frameOf(FIRST)));
+        assertEquals("i0", sheet.frame(animations.frameOf(SECOND)));
+        animations.advance(250);
+        assertEquals("i0", sheet.frame(animations.frameOf(FIRST)));
+        assertEquals("i0", sheet.frame(animations.frameOf(SECOND)));
+
+        animations.play(FIRST, SpriteStatus.RUNNING, 260);
+        animations.advance(260);
+        assertEquals("r0", sheet.frame(animations.frameOf(FIRST)));
+        animations.play(FIRST, SpriteStatus.RUNNING, 300);
+        animations.advance(360);
+        assertEquals("r1", sheet.frame(animations.frameOf(FIRST)));
+    }
+
+    /**
+     * Tests that inactive animations are skipped, and resume at the frame
+     * they would have reached.
+     */
+    @Test
+    void testInactiveSkipped() {
+        final SpriteSheet<String> sheet = SpriteSheetTest.sheet();
+        final SpriteAnimations animations = new SpriteAnimations();
+        animations.add(FIRST, sheet, DURATION, 0);
+        animations.add(SECOND, sheet, DURATION, 0);
+        animations.setActive(FIRST, true);
+
+        final List<Integer> changed = new ArrayList<>();
+        animations.advance(100);
+        animations.forEachChanged((id, frame) -> changed.add(id));
+        assertEquals(List.of(FIRST), changed);
+        assertEquals(SpriteAnimations.NO_FRAME, animations.frameOf(SECOND));
+
+        animations.setActive(FIRST, false);
+        animations.setActive(SECOND, true);
+        changed.clear();
+        animations.advance(100);
+        animations.forEachChanged((id, frame) -> changed.add(id));
+        assertEquals(List.of(SECOND), changed);
+        assertEquals("i1", sheet.frame(animations.frameOf(SECOND)));
+    }
+
+    /**
+     * Tests that removed animations are forgotten while the others are kept,
+     * and that frame durations must be positive.
+     */
+    @Test
+    void testRemove() {
+        final SpriteAnimations animations = new SpriteAnimations();
+        animations.add(FIRST, SpriteSheetTest.sheet(), DURATION, 0);
+        animations.add(SECOND, SpriteSheetTest.sheet(), DURATION, 0);
+        animations.setActive(SECOND, true);
+        animations.remove(FIRST);
+        animations.remove(FIRST);
+        assertEquals(1, animations.size());
+        assertEquals(1, animations.advance(0));
+        assertEquals(SpriteAnimations.NO_FRAME, animations.frameOf(FIRST));
+        assertThrows(IllegalArgumentException.class,
+                () -> animations.add(FIRST, SpriteSheetTest.sheet(), 0, 0));
+    }
+}
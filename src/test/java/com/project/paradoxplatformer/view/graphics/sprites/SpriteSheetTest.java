@@ -0,0 +1,93 @@
+package com.project.paradoxplatformer.view.graphics.sprites;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SpriteSheet class, verifying its sequences.
+ */
+class SpriteSheetTest {
+
+    /**
+     * Creates a sheet with two idle frames, two running frames, and the whole
+     * sheet for jumping and falling.
+     *
+     * @return the sheet
+     */
+    static SpriteSheet<String> sheet() {
+        final Map<SpriteStatus, int[]> sequences = new EnumMap<>(SpriteStatus.class);
+        sequences.put(SpriteStatus.IDLE, SpriteSheet.range(0, 2));
+        sequences.put(SpriteStatus.RUNNING, SpriteSheet.range(2, 4));
+        sequences.put(SpriteStatus.JUMPING, new int[] {4});
+        sequences.put(SpriteStatus.FALLING, new int[] {4});
+        return new SpriteSheet<>(List.of("i0", "i1", "r0", "r1", "sheet"), sequences);
+    }
+
+    /**
+     * Tests that the sequences of a sheet are played in a loop.
+     */
+    @Test
+    void testFrameIndex() {
+        final SpriteSheet<String> sheet = sheet();
+        assertEquals(5, sheet.frameCount());
+        assertEquals("i1", sheet.frame(sheet.frameIndex(SpriteStatus.IDLE, 1)));
+        assertEquals("i0", sheet.frame(sheet.frameIndex(SpriteStatus.IDLE, 2)));
+        assertEquals("r1", sheet.frame(sheet.frameIndex(SpriteStatus.RUNNING, 3)));
+        assertEquals("sheet", sheet.frame(sheet.frameIndex(SpriteStatus.FALLING, 7)));
+    }
+
+    /**
+     * Tests that a sheet rejects statuses without frames or with frames out of
+     * the sheet.
+     */
+    @Test
+    void testValidation() {
+        final Map<SpriteStatus, int[]> sequences = new EnumMap<>(SpriteStatus.class);
+        sequences.put(SpriteStatus.IDLE, new int[] {0});
+        sequences.put(SpriteStatus.RUNNING, new int[] {0});
+        sequences.put(SpriteStatus.JUMPING, new int[] {0});
+        assertThrows(IllegalArgumentException.class, () -> new SpriteSheet<>(List.of("a"), sequences));
+        sequences.put(SpriteStatus.FALLING, new int[] {1});
+        assertThrows(IllegalArgumentException.class, () -> new SpriteSheet<>(List.of("a"), sequences));
+        sequences.put(SpriteStatus.FALLING, new int[] {});
+        assertThrows(IllegalArgumentException.class, () -> new SpriteSheet<>(List.of("a"), sequences));
+    }
+
+    /**
+     * Tests that a sheet built from a spriter keeps the images of each status.
+     */
+    @Test
+    void testOf() {
+        final SpriteSheet<String> sheet = SpriteSheet.of(new Spriter<>() {
+            @Override
+            public List<String> getIdleImage() {
+                return List.of("i0");
+            }
+
+            @Override
+            public List<String> runningImages() {
+                return List.of("r0", "r1");
+            }
+
+            @Override
+            public List<String> jumpingImages() {
+                return List.of("j0");
+            }
+
+            @Override
+            public List<String> fallingImages() {
+                return List.of("f0");
+            }
+        });
+        assertEquals(5, sheet.frameCount());
+        assertEquals("r1", sheet.frame(sheet.frameIndex(SpriteStatus.RUNNING, 1)));
+        assertEquals("j0", sheet.frame(sheet.frameIndex(SpriteStatus.JUMPING, 0)));
+        assertEquals("f0", sheet.frame(sheet.frameIndex(SpriteStatus.FALLING, 0)));
+    }
+}
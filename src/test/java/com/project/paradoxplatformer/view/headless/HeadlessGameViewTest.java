@@ -0,0 +1,77 @@
+package com.project.paradoxplatformer.view.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.games.GameControllerImpl;
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.games.SimulationMode;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+
+/**
+ * Tests for the {@link HeadlessGameView} class, playing a level without any
+ * toolkit.
+ */
+class HeadlessGameViewTest {
+
+    private static final int TICKS = 40;
+    private static final long STEP = 25;
+    private static final int BACKGROUND = 0xFFFFFFFF;
+
+    /**
+     * Tests that a level plays headless: the player walks right while pressing
+     * the right key, and the rasterizer draws the level.
+     */
+    @Test
+    void testPlayLevel() throws IOException, InvalidResourceException {
+        final LevelDTO level = new DeserializerFactoryImpl()
+                .levelDeserialzer()
+                .deserialize(Level.LEVEL_ONE.getResourceFile());
+        final HeadlessGameView view = new HeadlessGameView(level);
+        final HeadlessKeyInputer inputer = new HeadlessKeyInputer();
+        final AtomicReference<GameControllerImpl<HeadlessGraphic>> controller = new AtomicReference<>();
+        final GameSession session = GameSession.create();
+        session.run(() -> {
+            controller.set(new GameControllerImpl<>(new GameModelImpl(level), view, Level.LEVEL_ONE,
+                    SimulationMode.HOSTED));
+            controller.get().loadModel();
+            controller.get().syncView();
+            controller.get().startGame(new InputController<ControllableObject>(
+                    new InputMovesFactoryImpl().advancedModel()), inputer, level.getType());
+        });
+        assertEquals(level.getGameDTOs().length, view.getUnmodifiableControls().size());
+
+        final HeadlessGraphic player = view.getUnmodifiableControls().get(0).unwrap();
+        final double start = player.relativePosition().x();
+        inputer.press(InputType.RIGHT);
+        for (int i = 0; i < TICKS; i++) {
+            controller.get().tick(STEP);
+            controller.get().render(1);
+        }
+        inputer.release(InputType.RIGHT);
+        assertTrue(player.relativePosition().x() > start);
+        assertEquals(TICKS * STEP, view.gameTime());
+        assertFalse(GameSession.application().isFinished());
+
+        final BufferedImage image = new HeadlessRasterizer(view).render();
+        assertEquals((int) level.getWidth(), image.getWidth());
+        assertTrue(IntStream.range(0, image.getWidth())
+                .anyMatch(x -> image.getRGB(x, image.getHeight() - 1) != BACKGROUND));
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.paradoxplatformer.view.javafx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.ColorDTO;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+
+/**
+ * Unit tests for the StaticShapeBaker class, verifying the size of the baked
+ * images and the shapes they hold. Baking itself needs the JavaFX toolkit,
+ * so only the scales nothing is baked at are tried.
+ */
+class StaticShapeBakerTest {
+
+    private static final Dimension LEVEL = new Dimension(101, 50);
+    private static final double WIDTH_RATIO = 1.5;
+    private static final double HEIGHT_RATIO = 2;
+
+    private static StaticShapeBaker baker() {
+        return new StaticShapeBaker(LEVEL, List.of(
+                new StaticShape(1, new AABB(0, 0, 10, 10), new ColorDTO()),
+                new StaticShape(2, new AABB(20, 0, 30, 10), new ColorDTO())));
+    }
+
+    /**
+     * Tests that images cover the whole level at the given scale, rounded up
+     * to whole pixels.
+     */
+    @Test
+    void testImageSize() {
+        final StaticShapeBaker baker = baker();
+        assertEquals(LEVEL, baker.bounds());
+        assertEquals(LEVEL, baker.imageSize(1, 1));
+        assertEquals(new Dimension(152, 100), baker.imageSize(WIDTH_RATIO, HEIGHT_RATIO));
+    }
+
+    /**
+     * Tests that nothing is baked before the container is laid out.
+     */
+    @Test
+    void testNoImageWithoutScale() {
+        final StaticShapeBaker baker = baker();
+        assertTrue(baker.image(0, HEIGHT_RATIO).isEmpty());
+        assertTrue(baker.image(WIDTH_RATIO, -1).isEmpty());
+    }
+
+    /**
+     * Tests that shapes are held until taken out.
+     */
+    @Test
+    void testRemove() {
+        final StaticShapeBaker baker = baker();
+        assertTrue(baker.contains(1));
+        assertTrue(baker.remove(1));
+        assertFalse(baker.contains(1));
+        assertFalse(baker.remove(1));
+        assertTrue(baker.contains(2));
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.ColorDTO;
+import com.project.paradoxplatformer.utils.collision.api.AABB;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.StaticLayer;
+import com.project.paradoxplatformer.view.graphics.StaticShape;
+
+/**
+ * Unit tests for the CanvasStaticLayerAdapter class, verifying that the layer
+ * covers the whole level and that shapes are taken out of it.
+ */
+class CanvasStaticLayerAdapterTest {
+
+    private static final Dimension LEVEL = new Dimension(200, 100);
+    private static final int LAYER = 0;
+
+    /**
+     * Tests that the layer keeps the bounds of the level, whatever dimension
+     * it is given, and is only moved.
+     */
+    @Test
+    void testBounds() {
+        final CanvasStaticLayerAdapter layer = new CanvasStaticLayerAdapter(LEVEL, List.of(), LAYER);
+        assertEquals(StaticLayer.LAYER_ID, layer.getID());
+        assertEquals(LEVEL, layer.dimension());
+        assertEquals(Coord2D.origin(), layer.relativePosition());
+
+        layer.setDimension(1, 1);
+        assertEquals(LEVEL.width(), layer.scaledWidth());
+        assertEquals(LEVEL.height(), layer.scaledHeight());
+        layer.setPosition(-10, 0);
+        assertEquals(-10, layer.scaledX());
+    }
+
+    /**
+     * Tests that shapes are held until taken out.
+     */
+    @Test
+    void testRemove() {
+        final StaticShape shape = new StaticShape(1, new AABB(0, 0, 10, 10), new ColorDTO());
+        final CanvasStaticLayerAdapter layer = new CanvasStaticLayerAdapter(LEVEL, List.of(shape), LAYER);
+        assertTrue(layer.contains(1));
+        assertFalse(layer.contains(2));
+
+        assertTrue(layer.remove(1));
+        assertFalse(layer.remove(1));
+        assertFalse(layer.contains(1));
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.paradoxplatformer.view.javafx.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the RenderList class, verifying the drawing order by layer
+ * and batch, and removals.
+ */
+class RenderListTest {
+
+    private static final Object RED = "red";
+    private static final Object SHEET = "sheet";
+
+    private static List<String> drawn(final RenderList<String> list) {
+        final List<String> order = new ArrayList<>();
+        list.forEach(order::add);
+        return order;
+    }
+
+    /**
+     * Tests that items are drawn by layer, grouped by batch key in the order
+     * keys were first met, and otherwise in insertion order.
+     */
+    @Test
+    void testOrder() {
+        final RenderList<String> list = new RenderList<>();
+        list.add("player", 2, SHEET);
+        list.add("gem", 1, SHEET);
+        list.add("platform", 0, RED);
+        list.add("door", 1, "door");
+        list.add("gem2", 1, SHEET);
+        list.add("wall", 0, RED);
+
+        assertEquals(List.of("platform", "wall", "gem", "gem2", "door", "player"), drawn(list));
+    }
+
+    /**
+     * Tests that removed items are no longer drawn nor found.
+     */
+    @Test
+    void testRemove() {
+        final RenderList<String> list = new RenderList<>();
+        final String platform = "platform";
+        list.add(platform, 0, RED);
+        list.add("gem", 1, SHEET);
+
+        assertTrue(list.find(platform::equals).isPresent());
+        assertTrue(list.remove(platform));
+        assertFalse(list.remove(platform));
+        assertFalse(list.find(platform::equals).isPresent());
+        assertEquals(List.of("gem"), drawn(list));
+        assertEquals(1, list.size());
+    }
+}